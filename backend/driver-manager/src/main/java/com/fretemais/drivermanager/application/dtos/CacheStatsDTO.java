@@ -0,0 +1,21 @@
+package com.fretemais.drivermanager.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Estatísticas de uso de um cache da aplicação")
+public record CacheStatsDTO(
+        @Schema(description = "Requisições atendidas pelo cache, incluindo as que aguardaram uma carga em andamento", example = "1520")
+        long hits,
+        @Schema(description = "Requisições que consultaram o banco", example = "48")
+        long misses,
+        @Schema(description = "Entradas removidas por falta de espaço", example = "3")
+        long evictions,
+        @Schema(description = "Entradas removidas por escritas em motoristas", example = "12")
+        long invalidations,
+        @Schema(description = "Quantidade de entradas em cache", example = "20")
+        int size,
+        @Schema(description = "Peso atual: linhas no cache de listagem, bytes no cache de JSON", example = "220")
+        long weight,
+        @Schema(description = "Peso máximo configurado", example = "5000")
+        long maxWeight
+) {}
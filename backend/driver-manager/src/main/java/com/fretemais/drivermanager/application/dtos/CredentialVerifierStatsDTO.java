@@ -0,0 +1,25 @@
+package com.fretemais.drivermanager.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Estatísticas do executor dedicado à verificação de senhas do login")
+public record CredentialVerifierStatsDTO(
+        @Schema(description = "Senhas verificadas", example = "1200")
+        long verifications,
+        @Schema(description = "Logins recusados com 429 por fila cheia", example = "15")
+        long rejected,
+        @Schema(description = "Logins recusados com 503 por esperar além do tempo limite", example = "0")
+        long timedOut,
+        @Schema(description = "Tempo médio do hash, em milissegundos", example = "68.4")
+        double averageHashMillis,
+        @Schema(description = "Tempo médio entre a submissão e o resultado, incluindo a fila, em milissegundos", example = "91.2")
+        double averageLatencyMillis,
+        @Schema(description = "Verificações aguardando na fila", example = "3")
+        int queueDepth,
+        @Schema(description = "Tamanho máximo da fila", example = "32")
+        int queueCapacity,
+        @Schema(description = "Threads verificando senhas agora", example = "2")
+        int activeThreads,
+        @Schema(description = "Threads do executor", example = "2")
+        int threads
+) {}
@@ -0,0 +1,29 @@
+package com.fretemais.drivermanager.application.dtos;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+@Schema(description = "Critérios da exclusão em lote: IDs, filtros da listagem ou ambos (combinados com AND)")
+public record DriverBulkDeleteDTO(
+        @Size(max = 100_000, message = "No máximo 100000 IDs por requisição")
+        @Schema(description = "IDs dos motoristas a excluir")
+        List<UUID> ids,
+
+        @Schema(description = "Texto para busca (nome, e-mail, CPF ou CNH)")
+        String text,
+
+        @Schema(description = "Sigla do estado", example = "SP")
+        String state,
+
+        @Schema(description = "Nome da cidade", example = "Campinas")
+        String city,
+
+        @Schema(description = "Tipos de veículos")
+        List<VehicleType> vehicleTypes
+) {}
@@ -0,0 +1,9 @@
+package com.fretemais.drivermanager.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado da exclusão em lote de motoristas")
+public record DriverBulkDeleteResultDTO(
+        @Schema(description = "Motoristas excluídos", example = "10000")
+        long deleted
+) {}
@@ -0,0 +1,22 @@
+package com.fretemais.drivermanager.application.dtos;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+@Schema(description = "Contagens de motoristas por estado, tipo de veículo e disponibilidade para os filtros informados")
+public record DriverFacetsDTO(
+        @Schema(description = "Total de motoristas que atendem aos filtros", example = "128")
+        long total,
+        @Schema(description = "Quantidade por sigla de estado", example = "{\"SP\": 80, \"RJ\": 48}")
+        Map<String, Long> byState,
+        @Schema(description = "Quantidade por tipo de veículo; um motorista com vários veículos conta em cada um", example = "{\"CAR\": 90, \"TRUCK\": 40}")
+        Map<VehicleType, Long> byVehicleType,
+        @Schema(description = "Motoristas disponíveis", example = "100")
+        long available,
+        @Schema(description = "Motoristas indisponíveis", example = "28")
+        long unavailable
+) {}
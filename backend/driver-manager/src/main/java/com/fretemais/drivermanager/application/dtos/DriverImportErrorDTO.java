@@ -0,0 +1,13 @@
+package com.fretemais.drivermanager.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Linha do CSV que não foi importada e os motivos")
+public record DriverImportErrorDTO(
+        @Schema(description = "Linha do arquivo em que o registro começa (o cabeçalho é a linha 1)", example = "12")
+        long line,
+        @Schema(description = "Motivos da rejeição", example = "[\"CPF inválido\", \"Email já cadastrado\"]")
+        List<String> messages
+) {}
@@ -0,0 +1,17 @@
+package com.fretemais.drivermanager.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Resultado da importação em lote de motoristas")
+public record DriverImportReportDTO(
+        @Schema(description = "Registros lidos, sem contar o cabeçalho", example = "100000")
+        long total,
+        @Schema(description = "Motoristas gravados", example = "99980")
+        long imported,
+        @Schema(description = "Registros rejeitados", example = "20")
+        long failed,
+        @Schema(description = "Erros por linha; limitado às primeiras linhas rejeitadas quando há muitas")
+        List<DriverImportErrorDTO> errors
+) {}
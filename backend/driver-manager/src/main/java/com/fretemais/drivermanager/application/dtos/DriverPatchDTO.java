@@ -0,0 +1,51 @@
+package com.fretemais.drivermanager.application.dtos;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import org.hibernate.validator.constraints.br.CPF;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "Atualização parcial de um motorista: campos ausentes ou nulos mantêm o valor atual")
+public record DriverPatchDTO(
+        @Pattern(regexp = "(?s).*\\S.*", message = "O nome não pode ficar em branco")
+        @Schema(description = "Nome completo do motorista", example = "João da Silva")
+        String name,
+
+        @Email(message = "Formato de email inválido")
+        @Pattern(regexp = "(?s).*\\S.*", message = "O email não pode ficar em branco")
+        @Schema(description = "Endereço de e-mail do motorista", example = "joao.silva@email.com")
+        String email,
+
+        @Pattern(regexp = "(?s).*\\S.*", message = "O telefone não pode ficar em branco")
+        @Schema(description = "Número de telefone para contato", example = "(11) 98765-4321")
+        String phone,
+
+        @CPF(message = "CPF inválido")
+        @Schema(description = "CPF do motorista (apenas números ou formatado)", example = "123.456.789-00")
+        String cpf,
+
+        @Pattern(regexp = "(?s).*\\S.*", message = "A CNH não pode ficar em branco")
+        @Schema(description = "Número da Carteira Nacional de Habilitação", example = "12345678901")
+        String cnh,
+
+        @Pattern(regexp = "(?s).*\\S.*", message = "A cidade não pode ficar em branco")
+        @Schema(description = "Cidade de residência do motorista", example = "São Paulo")
+        String city,
+
+        @Pattern(regexp = "[A-Za-z]{2}", message = "A UF deve ter 2 letras (ex: SP)")
+        @Schema(description = "Sigla do estado (UF)", example = "SP")
+        String state,
+
+        @Size(min = 1, message = "Selecione pelo menos um tipo de veículo")
+        @Schema(description = "Lista de tipos de veículos que o motorista opera")
+        List<VehicleType> vehicleTypes,
+
+        @Schema(description = "Indica se o motorista está disponível", example = "false")
+        Boolean available
+) {}
@@ -29,5 +29,7 @@ public record DriverResponseDTO(
         @Schema(description = "Indica se o motorista está disponível no momento", example = "true")
         boolean available,
         @Schema(description = "Lista de tipos de veículos que o motorista opera")
-        List<VehicleType> vehicleTypes
+        List<VehicleType> vehicleTypes,
+        @Schema(description = "Versão do registro, também enviada no cabeçalho ETag", example = "3")
+        long version
 ) {}
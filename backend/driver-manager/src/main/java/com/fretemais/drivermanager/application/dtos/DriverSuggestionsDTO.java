@@ -0,0 +1,13 @@
+package com.fretemais.drivermanager.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Sugestões de nomes de motoristas e cidades para um prefixo")
+public record DriverSuggestionsDTO(
+        @Schema(description = "Nomes que começam pelo prefixo, ignorando acentos e maiúsculas", example = "[\"João Silva\", \"Joana Souza\"]")
+        List<String> names,
+        @Schema(description = "Cidades distintas que começam pelo prefixo, ignorando acentos e maiúsculas", example = "[\"São Paulo\", \"São José dos Campos\"]")
+        List<String> cities
+) {}
@@ -0,0 +1,17 @@
+package com.fretemais.drivermanager.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "Janela de motoristas obtida por paginação com cursor")
+public record DriverWindowDTO(
+        @Schema(description = "Motoristas da janela atual, ordenados por nome")
+        List<DriverSummaryDTO> content,
+        @Schema(description = "Cursor opaco para buscar a próxima janela; nulo quando não há mais resultados", example = "NTUwZTg0MDAtZTI5Yi00MWQ0LWE3MTYtNDQ2NjU1NDQwMDAwOkpvw6NvIGRhIFNpbHZh")
+        String nextCursor,
+        @Schema(description = "Indica se existe uma próxima janela", example = "true")
+        boolean hasNext
+) {}
@@ -0,0 +1,23 @@
+package com.fretemais.drivermanager.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Estatísticas de um cache de entidades por ID com admissão TinyLFU")
+public record EntityCacheStatsDTO(
+        @Schema(description = "Leituras atendidas pelo cache", example = "9500")
+        long hits,
+        @Schema(description = "Leituras que consultaram o banco", example = "500")
+        long misses,
+        @Schema(description = "Fração das leituras atendidas pelo cache", example = "0.95")
+        double hitRatio,
+        @Schema(description = "Entradas removidas para dar lugar a chaves mais frequentes", example = "40")
+        long evictions,
+        @Schema(description = "Chaves não admitidas por serem menos frequentes que a candidata a remoção", example = "300")
+        long rejections,
+        @Schema(description = "Entradas removidas por escritas em motoristas", example = "12")
+        long invalidations,
+        @Schema(description = "Quantidade de entradas em cache", example = "8000")
+        int size,
+        @Schema(description = "Quantidade máxima de entradas configurada", example = "10000")
+        int maxSize
+) {}
@@ -0,0 +1,23 @@
+package com.fretemais.drivermanager.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Estatísticas do filtro de Bloom que antecede a conferência de unicidade no banco")
+public record UniqueKeyFilterStatsDTO(
+        @Schema(description = "Escritas conferidas pelo filtro", example = "1000")
+        long checks,
+        @Schema(description = "Escritas em que o filtro garantiu ausência e a consulta ao banco foi evitada", example = "985")
+        long skipped,
+        @Schema(description = "Escritas enviadas ao banco que não tinham conflito", example = "10")
+        long falsePositives,
+        @Schema(description = "Fração das conferências que não consultou o banco", example = "0.985")
+        double skippedRatio,
+        @Schema(description = "Fração das escritas sem conflito que ainda consultou o banco", example = "0.0101")
+        double observedFalsePositiveRate,
+        @Schema(description = "Taxa de falso positivo esperada por chave para a ocupação atual", example = "0.0021")
+        double expectedFalsePositiveRate,
+        @Schema(description = "Chaves no filtro (nome, email, telefone, CPF e CNH de cada motorista)", example = "50000")
+        long keys,
+        @Schema(description = "Memória ocupada pelos contadores, em bytes", example = "299520")
+        long memoryBytes
+) {}
@@ -39,6 +39,7 @@ public class DriverMapper {
                 .state(driver.getState())
                 .available(driver.isAvailable())
                 .vehicleTypes(driver.getVehicleType())
+                .version(driver.getVersion())
                 .build();
     }
 
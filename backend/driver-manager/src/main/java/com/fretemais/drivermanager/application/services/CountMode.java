@@ -0,0 +1,16 @@
+package com.fretemais.drivermanager.application.services;
+
+/**
+ * Como a listagem paginada obtém o total de registros.
+ */
+public enum CountMode {
+
+    /** {@code count(*)} exato a cada página. */
+    EXACT,
+
+    /** Sem contagem: retorna um {@code Slice} que informa apenas se há próxima página. */
+    NONE,
+
+    /** Total recente em cache por combinação de filtros; pode divergir do valor real dentro do TTL. */
+    APPROXIMATE
+}
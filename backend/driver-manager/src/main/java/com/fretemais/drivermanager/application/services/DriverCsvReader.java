@@ -0,0 +1,93 @@
+package com.fretemais.drivermanager.application.services;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lê CSV (RFC 4180) um registro por vez: campos entre aspas podem conter vírgulas, aspas duplicadas e quebras de linha.
+ */
+final class DriverCsvReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader in;
+    private long line = 1;
+    private long recordLine;
+    private boolean started;
+
+    DriverCsvReader(InputStream input) {
+        this.in = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Próximo registro, ou {@code null} no fim do arquivo.
+     */
+    List<String> next() throws IOException {
+        int c = in.read();
+        if (!started) {
+            started = true;
+            if (c == BOM) c = in.read();
+        }
+        if (c < 0) return null;
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (c >= 0) {
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    int following = in.read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        in.reset();
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    in.mark(1);
+                    if (in.read() != '\n') in.reset();
+                }
+                line++;
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = in.read();
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Linha do arquivo em que começa o último registro lido.
+     */
+    long line() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,37 @@
+package com.fretemais.drivermanager.application.services;
+
+import com.fretemais.drivermanager.infrastructure.exceptions.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cursor opaco da paginação por keyset: Base64 (URL-safe) de {@code "<id>:<name>"},
+ * a última posição {@code (name, id)} vista.
+ */
+record DriverCursor(UUID id, String name) {
+
+    static final Sort SORT = Sort.by("name", "id");
+
+    private static final int UUID_LENGTH = 36;
+
+    String encode() {
+        String raw = id + ":" + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static DriverCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (raw.length() <= UUID_LENGTH || raw.charAt(UUID_LENGTH) != ':') throw new InvalidCursorException("Cursor inválido");
+
+            return new DriverCursor(UUID.fromString(raw.substring(0, UUID_LENGTH)), raw.substring(UUID_LENGTH + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Cursor inválido");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.fretemais.drivermanager.application.services;
+
+import com.fretemais.drivermanager.application.dtos.DriverSummaryDTO;
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+
+/**
+ * Escreve motoristas um a um no formato pedido, sem acumular linhas em memória.
+ */
+abstract class DriverExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final Writer out;
+
+    private DriverExportWriter(OutputStream out) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    static DriverExportWriter of(ExportFormat format, OutputStream out, ObjectMapper objectMapper) {
+        return switch (format) {
+            case NDJSON -> new Ndjson(out, objectMapper.writerFor(DriverSummaryDTO.class));
+            case CSV -> new Csv(out);
+        };
+    }
+
+    void start() throws IOException {
+    }
+
+    abstract void write(DriverSummaryDTO driver) throws IOException;
+
+    void finish() throws IOException {
+        out.flush();
+    }
+
+    private static final class Ndjson extends DriverExportWriter {
+
+        private final ObjectWriter writer;
+
+        Ndjson(OutputStream out, ObjectWriter writer) {
+            super(out);
+            this.writer = writer;
+        }
+
+        @Override
+        void write(DriverSummaryDTO driver) throws IOException {
+            out.write(writer.writeValueAsString(driver));
+            out.write('\n');
+        }
+    }
+
+    private static final class Csv extends DriverExportWriter {
+
+        Csv(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        void start() throws IOException {
+            out.write("id,name,phone,city,state,vehicleTypes,available\n");
+        }
+
+        @Override
+        void write(DriverSummaryDTO driver) throws IOException {
+            out.write(String.valueOf(driver.id()));
+            out.write(',');
+            field(driver.name());
+            out.write(',');
+            field(driver.phone());
+            out.write(',');
+            field(driver.city());
+            out.write(',');
+            field(driver.state());
+            out.write(',');
+            out.write(driver.vehicleTypes().stream().map(VehicleType::name).collect(Collectors.joining("|")));
+            out.write(',');
+            out.write(String.valueOf(driver.available()));
+            out.write('\n');
+        }
+
+        private void field(String value) throws IOException {
+            if (value == null) return;
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            out.write(value.replace("\"", "\"\""));
+            out.write('"');
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.fretemais.drivermanager.application.services;
+
+import com.fretemais.drivermanager.application.dtos.DriverImportErrorDTO;
+import com.fretemais.drivermanager.application.dtos.DriverImportReportDTO;
+import com.fretemais.drivermanager.application.dtos.DriverRequestDTO;
+import com.fretemais.drivermanager.application.mappers.DriverMapper;
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.model.Driver;
+import com.fretemais.drivermanager.infrastructure.exceptions.InvalidImportFileException;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverUniqueRow;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Importação de motoristas a partir de CSV, em blocos: valida cada bloco em paralelo, confere unicidade
+ * contra o próprio bloco e contra o banco com uma consulta por bloco e grava os aceitos em um batch JDBC.
+ * Blocos anteriores já estão gravados, então repetições entre blocos aparecem na consulta ao banco; nada do
+ * arquivo fica em memória além do bloco atual.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DriverImportService {
+
+    static final List<String> COLUMNS = List.of("name", "email", "phone", "cpf", "cnh", "city", "state", "vehicleTypes");
+
+    private final DriverRepository driverRepository;
+    private final DriverMapper driverMapper;
+    private final Validator validator;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${driver-import.chunk-size:1000}")
+    protected int chunkSize = 1000;
+
+    @Value("${driver-import.max-reported-errors:1000}")
+    protected int maxReportedErrors = 1000;
+
+    public DriverImportReportDTO importCsv(InputStream input) throws IOException {
+        Report report = new Report();
+        long start = System.nanoTime();
+
+        try (DriverCsvReader reader = new DriverCsvReader(input)) {
+            Map<String, Integer> header = header(reader.next());
+
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                if (fields.size() == 1 && fields.getFirst().isBlank()) continue;
+
+                chunk.add(parse(reader.line(), fields, header));
+                if (chunk.size() == chunkSize) {
+                    process(chunk, report);
+                    chunk.clear();
+                }
+            }
+            process(chunk, report);
+        } finally {
+            if (report.imported > 0) eventPublisher.publishEvent(new DriverCatalogChangedEvent(report.imported));
+        }
+
+        log.info("Importação concluída: {} lidos, {} gravados, {} rejeitados em {} ms",
+                report.total, report.imported, report.failed, (System.nanoTime() - start) / 1_000_000);
+        return new DriverImportReportDTO(report.total, report.imported, report.failed, report.errors);
+    }
+
+    private static Map<String, Integer> header(List<String> fields) {
+        if (fields == null) throw new InvalidImportFileException("Arquivo CSV vazio");
+
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            header.put(fields.get(i).strip(), i);
+        }
+        for (String column : COLUMNS) {
+            if (!header.containsKey(column)) {
+                throw new InvalidImportFileException("Coluna obrigatória ausente no cabeçalho: " + column);
+            }
+        }
+        return header;
+    }
+
+    private static Row parse(long line, List<String> fields, Map<String, Integer> header) {
+        Row row = new Row(line);
+        if (fields.size() != header.size()) {
+            row.errors.add("Esperadas " + header.size() + " colunas, encontradas " + fields.size());
+            return row;
+        }
+
+        List<VehicleType> vehicleTypes = new ArrayList<>();
+        String vehicles = value(fields, header, "vehicleTypes");
+        if (vehicles != null) {
+            for (String vehicle : vehicles.split("\\|")) {
+                if (vehicle.isBlank()) continue;
+                try {
+                    vehicleTypes.add(VehicleType.valueOf(vehicle.strip().toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException e) {
+                    row.errors.add("Tipo de veículo inválido: " + vehicle.strip());
+                }
+            }
+        }
+
+        row.dto = DriverRequestDTO.builder()
+                .name(value(fields, header, "name"))
+                .email(value(fields, header, "email"))
+                .phone(value(fields, header, "phone"))
+                .cpf(value(fields, header, "cpf"))
+                .cnh(value(fields, header, "cnh"))
+                .city(value(fields, header, "city"))
+                .state(value(fields, header, "state"))
+                .vehicleTypes(vehicleTypes)
+                .build();
+        return row;
+    }
+
+    private static String value(List<String> fields, Map<String, Integer> header, String column) {
+        String value = fields.get(header.get(column)).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private void process(List<Row> chunk, Report report) {
+        if (chunk.isEmpty()) return;
+
+        chunk.parallelStream()
+                .filter(row -> row.dto != null)
+                .forEach(row -> validator.validate(row.dto).stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .forEach(row.errors::add));
+
+        List<Row> candidates = chunk.stream().filter(row -> row.errors.isEmpty()).toList();
+        rejectTaken(candidates);
+
+        // Repetições dentro do bloco apontam para uma linha que já passou pelo banco e vai ao batch
+        Seen claimed = new Seen();
+        List<Row> valid = new ArrayList<>(candidates.size());
+        for (Row row : candidates) {
+            if (row.errors.isEmpty() && claimed.claim(row)) valid.add(row);
+        }
+        insert(valid);
+
+        report.total += chunk.size();
+        for (Row row : chunk) {
+            if (row.errors.isEmpty()) {
+                report.imported++;
+                continue;
+            }
+            report.failed++;
+            if (report.errors.size() < maxReportedErrors) {
+                report.errors.add(new DriverImportErrorDTO(row.line, List.copyOf(row.errors)));
+            }
+        }
+    }
+
+    private void rejectTaken(List<Row> rows) {
+        if (rows.isEmpty()) return;
+
+        List<DriverUniqueRow> taken = driverRepository.findTaken(
+                collect(rows, DriverRequestDTO::name), collect(rows, DriverRequestDTO::email),
+                collect(rows, DriverRequestDTO::phone), collect(rows, DriverRequestDTO::cpf),
+                collect(rows, DriverRequestDTO::cnh));
+        if (taken.isEmpty()) return;
+
+        Set<String> names = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> phones = new HashSet<>();
+        Set<String> cpfs = new HashSet<>();
+        Set<String> cnhs = new HashSet<>();
+        for (DriverUniqueRow row : taken) {
+            names.add(row.name());
+            emails.add(row.email());
+            phones.add(row.phoneNumber());
+            cpfs.add(row.cpf());
+            cnhs.add(row.cnh());
+        }
+
+        for (Row row : rows) {
+            if (emails.contains(row.dto.email())) row.errors.add("Email já cadastrado");
+            if (cpfs.contains(row.dto.cpf())) row.errors.add("CPF já cadastrado");
+            if (cnhs.contains(row.dto.cnh())) row.errors.add("CNH já cadastrada");
+            if (names.contains(row.dto.name())) row.errors.add("Nome já cadastrado");
+            if (phones.contains(row.dto.phone())) row.errors.add("Telefone já cadastrado");
+        }
+    }
+
+    /**
+     * Grava o bloco em um batch. Se o banco recusar o batch, por exemplo porque outra escrita gravou um dos valores
+     * entre a conferência e o batch, divide o bloco ao meio e tenta cada metade, até isolar as linhas recusadas:
+     * só elas são rejeitadas, com a mensagem da constraint única violada quando houver.
+     */
+    private void insert(List<Row> rows) {
+        if (rows.isEmpty()) return;
+
+        List<Driver> drivers = rows.stream().map(row -> driverMapper.toEntity(row.dto)).toList();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> driverRepository.insertAll(drivers));
+        } catch (DataIntegrityViolationException e) {
+            if (rows.size() == 1) {
+                Row row = rows.getFirst();
+                // Sem stack trace: um arquivo ruim não deve inundar o log
+                log.debug("Linha {} recusada pelo banco: {}", row.line, e.getMostSpecificCause().getMessage());
+                row.errors.add(UniqueField.of(e).map(UniqueField::message).orElse("Registro recusado pelo banco"));
+                return;
+            }
+            int half = rows.size() / 2;
+            insert(rows.subList(0, half));
+            insert(rows.subList(half, rows.size()));
+        }
+    }
+
+    private static List<String> collect(List<Row> rows, Function<DriverRequestDTO, String> field) {
+        return rows.stream().map(row -> field.apply(row.dto)).toList();
+    }
+
+    private static final class Row {
+
+        private final long line;
+        private final List<String> errors = new ArrayList<>(0);
+        private DriverRequestDTO dto;
+
+        Row(long line) {
+            this.line = line;
+        }
+    }
+
+    private static final class Report {
+
+        private long total;
+        private long imported;
+        private long failed;
+        private final List<DriverImportErrorDTO> errors = new ArrayList<>();
+    }
+
+    /**
+     * Valores únicos já aceitos no bloco atual, com a linha em que apareceram.
+     */
+    private static final class Seen {
+
+        private final Map<String, Long> names = new HashMap<>();
+        private final Map<String, Long> emails = new HashMap<>();
+        private final Map<String, Long> phones = new HashMap<>();
+        private final Map<String, Long> cpfs = new HashMap<>();
+        private final Map<String, Long> cnhs = new HashMap<>();
+
+        boolean claim(Row row) {
+            DriverRequestDTO dto = row.dto;
+            check(emails, dto.email(), row, "Email");
+            check(cpfs, dto.cpf(), row, "CPF");
+            check(cnhs, dto.cnh(), row, "CNH");
+            check(names, dto.name(), row, "Nome");
+            check(phones, dto.phone(), row, "Telefone");
+            if (!row.errors.isEmpty()) return false;
+
+            emails.put(dto.email(), row.line);
+            cpfs.put(dto.cpf(), row.line);
+            cnhs.put(dto.cnh(), row.line);
+            names.put(dto.name(), row.line);
+            phones.put(dto.phone(), row.line);
+            return true;
+        }
+
+        private static void check(Map<String, Long> claimed, String value, Row row, String label) {
+            Long line = StringUtils.hasText(value) ? claimed.get(value) : null;
+            if (line != null) row.errors.add(label + " repetido no arquivo (linha " + line + ")");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.fretemais.drivermanager.application.services;
+
+/**
+ * Corpo JSON pronto de {@code GET /api/drivers/{id}} e a versão do motorista que ele representa.
+ */
+public record DriverJson(long version, byte[] json) {
+}
@@ -1,24 +1,68 @@
 package com.fretemais.drivermanager.application.services;
 
+import com.fretemais.drivermanager.application.dtos.DriverFacetsDTO;
+import com.fretemais.drivermanager.application.dtos.DriverPatchDTO;
 import com.fretemais.drivermanager.application.dtos.DriverRequestDTO;
 import com.fretemais.drivermanager.application.dtos.DriverResponseDTO;
+import com.fretemais.drivermanager.application.dtos.DriverSuggestionsDTO;
 import com.fretemais.drivermanager.application.dtos.DriverSummaryDTO;
+import com.fretemais.drivermanager.application.dtos.DriverWindowDTO;
 import com.fretemais.drivermanager.application.mappers.DriverMapper;
 import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverSnapshot;
 import com.fretemais.drivermanager.domain.model.Driver;
+import com.fretemais.drivermanager.domain.model.TextNormalizer;
+import com.fretemais.drivermanager.infrastructure.cache.DriverEntityCache;
+import com.fretemais.drivermanager.infrastructure.cache.DriverJsonCache;
+import com.fretemais.drivermanager.infrastructure.cache.DriverListCache;
 import com.fretemais.drivermanager.infrastructure.exceptions.DuplicateResourceException;
+import com.fretemais.drivermanager.infrastructure.exceptions.MissingDeleteCriteriaException;
+import com.fretemais.drivermanager.infrastructure.exceptions.PreconditionFailedException;
 import com.fretemais.drivermanager.infrastructure.exceptions.ResourceNotFoundException;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverCountCache;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverFacetRow;
 import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
-
 import com.fretemais.drivermanager.infrastructure.persistence.DriverSpecification;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverUniqueRow;
+import com.fretemais.drivermanager.infrastructure.persistence.SearchMode;
+import com.fretemais.drivermanager.infrastructure.search.DriverBitmapIndex;
+import com.fretemais.drivermanager.infrastructure.search.DriverFacetCounter;
+import com.fretemais.drivermanager.infrastructure.search.DriverSuggestIndex;
+import com.fretemais.drivermanager.infrastructure.search.DriverTextIndex;
+import com.fretemais.drivermanager.infrastructure.search.DriverUniqueKeyFilter;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -26,69 +70,405 @@ public class DriverService {
 
     private final DriverRepository driverRepository;
     private final DriverMapper driverMapper;
+    private final DriverTextIndex driverTextIndex;
+    private final DriverCountCache driverCountCache;
+    private final DriverListCache driverListCache;
+    private final DriverEntityCache driverEntityCache;
+    private final DriverJsonCache driverJsonCache;
+    private final DriverFacetCounter driverFacetCounter;
+    private final DriverBitmapIndex driverBitmapIndex;
+    private final DriverSuggestIndex driverSuggestIndex;
+    private final DriverUniqueKeyFilter driverUniqueKeyFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    @Value("${search.mode:LIKE}")
+    private SearchMode searchMode = SearchMode.LIKE;
 
+    @Timed(value = "driver.service", extraTags = {"operation", "create"}, histogram = true)
     @Transactional
     public DriverResponseDTO create(DriverRequestDTO dto) {
-        if (driverRepository.existsByEmail(dto.email())) throw new DuplicateResourceException("Email já cadastrado");
-        if (driverRepository.existsByCpf(dto.cpf())) throw new DuplicateResourceException("CPF já cadastrado");
-        if (driverRepository.existsByCnh(dto.cnh())) throw new DuplicateResourceException("CNH já cadastrada");
+        checkUnique(null, dto.name(), dto.email(), dto.phone(), dto.cpf(), dto.cnh());
 
         Driver entity = driverMapper.toEntity(dto);
-        Driver saved = driverRepository.save(entity);
+        Driver saved = saveAndFlush(entity);
+        eventPublisher.publishEvent(DriverChangedEvent.created(saved));
         return driverMapper.toResponse(saved);
     }
 
-    @Transactional(readOnly = true)
+    @Timed(value = "driver.service", extraTags = {"operation", "list"}, histogram = true)
     public Page<DriverSummaryDTO> list (String text, String state, String city, List<VehicleType> vehicles,
                                          Pageable pageable){
 
-        var specification = DriverSpecification.filterBy(text, state, city, vehicles);
+        return driverListCache.get(DriverListCache.Key.of(CountMode.EXACT.name(), text, state, city, vehicles, pageable),
+                () -> specification(text, state, city, vehicles)
+                        .map(spec -> {
+                            OptionalLong total = indexedCount(text, state, city, vehicles);
+                            return total.isPresent()
+                                    ? driverRepository.findSummaries(spec, pageable, total::getAsLong)
+                                    : driverRepository.findSummaries(spec, pageable);
+                        })
+                        .orElseGet(() -> Page.empty(pageable)));
+    }
+
+    @Timed(value = "driver.service", extraTags = {"operation", "listSlice"}, histogram = true)
+    public Slice<DriverSummaryDTO> listSlice(String text, String state, String city, List<VehicleType> vehicles,
+                                             Pageable pageable) {
 
-        return driverRepository.findAll(specification, pageable)
-                .map(driverMapper::toSummary);
+        return driverListCache.get(DriverListCache.Key.of(CountMode.NONE.name(), text, state, city, vehicles, pageable),
+                () -> specification(text, state, city, vehicles)
+                        .map(spec -> driverRepository.findSummarySlice(spec, pageable))
+                        .orElseGet(() -> new SliceImpl<>(List.of(), pageable, false)));
+    }
+
+    @Timed(value = "driver.service", extraTags = {"operation", "listApproximate"}, histogram = true)
+    public Page<DriverSummaryDTO> listApproximate(String text, String state, String city, List<VehicleType> vehicles,
+                                                  Pageable pageable) {
+
+        return driverListCache.get(DriverListCache.Key.of(CountMode.APPROXIMATE.name(), text, state, city, vehicles, pageable),
+                () -> loadApproximate(text, state, city, vehicles, pageable));
+    }
+
+    private Page<DriverSummaryDTO> loadApproximate(String text, String state, String city, List<VehicleType> vehicles,
+                                                   Pageable pageable) {
+
+        Optional<Specification<Driver>> specification = specification(text, state, city, vehicles);
+        if (specification.isEmpty()) return Page.empty(pageable);
+
+        Specification<Driver> spec = specification.get();
+        Slice<DriverSummaryDTO> slice = driverRepository.findSummarySlice(spec, pageable);
+
+        CountKey key = new CountKey(text, state, city, vehicles == null ? Set.of() : Set.copyOf(vehicles));
+        return PageableExecutionUtils.getPage(slice.getContent(), pageable,
+                () -> driverCountCache.count(key, () -> driverRepository.count(spec)));
+    }
+
+    public DriverFacetsDTO facets(String text, String state, String city, List<VehicleType> vehicles) {
+        Optional<List<DriverFacetRow>> counted = StringUtils.hasText(text) || StringUtils.hasText(city)
+                ? Optional.empty()
+                : driverFacetCounter.rows(state, vehicles);
+
+        List<DriverFacetRow> rows = counted.orElseGet(() -> specification(text, state, city, vehicles)
+                .map(driverRepository::countFacets)
+                .orElseGet(List::of));
+
+        return toFacets(rows);
+    }
+
+    public DriverFacetsDTO recountFacets() {
+        driverFacetCounter.recount();
+        return facets(null, null, null, null);
+    }
+
+    private static DriverFacetsDTO toFacets(List<DriverFacetRow> rows) {
+        Map<String, Long> byState = new TreeMap<>();
+        Map<VehicleType, Long> byVehicleType = new EnumMap<>(VehicleType.class);
+        long total = 0;
+        long available = 0;
+
+        for (DriverFacetRow row : rows) {
+            total += row.count();
+            if (row.available()) available += row.count();
+            if (row.state() != null) byState.merge(row.state().toUpperCase(Locale.ROOT), row.count(), Long::sum);
+            for (VehicleType type : row.vehicleTypes()) {
+                byVehicleType.merge(type, row.count(), Long::sum);
+            }
+        }
+
+        return DriverFacetsDTO.builder()
+                .total(total)
+                .byState(byState)
+                .byVehicleType(byVehicleType)
+                .available(available)
+                .unavailable(total - available)
+                .build();
+    }
+
+    public DriverSuggestionsDTO suggest(String prefix, int limit) {
+        if (!StringUtils.hasText(prefix)) return new DriverSuggestionsDTO(List.of(), List.of());
+
+        List<String> names = driverSuggestIndex.names(prefix, limit)
+                .orElseGet(() -> driverRepository.findNamesByPrefix(escapeLike(TextNormalizer.fold(prefix.strip())), Limit.of(limit)));
+        // Não há coluna de cidade sem acentos para o banco responder "sao" com "São Paulo"; espera a trie
+        List<String> cities = driverSuggestIndex.cities(prefix, limit).orElse(List.of());
+
+        return new DriverSuggestionsDTO(names, cities);
+    }
+
+    @Transactional(readOnly = true)
+    public DriverWindowDTO scroll(String text, String state, String city, List<VehicleType> vehicles,
+                                  String cursor, int size) {
+        DriverCursor position = DriverCursor.decode(cursor);
+
+        Optional<Specification<Driver>> specification = specification(text, state, city, vehicles);
+        if (specification.isEmpty()) return new DriverWindowDTO(List.of(), null, false);
+
+        Specification<Driver> spec = position == null
+                ? specification.get()
+                : specification.get().and(DriverSpecification.isAfter(position.name(), position.id()));
+
+        List<DriverSummaryDTO> rows = driverRepository.findSummaries(spec, DriverCursor.SORT, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<DriverSummaryDTO> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            DriverSummaryDTO last = content.getLast();
+            nextCursor = new DriverCursor(last.id(), last.name()).encode();
+        }
+
+        return DriverWindowDTO.builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private Optional<Specification<Driver>> specification(String text, String state, String city,
+                                                          List<VehicleType> vehicles) {
+        Optional<Set<UUID>> textCandidates = driverTextIndex.search(text);
+        if (textCandidates.isPresent() && textCandidates.get().isEmpty()) return Optional.empty();
+
+        Specification<Driver> spec = DriverSpecification.filterBy(
+                textCandidates.isPresent() ? null : searchMode,
+                textCandidates.isPresent() ? null : text,
+                state,
+                city,
+                vehicles);
+
+        if (textCandidates.isPresent()) spec = spec.and(DriverSpecification.hasIds(textCandidates.get()));
+        return Optional.of(spec);
+    }
+
+    // O índice de bitmaps só dá o total da página; as linhas sempre vêm dos predicados SQL
+    private OptionalLong indexedCount(String text, String state, String city, List<VehicleType> vehicles) {
+        if (StringUtils.hasText(text) || StringUtils.hasText(city)) return OptionalLong.empty();
+        return driverBitmapIndex.count(states(state), vehicles, null);
+    }
+
+    private static List<String> states(String state) {
+        return StringUtils.hasText(state) ? List.of(state) : List.of();
     }
 
     @Transactional(readOnly = true)
+    public long export(String text, String state, String city, List<VehicleType> vehicles,
+                       ExportFormat format, OutputStream out) throws IOException {
+        DriverExportWriter writer = DriverExportWriter.of(format, out, objectMapper);
+        writer.start();
+
+        long rows = 0;
+        Optional<Specification<Driver>> specification = specification(text, state, city, vehicles);
+        if (specification.isPresent()) {
+            try (Stream<DriverSummaryDTO> drivers = driverRepository.streamSummaries(specification.get(), DriverCursor.SORT)) {
+                Iterator<DriverSummaryDTO> iterator = drivers.iterator();
+                while (iterator.hasNext()) {
+                    writer.write(iterator.next());
+                    rows++;
+                }
+            }
+        }
+
+        writer.finish();
+        return rows;
+    }
+
+    // Sem transação própria: um acerto no cache não abre transação nem pega conexão
+    @Timed(value = "driver.service", extraTags = {"operation", "getById"}, histogram = true)
     public DriverResponseDTO getById (UUID id){
-        Driver driver = driverRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Motorista não encontrado"));
+        return driverEntityCache.get(id, () -> driverRepository.findById(id)
+                .map(driverMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Motorista não encontrado")));
+    }
+
+    /**
+     * Mesmo conteúdo de {@link #getById}, já serializado; os bytes vêm do cache enquanto a versão não muda.
+     */
+    @Timed(value = "driver.service", extraTags = {"operation", "getById"}, histogram = true)
+    public DriverJson getJsonById(UUID id) {
+        return toJson(getById(id));
+    }
+
+    /**
+     * Como {@link #getJsonById(UUID)}, mas com a versão já lida do banco por {@link #getVersion}: se o cache de
+     * leitura, que é local, guarda outra versão, relê o motorista do banco para que corpo e ETag não fiquem atrás.
+     */
+    @Timed(value = "driver.service", extraTags = {"operation", "getById"}, histogram = true)
+    public DriverJson getJsonById(UUID id, long version) {
+        DriverResponseDTO driver = getById(id);
+        if (driver.version() != version) {
+            driverEntityCache.invalidate(id);
+            driver = getById(id);
+        }
+        return toJson(driver);
+    }
+
+    private DriverJson toJson(DriverResponseDTO driver) {
+        byte[] json = driverJsonCache.get(driver.id(), driver.version(), () -> objectMapper.writeValueAsBytes(driver));
+        return new DriverJson(driver.version(), json);
+    }
 
-        return driverMapper.toResponse(driver);
+    /**
+     * Versão atual do motorista por uma consulta só da versão; base do ETag para respostas 304. Não usa o cache de
+     * leitura, que é local e pode não ter visto uma escrita feita em outra instância.
+     */
+    public long getVersion(UUID id) {
+        return driverRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Motorista não encontrado"));
     }
 
+    @Timed(value = "driver.service", extraTags = {"operation", "deleteById"}, histogram = true)
     @Transactional
     public void deleteById (UUID id){
-        Driver driver = driverRepository.findById(id)
+        DriverSnapshot driver = driverRepository.findSnapshotById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Motorista não encontrado"));
 
-        driverRepository.delete(driver);
+        if (driverRepository.deleteRowById(id) == 0) throw new ResourceNotFoundException("Motorista não encontrado");
+        eventPublisher.publishEvent(DriverChangedEvent.deleted(driver));
+    }
+
+    /**
+     * Exclui com DELETE em massa os motoristas que atendem aos filtros e, se informados, estão entre os IDs
+     * (um comando por bloco de {@value #DELETE_CHUNK_SIZE} IDs). Exige IDs ou ao menos um filtro.
+     */
+    @Transactional
+    public long deleteAll(List<UUID> ids, String text, String state, String city, List<VehicleType> vehicles) {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        boolean hasFilter = StringUtils.hasText(text) || StringUtils.hasText(state) || StringUtils.hasText(city)
+                || (vehicles != null && !vehicles.isEmpty());
+        if (!hasIds && !hasFilter) {
+            throw new MissingDeleteCriteriaException("Informe IDs ou ao menos um filtro para excluir em lote");
+        }
+
+        Optional<Specification<Driver>> specification = specification(text, state, city, vehicles);
+        if (specification.isEmpty()) return 0;
+
+        long deleted = 0;
+        if (hasIds) {
+            List<UUID> distinct = ids.stream().distinct().toList();
+            for (int from = 0; from < distinct.size(); from += DELETE_CHUNK_SIZE) {
+                List<UUID> chunk = distinct.subList(from, Math.min(from + DELETE_CHUNK_SIZE, distinct.size()));
+                deleted += driverRepository.delete(
+                        DriverSpecification.forDelete(specification.get().and(DriverSpecification.hasIds(chunk))));
+            }
+        } else {
+            deleted = driverRepository.delete(DriverSpecification.forDelete(specification.get()));
+        }
+
+        if (deleted > 0) eventPublisher.publishEvent(new DriverCatalogChangedEvent(deleted));
+        return deleted;
+    }
+
+    @Timed(value = "driver.service", extraTags = {"operation", "updateById"}, histogram = true)
+    @Transactional
+    public DriverResponseDTO updateById (UUID id, DriverRequestDTO newDriver, Long expectedVersion){
+        Driver driver = findForUpdate(id, expectedVersion);
+
+        return apply(driver, newDriver.name(), newDriver.email(), newDriver.phone(), newDriver.cpf(), newDriver.cnh(),
+                newDriver.city(), newDriver.state(), newDriver.vehicleTypes(), null);
     }
 
+    @Timed(value = "driver.service", extraTags = {"operation", "patchById"}, histogram = true)
     @Transactional
-    public DriverResponseDTO updateById (UUID id, DriverRequestDTO newDriver){
+    public DriverResponseDTO patchById(UUID id, DriverPatchDTO patch, Long expectedVersion) {
+        Driver driver = findForUpdate(id, expectedVersion);
+
+        return apply(driver, patch.name(), patch.email(), patch.phone(), patch.cpf(), patch.cnh(),
+                patch.city(), patch.state(), patch.vehicleTypes(), patch.available());
+    }
+
+    // expectedVersion vem do If-Match; nulo dispensa a conferência. Uma escrita concorrente depois desta leitura
+    // ainda é barrada pelo @Version no UPDATE.
+    private Driver findForUpdate(UUID id, Long expectedVersion) {
         Driver driver = driverRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Motorista não encontrado"));
+        if (expectedVersion != null && driver.getVersion() != expectedVersion) {
+            throw new PreconditionFailedException("O motorista foi alterado por outra requisição");
+        }
+        return driver;
+    }
 
-        if (!driver.getEmail().equals(newDriver.email()) && driverRepository.existsByEmail(newDriver.email()))
-            throw new DuplicateResourceException("Email já cadastrado");
+    // Nulo mantém o valor atual. Só campos que mudam são atribuídos, então o dirty checking com
+    // @DynamicUpdate gera um UPDATE apenas das colunas alteradas, e nenhum quando nada muda.
+    private DriverResponseDTO apply(Driver driver, String name, String email, String phone, String cpf, String cnh,
+                                    String city, String state, List<VehicleType> vehicles, Boolean available) {
+        String newName = changed(driver.getName(), name);
+        String newEmail = changed(driver.getEmail(), email);
+        String newPhone = changed(driver.getPhoneNumber(), phone);
+        String newCpf = changed(driver.getCpf(), cpf);
+        String newCnh = changed(driver.getCnh(), cnh);
+        checkUnique(driver.getId(), newName, newEmail, newPhone, newCpf, newCnh);
 
-        if (!driver.getCpf().equals(newDriver.cpf()) && driverRepository.existsByCpf(newDriver.cpf()))
-            throw new DuplicateResourceException("CPF já cadastrado");
+        DriverSnapshot before = DriverSnapshot.of(driver);
+        if (newName != null) driver.setName(newName);
+        if (newEmail != null) driver.setEmail(newEmail);
+        if (newPhone != null) driver.setPhoneNumber(newPhone);
+        if (newCpf != null) driver.setCpf(newCpf);
+        if (newCnh != null) driver.setCnh(newCnh);
+        if (changed(driver.getCity(), city) != null) driver.setCity(city);
+        if (changed(driver.getState(), state) != null) driver.setState(state);
+        if (vehicles != null && !sameVehicles(driver.getVehicleType(), vehicles)) driver.setVehicleType(List.copyOf(vehicles));
+        if (available != null) driver.setAvailable(available);
 
-        if (!driver.getCnh().equals(newDriver.cnh()) && driverRepository.existsByCnh(newDriver.cnh()))
-            throw new DuplicateResourceException("CNH já cadastrada");
+        if (DriverSnapshot.of(driver).equals(before)) return driverMapper.toResponse(driver);
 
-        driver.setName(newDriver.name());
+        Driver updated = saveAndFlush(driver);
+        eventPublisher.publishEvent(DriverChangedEvent.updated(before, updated));
+        return driverMapper.toResponse(updated);
+    }
 
-        driver.setEmail(newDriver.email());
-        driver.setPhoneNumber(newDriver.phone());
-        driver.setCpf(newDriver.cpf());
-        driver.setCnh(newDriver.cnh());
-        driver.setCity(newDriver.city());
-        driver.setState(newDriver.state());
-        driver.setVehicleType(newDriver.vehicleTypes());
+    // Uma consulta para os campos únicos informados (nulo = sem mudança); a linha do próprio motorista não conta.
+    // Se o filtro de Bloom garante que nenhum valor novo existe, a consulta é dispensada.
+    private void checkUnique(UUID id, String name, String email, String phone, String cpf, String cnh) {
+        if (name == null && email == null && phone == null && cpf == null && cnh == null) return;
+        if (!driverUniqueKeyFilter.mayBeTaken(name, email, phone, cpf, cnh)) return;
 
-        Driver updated = driverRepository.save(driver);
-        return driverMapper.toResponse(updated);
+        List<DriverUniqueRow> taken = driverRepository.findTaken(valueOf(name), valueOf(email),
+                valueOf(phone), valueOf(cpf), valueOf(cnh));
+
+        EnumSet<UniqueField> conflicts = EnumSet.noneOf(UniqueField.class);
+        for (DriverUniqueRow row : taken) {
+            if (row.id().equals(id)) continue;
+            if (email != null && email.equals(row.email())) conflicts.add(UniqueField.EMAIL);
+            if (cpf != null && cpf.equals(row.cpf())) conflicts.add(UniqueField.CPF);
+            if (cnh != null && cnh.equals(row.cnh())) conflicts.add(UniqueField.CNH);
+            if (name != null && name.equals(row.name())) conflicts.add(UniqueField.NAME);
+            if (phone != null && phone.equals(row.phoneNumber())) conflicts.add(UniqueField.PHONE);
+        }
+        if (conflicts.isEmpty()) driverUniqueKeyFilter.recordFalsePositive();
+        else throw new DuplicateResourceException(conflicts.iterator().next().message());
+    }
+
+    private static String changed(String current, String value) {
+        return value == null || value.equals(current) ? null : value;
+    }
+
+    private static List<String> valueOf(String value) {
+        return value == null ? List.of() : List.of(value);
+    }
+
+    // A coluna é uma bitmask: a ordem da lista não importa
+    private static boolean sameVehicles(List<VehicleType> current, List<VehicleType> vehicles) {
+        return current != null && Set.copyOf(current).equals(Set.copyOf(vehicles));
+    }
+
+    // "50%" ou "a_b" digitados no campo são texto, não curingas do LIKE
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    // As constraints únicas seguem como garantia contra escritas concorrentes entre a consulta e o flush
+    private Driver saveAndFlush(Driver driver) {
+        try {
+            Driver saved = driverRepository.save(driver);
+            driverRepository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueField.of(e).map(field -> new DuplicateResourceException(field.message())).orElseThrow(() -> e);
+        }
+    }
+
+    private record CountKey(String text, String state, String city, Set<VehicleType> vehicles) {
     }
 }
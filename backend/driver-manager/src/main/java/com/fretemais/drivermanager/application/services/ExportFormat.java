@@ -0,0 +1,29 @@
+package com.fretemais.drivermanager.application.services;
+
+/**
+ * Formato da exportação em streaming do catálogo de motoristas.
+ */
+public enum ExportFormat {
+
+    /** Um objeto JSON por linha. */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /** CSV com cabeçalho; tipos de veículo separados por {@code |}. */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,50 @@
+package com.fretemais.drivermanager.application.services;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Campos únicos de Driver na ordem em que o conflito é reportado.
+ */
+enum UniqueField {
+    EMAIL("email", "Email já cadastrado"),
+    CPF("cpf", "CPF já cadastrado"),
+    CNH("cnh", "CNH já cadastrada"),
+    NAME("name", "Nome já cadastrado"),
+    PHONE("phone_number", "Telefone já cadastrado");
+
+    // H2: "... ON PUBLIC.DRIVERS(EMAIL NULLS FIRST) ..."; PostgreSQL: "Detail: Key (email)=(...)"
+    private static final Pattern VIOLATED_COLUMN =
+            Pattern.compile("\\((email|cpf|cnh|name|phone_number)\\b", Pattern.CASE_INSENSITIVE);
+
+    private final String column;
+    private final String message;
+
+    UniqueField(String column, String message) {
+        this.column = column;
+        this.message = message;
+    }
+
+    String message() {
+        return message;
+    }
+
+    /**
+     * Campo cuja constraint única foi violada; vazio para outras violações (NOT NULL, tamanho, chave estrangeira).
+     */
+    static Optional<UniqueField> of(DataIntegrityViolationException e) {
+        String detail = e.getMostSpecificCause().getMessage();
+        if (detail == null) return Optional.empty();
+
+        Matcher matcher = VIOLATED_COLUMN.matcher(detail);
+        if (!matcher.find()) return Optional.empty();
+
+        String column = matcher.group(1).toLowerCase(Locale.ROOT);
+        return Arrays.stream(values()).filter(field -> field.column.equals(column)).findFirst();
+    }
+}
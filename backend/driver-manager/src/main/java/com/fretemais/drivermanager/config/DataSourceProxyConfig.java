@@ -0,0 +1,43 @@
+package com.fretemais.drivermanager.config;
+
+import com.fretemais.drivermanager.infrastructure.persistence.SqlStatementCounter;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Envolve o DataSource com o datasource-proxy para que o {@link SqlStatementCounter} veja cada comando.
+ * Contar linhas exige um proxy em cada ResultSet e uma chamada por {@code next()}; por isso só é ligado com
+ * {@code jdbc.request-stats.count-rows=true}. Com {@code jdbc.request-stats.enabled=false} (padrão em produção)
+ * o pool é usado direto, sem proxy.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jdbc.request-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<SqlStatementCounter> counter,
+                                                                 Environment environment) {
+        boolean countRows = environment.getProperty("jdbc.request-stats.count-rows", Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) return bean;
+
+                SqlStatementCounter listener = counter.getObject();
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener);
+                if (countRows) builder.methodListener(listener).proxyResultSet();
+                return builder.build();
+            }
+        };
+    }
+}
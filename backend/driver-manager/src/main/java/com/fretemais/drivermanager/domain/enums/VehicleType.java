@@ -4,7 +4,17 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Tipo de veículo operado pelo motorista")
 public enum VehicleType {
-    CAR,
-    MOTORCYCLE,
-    TRUCK
+    CAR(1),
+    MOTORCYCLE(2),
+    TRUCK(4);
+
+    private final int bit;
+
+    VehicleType(int bit) {
+        this.bit = bit;
+    }
+
+    public int bit() {
+        return bit;
+    }
 }
@@ -0,0 +1,8 @@
+package com.fretemais.drivermanager.domain.events;
+
+/**
+ * Publicado após escritas em lote. Em vez de aplicar uma mudança por motorista,
+ * caches e índices em memória se descartam ou se reconstroem a partir do banco.
+ */
+public record DriverCatalogChangedEvent(long affected) {
+}
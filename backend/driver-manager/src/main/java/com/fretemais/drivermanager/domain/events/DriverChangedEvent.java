@@ -0,0 +1,32 @@
+package com.fretemais.drivermanager.domain.events;
+
+import com.fretemais.drivermanager.domain.model.Driver;
+
+import java.util.UUID;
+
+/**
+ * Publicado pelo DriverService a cada escrita. {@code before} é nulo na criação
+ * e {@code after} é nulo na exclusão.
+ */
+public record DriverChangedEvent(UUID id, DriverSnapshot before, DriverSnapshot after) {
+
+    public static DriverChangedEvent created(Driver driver) {
+        return new DriverChangedEvent(driver.getId(), null, DriverSnapshot.of(driver));
+    }
+
+    public static DriverChangedEvent updated(DriverSnapshot before, Driver driver) {
+        return new DriverChangedEvent(driver.getId(), before, DriverSnapshot.of(driver));
+    }
+
+    public static DriverChangedEvent deleted(Driver driver) {
+        return deleted(DriverSnapshot.of(driver));
+    }
+
+    public static DriverChangedEvent deleted(DriverSnapshot driver) {
+        return new DriverChangedEvent(driver.id(), driver, null);
+    }
+
+    public boolean isDeletion() {
+        return after == null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.fretemais.drivermanager.domain.events;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.model.Driver;
+
+import java.util.List;
+import java.util.UUID;
+
+public record DriverSnapshot(
+        UUID id,
+        String name,
+        String email,
+        String phoneNumber,
+        String cpf,
+        String cnh,
+        String city,
+        String state,
+        boolean available,
+        List<VehicleType> vehicleTypes
+) {
+
+    public static DriverSnapshot of(Driver driver) {
+        return new DriverSnapshot(
+                driver.getId(),
+                driver.getName(),
+                driver.getEmail(),
+                driver.getPhoneNumber(),
+                driver.getCpf(),
+                driver.getCnh(),
+                driver.getCity(),
+                driver.getState(),
+                driver.isAvailable(),
+                driver.getVehicleType() == null ? List.of() : List.copyOf(driver.getVehicleType())
+        );
+    }
+}
@@ -3,6 +3,7 @@ package com.fretemais.drivermanager.domain.model;
 import com.fretemais.drivermanager.domain.enums.VehicleType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.validator.constraints.br.CPF;
 
 import java.util.List;
@@ -12,6 +13,7 @@ import java.util.UUID;
 @Setter
 @Entity
 @Builder
+@DynamicUpdate
 @Table(name = "drivers")
 @AllArgsConstructor
 @NoArgsConstructor
@@ -24,11 +26,8 @@ public class Driver {
     @Column(unique = true)
     private String name;
 
-    @Enumerated(EnumType.STRING)
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "driver_vehicle_types",
-            joinColumns =
-    @JoinColumn(name = "driver_id"))
+    @Convert(converter = VehicleTypesConverter.class)
+    @Column(name = "vehicle_types", nullable = false)
     private List<VehicleType> vehicleType;
 
     @CPF
@@ -43,4 +42,16 @@ public class Driver {
     private boolean available;
     private String city;
     private String state;
+
+    @Version
+    private long version;
+
+    @Column(name = "search_document", length = 1280)
+    private String searchDocument;
+
+    @PrePersist
+    @PreUpdate
+    void refreshSearchDocument() {
+        this.searchDocument = TextNormalizer.searchDocument(name, email, cpf, cnh, phoneNumber);
+    }
 }
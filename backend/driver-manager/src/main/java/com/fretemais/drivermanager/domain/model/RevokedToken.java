@@ -0,0 +1,21 @@
+package com.fretemais.drivermanager.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Entity
+@Table(name = "revoked_tokens")
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevokedToken {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -0,0 +1,32 @@
+package com.fretemais.drivermanager.domain.model;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public final class TextNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final String DOCUMENT_SEPARATOR = "|";
+
+    private TextNormalizer() {
+    }
+
+    public static String fold(String value) {
+        if (value == null) return null;
+
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    // Precisa produzir o mesmo texto que lower(unaccent(concat_ws('|', ...))) da migração V2
+    public static String searchDocument(String... fields) {
+        return Stream.of(fields)
+                .filter(Objects::nonNull)
+                .map(TextNormalizer::fold)
+                .collect(Collectors.joining(DOCUMENT_SEPARATOR));
+    }
+}
@@ -0,0 +1,55 @@
+package com.fretemais.drivermanager.domain.model;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Converte os tipos de veículo do motorista para a coluna {@code vehicle_types}, um bitmask de {@link VehicleType#bit()}.
+ * As listas lidas do banco são imutáveis e compartilhadas por máscara, na ordem do enum.
+ */
+@Converter
+public class VehicleTypesConverter implements AttributeConverter<List<VehicleType>, Integer> {
+
+    private static final VehicleType[] TYPES = VehicleType.values();
+    private static final List<List<VehicleType>> BY_MASK = buildLists();
+
+    @Override
+    public Integer convertToDatabaseColumn(List<VehicleType> vehicleTypes) {
+        return mask(vehicleTypes);
+    }
+
+    @Override
+    public List<VehicleType> convertToEntityAttribute(Integer mask) {
+        if (mask == null) return List.of();
+        return BY_MASK.get(mask & (BY_MASK.size() - 1));
+    }
+
+    public static int mask(Collection<VehicleType> vehicleTypes) {
+        int mask = 0;
+        if (vehicleTypes == null) return mask;
+
+        for (VehicleType type : vehicleTypes) {
+            mask |= type.bit();
+        }
+        return mask;
+    }
+
+    private static List<List<VehicleType>> buildLists() {
+        int combinations = 1 << TYPES.length;
+        List<List<VehicleType>> lists = new ArrayList<>(combinations);
+        for (int mask = 0; mask < combinations; mask++) {
+            EnumSet<VehicleType> types = EnumSet.noneOf(VehicleType.class);
+            for (VehicleType type : TYPES) {
+                if ((mask & type.bit()) != 0) types.add(type);
+            }
+            lists.add(List.copyOf(types));
+        }
+        return List.copyOf(lists);
+    }
+}
@@ -0,0 +1,48 @@
+package com.fretemais.drivermanager.infrastructure.cache;
+
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versão do catálogo de motoristas, incrementada após o commit de cada escrita. O prefixo muda a cada
+ * inicialização para que versões de uma execução anterior nunca coincidam com as atuais.
+ * Leia a versão antes de consultar o banco: assim um resultado nunca é rotulado com uma versão mais nova.
+ * Os listeners rodam por último, depois que {@link DriverListCache} já descartou as páginas afetadas.
+ * <p>
+ * O contador só vê as escritas desta instância. Por isso a versão inclui também a janela de tempo atual, do
+ * tamanho do TTL do cache de listagens: uma escrita feita em outra instância deixa de receber 304 no máximo
+ * ao fim da janela, o mesmo atraso que o cache de listagens já tem.
+ */
+@Component
+public class DriverCatalogVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+
+    @Value("${cache.driver-list.ttl:30s}")
+    protected Duration window = Duration.ofSeconds(30);
+
+    public String current() {
+        return epoch + "." + version.get() + "." + Long.toString(System.currentTimeMillis() / window.toMillis(), 36);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDriverChanged(DriverChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(DriverCatalogChangedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,199 @@
+package com.fretemais.drivermanager.infrastructure.cache;
+
+import com.fretemais.drivermanager.application.dtos.DriverResponseDTO;
+import com.fretemais.drivermanager.application.dtos.EntityCacheStatsDTO;
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache de leitura de motoristas por ID, com o mesmo conteúdo de {@code GET /api/drivers/{id}}.
+ * Guarda o DTO imutável, nunca a entidade gerenciada. Cheio, só admite uma chave nova se ela for pedida com
+ * mais frequência que a menos recente (TinyLFU), estimada por um {@link FrequencySketch}; assim uma
+ * varredura de IDs vistos uma única vez não expulsa os motoristas consultados o tempo todo.
+ * As entradas ficam em segmentos LRU, cada um com o próprio lock e uma fração da capacidade, e o sketch é
+ * atualizado fora deles; leituras de motoristas diferentes raramente disputam o mesmo lock.
+ * Escritas confirmadas removem o motorista; escritas em lote esvaziam o cache.
+ */
+@Component
+public class DriverEntityCache {
+
+    @Value("${cache.driver-entity.enabled:true}")
+    protected boolean enabled = true;
+
+    @Value("${cache.driver-entity.max-size:10000}")
+    protected int maxSize = 10_000;
+
+    @Value("${cache.driver-entity.ttl:10m}")
+    protected Duration ttl = Duration.ofMinutes(10);
+
+    private static final int MAX_SEGMENTS = 16;
+    // Abaixo disso um segmento só: frações pequenas demais distorcem a escolha da vítima
+    private static final int MIN_SEGMENT_SIZE = 256;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Segment[] segments;
+    private volatile FrequencySketch sketch;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public DriverResponseDTO get(UUID id, Supplier<DriverResponseDTO> loader) {
+        if (!enabled) return loader.get();
+
+        DriverResponseDTO cached = lookup(id);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long startedAt = generation.get();
+        DriverResponseDTO value = loader.get();
+        store(id, value, startedAt);
+        return value;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDriverChanged(DriverChangedEvent event) {
+        if (!enabled) return;
+
+        invalidate(event.id());
+    }
+
+    /**
+     * Remove o motorista, por exemplo quando o banco mostra uma versão que este cache não viu.
+     */
+    public void invalidate(UUID id) {
+        generation.incrementAndGet();
+        Segment segment = segmentFor(id);
+        synchronized (segment) {
+            if (segment.remove(id) != null) invalidations.increment();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(DriverCatalogChangedEvent event) {
+        if (!enabled) return;
+
+        clear();
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        for (Segment segment : segments()) {
+            synchronized (segment) {
+                invalidations.add(segment.size());
+                segment.clear();
+            }
+        }
+    }
+
+    public EntityCacheStatsDTO stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        int size = 0;
+        for (Segment segment : segments()) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return new EntityCacheStatsDTO(hitCount, missCount, requests == 0 ? 0 : (double) hitCount / requests,
+                evictions.sum(), rejections.sum(), invalidations.sum(), size, maxSize);
+    }
+
+    private DriverResponseDTO lookup(UUID id) {
+        sketch().increment(id);
+
+        Segment segment = segmentFor(id);
+        synchronized (segment) {
+            Entry entry = segment.get(id);
+            if (entry == null) return null;
+            if (System.nanoTime() - entry.expiresAt() < 0) return entry.value();
+
+            segment.remove(id);
+            return null;
+        }
+    }
+
+    private void store(UUID id, DriverResponseDTO value, long startedAt) {
+        Entry entry = new Entry(value, System.nanoTime() + ttl.toNanos());
+        Segment segment = segmentFor(id);
+        synchronized (segment) {
+            // Uma escrita confirmada durante a leitura pode ter tornado o valor obsoleto; a invalidação avança a
+            // geração antes de pegar o lock do segmento, então ou esta conferência a vê ou a remoção vem depois
+            if (generation.get() != startedAt) return;
+
+            if (segment.size() >= segment.capacity && !segment.containsKey(id)) {
+                UUID victim = segment.keySet().iterator().next();
+                if (sketch().frequency(id) <= sketch().frequency(victim)) {
+                    rejections.increment();
+                    return;
+                }
+                segment.remove(victim);
+                evictions.increment();
+            }
+            segment.put(id, entry);
+        }
+    }
+
+    private Segment segmentFor(UUID id) {
+        Segment[] current = segments();
+        int hash = id.hashCode();
+        return current[(hash ^ (hash >>> 16)) & (current.length - 1)];
+    }
+
+    private Segment[] segments() {
+        Segment[] current = segments;
+        if (current != null) return current;
+
+        synchronized (this) {
+            if (segments == null) {
+                int count = Integer.highestOneBit(Math.clamp(maxSize / MIN_SEGMENT_SIZE, 1, MAX_SEGMENTS));
+                Segment[] created = new Segment[count];
+                for (int i = 0; i < count; i++) {
+                    created[i] = new Segment((maxSize + count - 1) / count);
+                }
+                segments = created;
+            }
+            return segments;
+        }
+    }
+
+    private FrequencySketch sketch() {
+        FrequencySketch current = sketch;
+        if (current != null) return current;
+
+        synchronized (this) {
+            if (sketch == null) sketch = new FrequencySketch(maxSize);
+            return sketch;
+        }
+    }
+
+    // LinkedHashMap em ordem de acesso; guardado pelo próprio monitor
+    private static final class Segment extends LinkedHashMap<UUID, Entry> {
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(64, 0.75f, true);
+            this.capacity = capacity;
+        }
+    }
+
+    private record Entry(DriverResponseDTO value, long expiresAt) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.fretemais.drivermanager.infrastructure.cache;
+
+import com.fretemais.drivermanager.application.dtos.CacheStatsDTO;
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * JSON já serializado de {@code GET /api/drivers/{id}} por motorista e versão, escrito direto na resposta sem
+ * passar pelo Jackson. Limitado pelo total de bytes (LRU). Como a versão faz parte da chave, bytes de uma
+ * versão anterior nunca são servidos; escritas confirmadas ainda removem a entrada para liberar memória.
+ */
+@Component
+public class DriverJsonCache {
+
+    @Value("${cache.driver-json.enabled:true}")
+    protected boolean enabled = true;
+
+    @Value("${cache.driver-json.max-size:16MB}")
+    protected DataSize maxSize = DataSize.ofMegabytes(16);
+
+    private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public byte[] get(UUID id, long version, Supplier<byte[]> serializer) {
+        if (!enabled) return serializer.get();
+
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry != null && entry.version() == version) {
+                hits.increment();
+                return entry.json();
+            }
+        }
+
+        misses.increment();
+        byte[] json = serializer.get();
+        store(id, new Entry(version, json));
+        return json;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDriverChanged(DriverChangedEvent event) {
+        if (!enabled) return;
+
+        synchronized (entries) {
+            Entry removed = entries.remove(event.id());
+            if (removed == null) return;
+
+            bytes -= removed.json().length;
+            invalidations.increment();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(DriverCatalogChangedEvent event) {
+        if (!enabled) return;
+
+        clear();
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            invalidations.add(entries.size());
+            entries.clear();
+            bytes = 0;
+        }
+    }
+
+    public CacheStatsDTO stats() {
+        synchronized (entries) {
+            return new CacheStatsDTO(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(),
+                    entries.size(), bytes, maxSize.toBytes());
+        }
+    }
+
+    private void store(UUID id, Entry entry) {
+        long max = maxSize.toBytes();
+        if (entry.json().length > max) return;
+
+        synchronized (entries) {
+            Entry previous = entries.get(id);
+            // Uma leitura mais lenta não substitui bytes de uma versão mais nova
+            if (previous != null && previous.version() > entry.version()) return;
+
+            entries.put(id, entry);
+            bytes += entry.json().length - (previous == null ? 0 : previous.json().length);
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (bytes > max && eldest.hasNext()) {
+                bytes -= eldest.next().json().length;
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private record Entry(long version, byte[] json) {
+    }
+}
@@ -0,0 +1,208 @@
+package com.fretemais.drivermanager.infrastructure.cache;
+
+import com.fretemais.drivermanager.application.dtos.CacheStatsDTO;
+import com.fretemais.drivermanager.application.dtos.DriverSummaryDTO;
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverSnapshot;
+import com.fretemais.drivermanager.domain.model.VehicleTypesConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Cache das páginas de listagem por combinação normalizada de filtros e paginação.
+ * Limitado pelo total de linhas armazenadas (LRU), com TTL e carga única por chave: requisições
+ * concorrentes para a mesma chave esperam a consulta em andamento em vez de repeti-la.
+ * Escritas removem apenas as entradas cujos filtros aceitam o motorista antes ou depois da mudança.
+ */
+@Component
+public class DriverListCache {
+
+    @Value("${cache.driver-list.enabled:true}")
+    protected boolean enabled = true;
+
+    @Value("${cache.driver-list.ttl:30s}")
+    protected Duration ttl = Duration.ofSeconds(30);
+
+    @Value("${cache.driver-list.max-weight:5000}")
+    protected long maxWeight = 5000;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<Key, CompletableFuture<Slice<DriverSummaryDTO>>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private long weight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public <T extends Slice<DriverSummaryDTO>> T get(Key key, Supplier<T> loader) {
+        if (!enabled) return loader.get();
+
+        Slice<DriverSummaryDTO> cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            return (T) cached;
+        }
+
+        CompletableFuture<Slice<DriverSummaryDTO>> future = new CompletableFuture<>();
+        CompletableFuture<Slice<DriverSummaryDTO>> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            hits.increment();
+            return (T) await(inFlight);
+        }
+
+        try {
+            misses.increment();
+            long startedAt = generation.get();
+            T value = loader.get();
+            store(key, value, startedAt);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    // Invalida antes de DriverCatalogVersion incrementar a versão; senão uma leitura entre os dois
+    // listeners pegaria a página antiga já rotulada com a versão nova
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDriverChanged(DriverChangedEvent event) {
+        if (!enabled) return;
+
+        invalidate(key -> key.matches(event.before()) || key.matches(event.after()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(DriverCatalogChangedEvent event) {
+        if (!enabled) return;
+
+        clear();
+    }
+
+    public void clear() {
+        invalidate(key -> true);
+    }
+
+    public CacheStatsDTO stats() {
+        synchronized (entries) {
+            return new CacheStatsDTO(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(),
+                    entries.size(), weight, maxWeight);
+        }
+    }
+
+    private Slice<DriverSummaryDTO> lookup(Key key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) return null;
+            if (System.nanoTime() - entry.expiresAt() < 0) return entry.value();
+
+            entries.remove(key);
+            weight -= entry.weight();
+            return null;
+        }
+    }
+
+    private void store(Key key, Slice<DriverSummaryDTO> value, long startedAt) {
+        Entry entry = new Entry(value, value.getNumberOfElements() + 1, System.nanoTime() + ttl.toNanos());
+        if (entry.weight() > maxWeight) return;
+
+        synchronized (entries) {
+            // Uma escrita confirmada durante a consulta pode ter tornado o resultado obsoleto
+            if (generation.get() != startedAt) return;
+
+            Entry previous = entries.put(key, entry);
+            weight += entry.weight() - (previous == null ? 0 : previous.weight());
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (weight > maxWeight && eldest.hasNext()) {
+                weight -= eldest.next().weight();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private void invalidate(Predicate<Key> affected) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            // Leituras novas não devem se juntar a uma consulta iniciada antes da escrita
+            loading.keySet().removeIf(affected);
+
+            Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, Entry> entry = iterator.next();
+                if (!affected.test(entry.getKey())) continue;
+
+                weight -= entry.getValue().weight();
+                iterator.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    private static Slice<DriverSummaryDTO> await(CompletableFuture<Slice<DriverSummaryDTO>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private record Entry(Slice<DriverSummaryDTO> value, long weight, long expiresAt) {
+    }
+
+    public record Key(String mode, String text, String state, String city, int vehicles,
+                      int page, int size, Sort sort) {
+
+        public static Key of(String mode, String text, String state, String city, List<VehicleType> vehicles,
+                             Pageable pageable) {
+            return new Key(mode, normalize(text), normalize(state), normalize(city), VehicleTypesConverter.mask(vehicles),
+                    pageable.isPaged() ? pageable.getPageNumber() : -1,
+                    pageable.isPaged() ? pageable.getPageSize() : -1,
+                    pageable.getSort());
+        }
+
+        boolean matches(DriverSnapshot driver) {
+            if (driver == null) return false;
+            if (text != null) return true;
+            if (state != null && !state.equals(normalize(driver.state()))) return false;
+            if (city != null && (driver.city() == null || !normalize(driver.city()).contains(city))) return false;
+            return vehicles == 0 || (vehicles & VehicleTypesConverter.mask(driver.vehicleTypes())) != 0;
+        }
+
+        private static String normalize(String value) {
+            return StringUtils.hasText(value) ? value.toLowerCase(Locale.ROOT) : null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.fretemais.drivermanager.infrastructure.cache;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min Sketch com contadores de 4 bits (16 por {@code long}) usado na admissão TinyLFU: estima
+ * quantas vezes cada chave foi pedida recentemente. Depois de {@code 10 × capacidade} incrementos todos os
+ * contadores são divididos por dois, para que a popularidade antiga perca peso. Thread-safe sem lock: cada
+ * contador é alterado por compare-and-set na palavra que o contém.
+ */
+final class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final long HALF_MASK = 0x7777_7777_7777_7777L;
+
+    private final AtomicLongArray table;
+    private final int cells;
+    private final int sampleSize;
+    private final AtomicInteger additions = new AtomicInteger();
+
+    FrequencySketch(int capacity) {
+        int words = Integer.highestOneBit(Math.max(capacity, 16) - 1) << 1;
+        this.table = new AtomicLongArray(words);
+        this.cells = words * 16;
+        this.sampleSize = 10 * Math.max(capacity, 16);
+    }
+
+    void increment(UUID key) {
+        long hash = hash(key);
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            added |= tryIncrement(cell(hash, i));
+        }
+        if (added && additions.incrementAndGet() == sampleSize) reset();
+    }
+
+    int frequency(UUID key) {
+        long hash = hash(key);
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            frequency = Math.min(frequency, get(cell(hash, i)));
+        }
+        return frequency;
+    }
+
+    // Só a thread que atinge a amostra divide; incrementos concorrentes continuam valendo depois dela
+    private void reset() {
+        for (int i = 0; i < table.length(); i++) {
+            table.getAndUpdate(i, word -> (word >>> 1) & HALF_MASK);
+        }
+        additions.addAndGet(-(sampleSize - sampleSize / 2));
+    }
+
+    private int cell(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return (h1 + i * h2) & (cells - 1);
+    }
+
+    private int get(int cell) {
+        return (int) (table.get(cell >>> 4) >>> ((cell & 15) << 2)) & MAX_COUNT;
+    }
+
+    private boolean tryIncrement(int cell) {
+        int word = cell >>> 4;
+        int shift = (cell & 15) << 2;
+        while (true) {
+            long current = table.get(word);
+            if (((current >>> shift) & MAX_COUNT) == MAX_COUNT) return false;
+            if (table.compareAndSet(word, current, current + (1L << shift))) return true;
+        }
+    }
+
+    // Finalizador do MurmurHash3 sobre os 128 bits do UUID
+    private static long hash(UUID key) {
+        long hash = key.getMostSignificantBits() * 31 + key.getLeastSignificantBits();
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -1,11 +1,18 @@
 package com.fretemais.drivermanager.infrastructure.controllers;
 
+import com.fretemais.drivermanager.application.dtos.CredentialVerifierStatsDTO;
 import com.fretemais.drivermanager.application.dtos.LoginRequestDTO;
+import com.fretemais.drivermanager.infrastructure.security.CredentialVerifier;
 import com.fretemais.drivermanager.infrastructure.security.JwtTokenProvider;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -15,14 +22,32 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final CredentialVerifier credentialVerifier;
 
     @PostMapping("/login")
     public ResponseEntity<String> login(@RequestBody LoginRequestDTO login) {
 
-        if ("admin".equals(login.username()) && "123456".equals(login.password())) {
+        if (credentialVerifier.verify(login.username(), login.password())) {
             String token = jwtTokenProvider.genereateToken(login.username());
             return ResponseEntity.ok(token);
         }
         return ResponseEntity.status(401).build();
     }
+
+    @PostMapping("/logout")
+    @Operation(summary = "Revogar o token atual", description = "Revoga o token do cabeçalho Authorization até a expiração dele. Outras instâncias passam a recusá-lo na próxima recarga da lista de revogados (jwt.deny-list.reload-interval, padrão 10 minutos).")
+    @ApiResponse(responseCode = "204", description = "Token revogado")
+    @ApiResponse(responseCode = "400", description = "Token sem jti, emitido antes da revogação existir; não pode ser revogado e expira normalmente")
+    public ResponseEntity<String> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        // O filtro JWT já autenticou a requisição com este cabeçalho, então false só pode ser falta de jti
+        if (!jwtTokenProvider.revokeToken(authorization.substring("Bearer ".length()))) {
+            return ResponseEntity.badRequest().body("Token sem jti não pode ser revogado");
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/verifier")
+    public ResponseEntity<CredentialVerifierStatsDTO> verifierStats() {
+        return ResponseEntity.ok(credentialVerifier.stats());
+    }
 }
@@ -0,0 +1,66 @@
+package com.fretemais.drivermanager.infrastructure.controllers;
+
+import com.fretemais.drivermanager.application.dtos.CacheStatsDTO;
+import com.fretemais.drivermanager.application.dtos.EntityCacheStatsDTO;
+import com.fretemais.drivermanager.application.dtos.UniqueKeyFilterStatsDTO;
+import com.fretemais.drivermanager.infrastructure.cache.DriverEntityCache;
+import com.fretemais.drivermanager.infrastructure.cache.DriverJsonCache;
+import com.fretemais.drivermanager.infrastructure.cache.DriverListCache;
+import com.fretemais.drivermanager.infrastructure.search.DriverUniqueKeyFilter;
+import com.fretemais.drivermanager.infrastructure.security.JwtTokenCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "Estatísticas dos caches da aplicação")
+public class CacheController {
+
+    private final DriverListCache driverListCache;
+    private final DriverEntityCache driverEntityCache;
+    private final DriverJsonCache driverJsonCache;
+    private final DriverUniqueKeyFilter driverUniqueKeyFilter;
+    private final JwtTokenCache jwtTokenCache;
+
+    @GetMapping("/driver-list")
+    @Operation(summary = "Estatísticas do cache de listagem", description = "Retorna acertos, falhas, remoções por espaço e por escrita, e o peso ocupado do cache de páginas de motoristas.")
+    @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso")
+    public ResponseEntity<CacheStatsDTO> driverList() {
+        return ResponseEntity.ok(driverListCache.stats());
+    }
+
+    @GetMapping("/driver-entities")
+    @Operation(summary = "Estatísticas do cache de motoristas por ID", description = "Retorna acertos, falhas, taxa de acerto, remoções por espaço, chaves recusadas pela admissão TinyLFU, invalidações por escrita e ocupação do cache de leitura de motoristas por ID.")
+    @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso")
+    public ResponseEntity<EntityCacheStatsDTO> driverEntities() {
+        return ResponseEntity.ok(driverEntityCache.stats());
+    }
+
+    @GetMapping("/driver-json")
+    @Operation(summary = "Estatísticas do cache de JSON de motoristas", description = "Retorna acertos, falhas, remoções por espaço e por escrita, e os bytes ocupados pelo JSON já serializado de motoristas por ID.")
+    @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso; peso em bytes")
+    public ResponseEntity<CacheStatsDTO> driverJson() {
+        return ResponseEntity.ok(driverJsonCache.stats());
+    }
+
+    @GetMapping("/driver-unique-keys")
+    @Operation(summary = "Estatísticas do filtro de unicidade", description = "Retorna conferências, consultas ao banco evitadas, falsos positivos, taxa de falso positivo esperada e memória do filtro de Bloom sobre os campos únicos de motoristas.")
+    @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso")
+    public ResponseEntity<UniqueKeyFilterStatsDTO> driverUniqueKeys() {
+        return ResponseEntity.ok(driverUniqueKeyFilter.stats());
+    }
+
+    @GetMapping("/jwt-tokens")
+    @Operation(summary = "Estatísticas do cache de tokens verificados", description = "Retorna acertos, falhas, remoções por expiração ou espaço e ocupação do cache de JWTs com assinatura já conferida.")
+    @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso")
+    public ResponseEntity<CacheStatsDTO> jwtTokens() {
+        return ResponseEntity.ok(jwtTokenCache.stats());
+    }
+}
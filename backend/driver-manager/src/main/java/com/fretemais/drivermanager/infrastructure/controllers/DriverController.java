@@ -1,25 +1,47 @@
 package com.fretemais.drivermanager.infrastructure.controllers;
 
+import com.fretemais.drivermanager.application.dtos.DriverBulkDeleteDTO;
+import com.fretemais.drivermanager.application.dtos.DriverBulkDeleteResultDTO;
+import com.fretemais.drivermanager.application.dtos.DriverFacetsDTO;
+import com.fretemais.drivermanager.application.dtos.DriverImportReportDTO;
+import com.fretemais.drivermanager.application.dtos.DriverPatchDTO;
+import com.fretemais.drivermanager.application.dtos.DriverSuggestionsDTO;
 import com.fretemais.drivermanager.application.dtos.DriverSummaryDTO;
 import com.fretemais.drivermanager.application.dtos.DriverRequestDTO;
 import com.fretemais.drivermanager.application.dtos.DriverResponseDTO;
+import com.fretemais.drivermanager.application.dtos.DriverWindowDTO;
+import com.fretemais.drivermanager.application.services.CountMode;
+import com.fretemais.drivermanager.application.services.DriverImportService;
+import com.fretemais.drivermanager.application.services.DriverJson;
 import com.fretemais.drivermanager.application.services.DriverService;
+import com.fretemais.drivermanager.application.services.ExportFormat;
 import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.infrastructure.cache.DriverCatalogVersion;
+import com.fretemais.drivermanager.infrastructure.cache.DriverListCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,7 +51,14 @@ import java.util.UUID;
 @Tag(name = "Motoristas", description = "Endpoints para gerenciamento de motoristas")
 public class DriverController {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 20;
+    // Permite guardar a resposta, mas exige revalidação com o ETag a cada uso
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final DriverService service;
+    private final DriverImportService importService;
+    private final DriverCatalogVersion catalogVersion;
 
     @PostMapping
     @Operation(summary = "Criar um novo motorista", description = "Cadastra um novo motorista no sistema com os dados fornecidos.")
@@ -42,10 +71,57 @@ public class DriverController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Importar motoristas de um CSV", description = "Cadastra motoristas em lote a partir de um CSV com as colunas name, email, phone, cpf, cnh, city, state e vehicleTypes (tipos separados por '|'). O arquivo é lido em blocos; linhas inválidas ou duplicadas são rejeitadas individualmente e as demais são gravadas.")
+    @ApiResponse(responseCode = "200", description = "Importação concluída; o relatório traz os erros por linha")
+    @ApiResponse(responseCode = "400", description = "Arquivo vazio ou cabeçalho sem colunas obrigatórias")
+    public ResponseEntity<DriverImportReportDTO> importCsv(
+            @Parameter(description = "Arquivo CSV com cabeçalho") @RequestParam("file") MultipartFile file
+    ) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(importService.importCsv(input));
+        }
+    }
+
     @GetMapping
-    @Operation(summary = "Listar motoristas com filtros", description = "Retorna uma lista paginada de motoristas. Permite filtrar por texto (nome/email/cpf/cnh), estado, cidade e tipos de veículo.")
+    @Operation(summary = "Listar motoristas com filtros", description = "Retorna uma lista paginada de motoristas. Permite filtrar por texto (nome/email/cpf/cnh), estado, cidade e tipos de veículo. Com count=NONE a resposta omite os totais e indica a próxima página apenas por 'last'; com count=APPROXIMATE o total vem de uma contagem recente em cache. A resposta traz um ETag fraco que muda a cada escrita nesta instância e ao fim de cada janela do TTL do cache de listagens; com If-None-Match igual a ele, responde 304 sem consultar o banco.")
     @ApiResponse(responseCode = "200", description = "Lista de motoristas retornada com sucesso")
-    public ResponseEntity<Page<DriverSummaryDTO>> list(
+    @ApiResponse(responseCode = "304", description = "Nenhum motorista mudou desde o ETag informado")
+    public ResponseEntity<Slice<DriverSummaryDTO>> list(
+            @Parameter(description = "Texto para busca (nome, e-mail, CPF ou CNH)")
+            @RequestParam(required = false) String text,
+            @Parameter(description = "Sigla do estado para filtro")
+            @RequestParam(required = false) String state,
+            @Parameter(description = "Nome da cidade para filtro")
+            @RequestParam(required = false) String city,
+            @Parameter(description = "Lista de tipos de veículos para filtro")
+            @RequestParam(required = false) List<VehicleType> vehicles,
+            @Parameter(description = "Modo de contagem do total: EXACT, NONE ou APPROXIMATE")
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            @PageableDefault(size = 10, sort = "name") Pageable pageable,
+            @Parameter(description = "ETag recebido anteriormente")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        // A versão é lida antes da consulta; uma escrita no meio só faz o próximo If-None-Match falhar
+        String etag = DriverETags.ofQuery(catalogVersion.current(),
+                DriverListCache.Key.of(count.name(), text, state, city, vehicles, pageable));
+        if (ifNoneMatch != null && DriverETags.matchesAny(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).eTag(etag).build();
+        }
+
+        Slice<DriverSummaryDTO> drivers = switch (count) {
+            case EXACT -> service.list(text, state, city, vehicles, pageable);
+            case NONE -> service.listSlice(text, state, city, vehicles, pageable);
+            case APPROXIMATE -> service.listApproximate(text, state, city, vehicles, pageable);
+        };
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag).body(drivers);
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Listar motoristas com cursor", description = "Paginação por keyset ordenada por nome. Aceita os mesmos filtros da listagem, não executa contagem e mantém o custo constante em qualquer profundidade. Envie o nextCursor recebido para obter a próxima janela.")
+    @ApiResponse(responseCode = "200", description = "Janela de motoristas retornada com sucesso")
+    @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    public ResponseEntity<DriverWindowDTO> scroll(
             @Parameter(description = "Texto para busca (nome, e-mail, CPF ou CNH)")
             @RequestParam(required = false) String text,
             @Parameter(description = "Sigla do estado para filtro")
@@ -54,29 +130,143 @@ public class DriverController {
             @RequestParam(required = false) String city,
             @Parameter(description = "Lista de tipos de veículos para filtro")
             @RequestParam(required = false) List<VehicleType> vehicles,
-            @PageableDefault(size = 10, sort = "name") Pageable pageable
+            @Parameter(description = "Cursor retornado pela janela anterior; omita para começar do início")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de motoristas por janela (máximo 100)")
+            @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(service.list(text, state, city, vehicles, pageable));
+        int windowSize = Math.clamp(size, 1, MAX_SCROLL_SIZE);
+        return ResponseEntity.ok(service.scroll(text, state, city, vehicles, cursor, windowSize));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exportar motoristas", description = "Exporta todos os motoristas que atendem aos filtros, ordenados por nome, em NDJSON ou CSV. As linhas são lidas por um cursor do banco e escritas direto na resposta em chunks, sem paginação nem contagem, com uso de memória constante.")
+    @ApiResponse(responseCode = "200", description = "Exportação transmitida com sucesso")
+    public void export(
+            @Parameter(description = "Texto para busca (nome, e-mail, CPF ou CNH)")
+            @RequestParam(required = false) String text,
+            @Parameter(description = "Sigla do estado para filtro")
+            @RequestParam(required = false) String state,
+            @Parameter(description = "Nome da cidade para filtro")
+            @RequestParam(required = false) String city,
+            @Parameter(description = "Lista de tipos de veículos para filtro")
+            @RequestParam(required = false) List<VehicleType> vehicles,
+            @Parameter(description = "Formato da exportação: NDJSON ou CSV")
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(format.contentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("drivers." + format.extension())
+                .build()
+                .toString());
+
+        service.export(text, state, city, vehicles, format, response.getOutputStream());
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Sugestões por prefixo", description = "Retorna nomes de motoristas e cidades distintas que começam pelo prefixo, ignorando acentos e maiúsculas. Pensado para autocompletar os campos de filtro a cada tecla.")
+    @ApiResponse(responseCode = "200", description = "Sugestões retornadas com sucesso")
+    public ResponseEntity<DriverSuggestionsDTO> suggest(
+            @Parameter(description = "Início do nome ou da cidade", example = "sao")
+            @RequestParam String prefix,
+            @Parameter(description = "Quantidade máxima de sugestões por lista (máximo 20)")
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(service.suggest(prefix, Math.clamp(limit, 1, MAX_SUGGESTIONS)));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Contagens por faceta", description = "Retorna o total de motoristas que atendem aos filtros, com contagens por estado, tipo de veículo e disponibilidade. Sem filtro de texto ou cidade, as contagens vêm de contadores em memória.")
+    @ApiResponse(responseCode = "200", description = "Contagens retornadas com sucesso")
+    public ResponseEntity<DriverFacetsDTO> facets(
+            @Parameter(description = "Texto para busca (nome, e-mail, CPF ou CNH)")
+            @RequestParam(required = false) String text,
+            @Parameter(description = "Sigla do estado para filtro")
+            @RequestParam(required = false) String state,
+            @Parameter(description = "Nome da cidade para filtro")
+            @RequestParam(required = false) String city,
+            @Parameter(description = "Lista de tipos de veículos para filtro")
+            @RequestParam(required = false) List<VehicleType> vehicles
+    ) {
+        return ResponseEntity.ok(service.facets(text, state, city, vehicles));
+    }
+
+    @PostMapping("/facets/recount")
+    @Operation(summary = "Recalcular contadores de facetas", description = "Reconta todas as células a partir do banco e substitui os contadores em memória.")
+    @ApiResponse(responseCode = "200", description = "Contadores recalculados; retorna as contagens sem filtros")
+    public ResponseEntity<DriverFacetsDTO> recountFacets() {
+        return ResponseEntity.ok(service.recountFacets());
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Obter motorista por ID", description = "Retorna os detalhes completos de um motorista específico através do seu identificador único.")
-    @ApiResponse(responseCode = "200", description = "Motorista encontrado com sucesso")
+    @Operation(summary = "Obter motorista por ID", description = "Retorna os detalhes completos de um motorista específico através do seu identificador único. A resposta traz a versão no ETag; com If-None-Match igual à versão atual, responde 304 sem corpo.")
+    @ApiResponse(responseCode = "200", description = "Motorista encontrado com sucesso",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = DriverResponseDTO.class)))
+    @ApiResponse(responseCode = "304", description = "Motorista não mudou desde o ETag informado")
     @ApiResponse(responseCode = "404", description = "Motorista não encontrado")
-    public ResponseEntity<DriverResponseDTO> getById(
-            @Parameter(description = "ID único do motorista") @PathVariable UUID id) {
-        return ResponseEntity.ok(service.getById(id));
+    public ResponseEntity<byte[]> getById(
+            @Parameter(description = "ID único do motorista") @PathVariable UUID id,
+            @Parameter(description = "ETag recebido anteriormente")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        DriverJson driver;
+        if (ifNoneMatch != null) {
+            long version = service.getVersion(id);
+            if (DriverETags.matchesAny(ifNoneMatch, DriverETags.of(version))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).eTag(DriverETags.of(version)).build();
+            }
+            // A versão veio do banco; o corpo não pode sair de um cache local mais antigo que ela
+            driver = service.getJsonById(id, version);
+        } else {
+            // Bytes já serializados: o corpo não passa pelo conversor Jackson
+            driver = service.getJsonById(id);
+        }
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .eTag(DriverETags.of(driver.version()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(driver.json());
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Atualizar motorista", description = "Atualiza os dados de um motorista existente.")
+    @Operation(summary = "Atualizar motorista", description = "Atualiza os dados de um motorista existente. Com If-Match, só grava se a versão atual for a do ETag.")
     @ApiResponse(responseCode = "200", description = "Motorista atualizado com sucesso")
     @ApiResponse(responseCode = "404", description = "Motorista não encontrado")
     @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos")
+    @ApiResponse(responseCode = "412", description = "O motorista foi alterado desde o ETag informado")
     public ResponseEntity<DriverResponseDTO> update(
             @Parameter(description = "ID único do motorista") @PathVariable UUID id,
+            @Parameter(description = "ETag da versão que está sendo alterada")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid DriverRequestDTO dto) {
-        return ResponseEntity.ok(service.updateById(id, dto));
+        DriverResponseDTO updated = service.updateById(id, dto, DriverETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(DriverETags.of(updated.version())).body(updated);
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(summary = "Atualizar motorista parcialmente", description = "Atualiza apenas os campos informados; campos ausentes ou nulos mantêm o valor atual. Só as colunas que mudam são gravadas. Com If-Match, só grava se a versão atual for a do ETag.")
+    @ApiResponse(responseCode = "200", description = "Motorista atualizado com sucesso")
+    @ApiResponse(responseCode = "404", description = "Motorista não encontrado")
+    @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos")
+    @ApiResponse(responseCode = "409", description = "Conflito: valor único já cadastrado")
+    @ApiResponse(responseCode = "412", description = "O motorista foi alterado desde o ETag informado")
+    public ResponseEntity<DriverResponseDTO> patch(
+            @Parameter(description = "ID único do motorista") @PathVariable UUID id,
+            @Parameter(description = "ETag da versão que está sendo alterada")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Valid DriverPatchDTO dto) {
+        DriverResponseDTO patched = service.patchById(id, dto, DriverETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(DriverETags.of(patched.version())).body(patched);
+    }
+
+    @PostMapping("/bulk-delete")
+    @Operation(summary = "Excluir motoristas em lote", description = "Exclui, com DELETE em massa e sem carregar as entidades, os motoristas pelos IDs e/ou pelos filtros da listagem. Exige IDs ou ao menos um filtro.")
+    @ApiResponse(responseCode = "200", description = "Exclusão concluída; retorna a quantidade excluída")
+    @ApiResponse(responseCode = "400", description = "Nenhum ID ou filtro informado")
+    public ResponseEntity<DriverBulkDeleteResultDTO> bulkDelete(@RequestBody @Valid DriverBulkDeleteDTO dto) {
+        long deleted = service.deleteAll(dto.ids(), dto.text(), dto.state(), dto.city(), dto.vehicleTypes());
+        return ResponseEntity.ok(new DriverBulkDeleteResultDTO(deleted));
     }
 
     @DeleteMapping("/{id}")
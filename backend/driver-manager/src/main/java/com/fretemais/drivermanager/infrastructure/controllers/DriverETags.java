@@ -0,0 +1,78 @@
+package com.fretemais.drivermanager.infrastructure.controllers;
+
+import com.fretemais.drivermanager.infrastructure.cache.DriverListCache;
+import com.fretemais.drivermanager.infrastructure.exceptions.PreconditionFailedException;
+import org.springframework.http.ETag;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * ETag forte de um motorista: a coluna de versão entre aspas, ex. {@code "3"}. Listagens usam um ETag fraco
+ * com a versão do catálogo e o SHA-256 dos parâmetros normalizados, para que duas buscas diferentes não
+ * compartilhem o ETag por colisão.
+ */
+final class DriverETags {
+
+    private DriverETags() {
+    }
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    static String ofQuery(String catalogVersion, DriverListCache.Key query) {
+        return "W/\"" + catalogVersion + "-" + digest(query) + "\"";
+    }
+
+    // Cada parâmetro vai com o tamanho na frente (-1 quando ausente), então um texto com separadores não se
+    // confunde com outro filtro
+    private static String digest(DriverListCache.Key query) {
+        StringBuilder key = new StringBuilder();
+        for (Object part : Arrays.asList(query.mode(), query.text(), query.state(), query.city(), query.vehicles(),
+                query.page(), query.size(), query.sort())) {
+            if (part == null) {
+                key.append("-1:");
+                continue;
+            }
+            String value = part.toString();
+            key.append(value.length()).append(':').append(value);
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * If-None-Match usa comparação fraca: {@code W/"3"} também corresponde a {@code "3"}.
+     */
+    static boolean matchesAny(String ifNoneMatch, String etag) {
+        ETag current = ETag.create(etag);
+        return ETag.parse(ifNoneMatch).stream().anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+    }
+
+    /**
+     * Versão esperada pelo If-Match, ou {@code null} sem cabeçalho ou com {@code *}. Só aceita um único ETag forte.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null) return null;
+
+        List<ETag> tags = ETag.parse(ifMatch);
+        if (tags.size() == 1 && tags.getFirst().isWildcard()) return null;
+        if (tags.size() != 1 || tags.getFirst().weak()) {
+            throw new PreconditionFailedException("If-Match deve conter um único ETag forte ou *");
+        }
+        try {
+            return Long.parseLong(tags.getFirst().tag());
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match deve conter um único ETag forte ou *");
+        }
+    }
+}
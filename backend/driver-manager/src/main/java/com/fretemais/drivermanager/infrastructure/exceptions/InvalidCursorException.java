@@ -0,0 +1,7 @@
+package com.fretemais.drivermanager.infrastructure.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
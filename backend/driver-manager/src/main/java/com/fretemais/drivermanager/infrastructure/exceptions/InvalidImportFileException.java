@@ -0,0 +1,7 @@
+package com.fretemais.drivermanager.infrastructure.exceptions;
+
+public class InvalidImportFileException extends RuntimeException {
+    public InvalidImportFileException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.fretemais.drivermanager.infrastructure.exceptions;
+
+public class LoginUnavailableException extends RuntimeException {
+    public LoginUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.fretemais.drivermanager.infrastructure.exceptions;
+
+public class MissingDeleteCriteriaException extends RuntimeException {
+    public MissingDeleteCriteriaException(String message) {
+        super(message);
+    }
+}
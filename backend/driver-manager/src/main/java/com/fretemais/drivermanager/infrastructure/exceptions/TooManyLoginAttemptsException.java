@@ -0,0 +1,7 @@
+package com.fretemais.drivermanager.infrastructure.exceptions;
+
+public class TooManyLoginAttemptsException extends RuntimeException {
+    public TooManyLoginAttemptsException(String message) {
+        super(message);
+    }
+}
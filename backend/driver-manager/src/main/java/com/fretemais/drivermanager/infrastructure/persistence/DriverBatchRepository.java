@@ -0,0 +1,16 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import com.fretemais.drivermanager.domain.model.Driver;
+
+import java.util.List;
+
+/**
+ * Escritas em lote via JDBC, sem passar pelo contexto de persistência nem pelos callbacks JPA.
+ */
+public interface DriverBatchRepository {
+
+    /**
+     * Insere os motoristas em um único batch JDBC. IDs ausentes são gerados e o documento de busca é calculado aqui.
+     */
+    void insertAll(List<Driver> drivers);
+}
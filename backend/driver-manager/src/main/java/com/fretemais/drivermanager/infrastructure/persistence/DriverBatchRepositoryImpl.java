@@ -0,0 +1,46 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import com.fretemais.drivermanager.domain.model.Driver;
+import com.fretemais.drivermanager.domain.model.TextNormalizer;
+import com.fretemais.drivermanager.domain.model.VehicleTypesConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class DriverBatchRepositoryImpl implements DriverBatchRepository {
+
+    private static final String INSERT = "insert into drivers " +
+            "(id, name, vehicle_types, cpf, cnh, phone_number, email, available, city, state, search_document, version) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void insertAll(List<Driver> drivers) {
+        if (drivers.isEmpty()) return;
+
+        drivers.forEach(driver -> {
+            if (driver.getId() == null) driver.setId(UUID.randomUUID());
+        });
+
+        jdbcTemplate.batchUpdate(INSERT, drivers, drivers.size(), (statement, driver) -> {
+            statement.setObject(1, driver.getId());
+            statement.setString(2, driver.getName());
+            statement.setInt(3, VehicleTypesConverter.mask(driver.getVehicleType()));
+            statement.setString(4, driver.getCpf());
+            statement.setString(5, driver.getCnh());
+            statement.setString(6, driver.getPhoneNumber());
+            statement.setString(7, driver.getEmail());
+            statement.setBoolean(8, driver.isAvailable());
+            statement.setString(9, driver.getCity());
+            statement.setString(10, driver.getState());
+            statement.setString(11, TextNormalizer.searchDocument(driver.getName(), driver.getEmail(),
+                    driver.getCpf(), driver.getCnh(), driver.getPhoneNumber()));
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+
+import java.util.List;
+import java.util.UUID;
+
+public record DriverBitmapRow(UUID id, String state, List<VehicleType> vehicleTypes, boolean available) {
+}
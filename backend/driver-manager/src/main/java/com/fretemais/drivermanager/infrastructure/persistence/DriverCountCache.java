@@ -0,0 +1,39 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Totais recentes da listagem por combinação de filtros, usados pelo modo de contagem aproximada.
+ * Cada entrada vale pelo TTL configurado; ao atingir o limite de entradas o cache é esvaziado.
+ */
+@Component
+public class DriverCountCache {
+
+    @Value("${search.count-cache.ttl:30s}")
+    protected Duration ttl = Duration.ofSeconds(30);
+
+    @Value("${search.count-cache.max-entries:1000}")
+    protected int maxEntries = 1000;
+
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+
+    public long count(Object key, LongSupplier counter) {
+        long now = System.nanoTime();
+        Entry cached = entries.get(key);
+        if (cached != null && now - cached.expiresAt() < 0) return cached.count();
+
+        long count = counter.getAsLong();
+        if (entries.size() >= maxEntries) entries.clear();
+        entries.put(key, new Entry(count, now + ttl.toNanos()));
+        return count;
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
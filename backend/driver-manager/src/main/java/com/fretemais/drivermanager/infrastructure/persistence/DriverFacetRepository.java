@@ -0,0 +1,14 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import com.fretemais.drivermanager.domain.model.Driver;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Contagem agrupada por estado, combinação de veículos e disponibilidade em uma única consulta.
+ */
+public interface DriverFacetRepository {
+
+    List<DriverFacetRow> countFacets(Specification<Driver> spec);
+}
@@ -0,0 +1,36 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import com.fretemais.drivermanager.domain.model.Driver;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+class DriverFacetRepositoryImpl implements DriverFacetRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<DriverFacetRow> countFacets(Specification<Driver> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DriverFacetRow> query = cb.createQuery(DriverFacetRow.class);
+        Root<Driver> root = query.from(Driver.class);
+
+        query.select(cb.construct(DriverFacetRow.class,
+                root.get("state"), root.get("vehicleType"), root.get("available"), cb.count(root)));
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        query.groupBy(root.get("state"), root.get("vehicleType"), root.get("available"));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+}
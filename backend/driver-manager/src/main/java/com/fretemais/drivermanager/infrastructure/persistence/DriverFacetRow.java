@@ -0,0 +1,8 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+
+import java.util.List;
+
+public record DriverFacetRow(String state, List<VehicleType> vehicleTypes, boolean available, long count) {
+}
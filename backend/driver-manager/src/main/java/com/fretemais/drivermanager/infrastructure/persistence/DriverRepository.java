@@ -1,16 +1,77 @@
 package com.fretemais.drivermanager.infrastructure.persistence;
 
+import com.fretemais.drivermanager.domain.events.DriverSnapshot;
 import com.fretemais.drivermanager.domain.model.Driver;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface DriverRepository extends JpaRepository<Driver, UUID>, JpaSpecificationExecutor<Driver> {
+public interface DriverRepository extends JpaRepository<Driver, UUID>, JpaSpecificationExecutor<Driver>,
+        DriverSummaryRepository, DriverFacetRepository, DriverBatchRepository {
+
+    @Query("select new com.fretemais.drivermanager.domain.events.DriverSnapshot(d.id, d.name, d.email, " +
+            "d.phoneNumber, d.cpf, d.cnh, d.city, d.state, d.available, d.vehicleType) from Driver d where d.id = :id")
+    Optional<DriverSnapshot> findSnapshotById(UUID id);
+
+    @Query("select d.version from Driver d where d.id = :id")
+    Optional<Long> findVersionById(UUID id);
+
+    // DELETE direto, sem carregar a entidade; limpa o contexto para não devolver a instância excluída
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Driver d where d.id = :id")
+    int deleteRowById(UUID id);
+
+    // Um ramo por coluna para que cada IN use o próprio índice único; OR entre as colunas tende a virar varredura
+    @Query("select new com.fretemais.drivermanager.infrastructure.persistence.DriverUniqueRow(" +
+            "d.id, d.name, d.email, d.phoneNumber, d.cpf, d.cnh) from Driver d where d.name in :names " +
+            "union all select new com.fretemais.drivermanager.infrastructure.persistence.DriverUniqueRow(" +
+            "d.id, d.name, d.email, d.phoneNumber, d.cpf, d.cnh) from Driver d where d.email in :emails " +
+            "union all select new com.fretemais.drivermanager.infrastructure.persistence.DriverUniqueRow(" +
+            "d.id, d.name, d.email, d.phoneNumber, d.cpf, d.cnh) from Driver d where d.phoneNumber in :phones " +
+            "union all select new com.fretemais.drivermanager.infrastructure.persistence.DriverUniqueRow(" +
+            "d.id, d.name, d.email, d.phoneNumber, d.cpf, d.cnh) from Driver d where d.cpf in :cpfs " +
+            "union all select new com.fretemais.drivermanager.infrastructure.persistence.DriverUniqueRow(" +
+            "d.id, d.name, d.email, d.phoneNumber, d.cpf, d.cnh) from Driver d where d.cnh in :cnhs")
+    List<DriverUniqueRow> findTaken(Collection<String> names, Collection<String> emails, Collection<String> phones,
+                                    Collection<String> cpfs, Collection<String> cnhs);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select new com.fretemais.drivermanager.infrastructure.persistence.DriverTextRow(" +
+            "d.id, d.name, d.email, d.cpf, d.cnh, d.phoneNumber) from Driver d")
+    Stream<DriverTextRow> streamTextRows();
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select new com.fretemais.drivermanager.infrastructure.persistence.DriverBitmapRow(" +
+            "d.id, d.state, d.vehicleType, d.available) from Driver d")
+    Stream<DriverBitmapRow> streamBitmapRows();
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select new com.fretemais.drivermanager.infrastructure.persistence.DriverUniqueRow(" +
+            "d.id, d.name, d.email, d.phoneNumber, d.cpf, d.cnh) from Driver d")
+    Stream<DriverUniqueRow> streamUniqueRows();
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select new com.fretemais.drivermanager.infrastructure.persistence.DriverSuggestRow(" +
+            "d.id, d.name, d.city) from Driver d")
+    Stream<DriverSuggestRow> streamSuggestRows();
 
-    boolean existsByEmail(String email);
-    boolean existsByCpf(String cpf);
-    boolean existsByCnh(String cnh);
-}
\ No newline at end of file
+    // search_document começa pelo nome sem acentos, então o prefixo dobrado também ignora acentos aqui.
+    // O prefixo chega com % e _ escapados por '\'
+    @Query("select d.name from Driver d where d.searchDocument like concat(:prefix, '%') escape '\\' order by d.searchDocument")
+    List<String> findNamesByPrefix(String prefix, Limit limit);
+}
@@ -2,21 +2,46 @@ package com.fretemais.drivermanager.infrastructure.persistence;
 
 import com.fretemais.drivermanager.domain.enums.VehicleType;
 import com.fretemais.drivermanager.domain.model.Driver;
+import com.fretemais.drivermanager.domain.model.TextNormalizer;
+import com.fretemais.drivermanager.domain.model.VehicleTypesConverter;
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.DeleteSpecification;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 public class DriverSpecification {
 
     public static Specification<Driver> filterBy(String text, String state, String city, List<VehicleType> vehicles) {
+        return filterBy(SearchMode.LIKE, text, state, city, vehicles);
+    }
+
+    public static Specification<Driver> filterBy(SearchMode mode, String text, String state, String city, List<VehicleType> vehicles) {
         return Specification
-                .where(hasText(text))
+                .where(mode == SearchMode.TRIGRAM ? hasSearchDocument(text) : hasText(text))
                 .and(hasState(state))
                 .and(hasCity(city))
                 .and(hasVehicles(vehicles));
     }
 
+    // Os filtros daqui não usam a CriteriaQuery, então valem também como predicado de um DELETE em massa
+    public static DeleteSpecification<Driver> forDelete(Specification<Driver> spec) {
+        return (root, delete, cb) -> spec.toPredicate(root, null, cb);
+    }
+
+    public static Specification<Driver> hasIds(Collection<UUID> ids){
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Driver> isAfter(String name, UUID id){
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.<String>get("name"), name),
+                cb.or(cb.greaterThan(root.<String>get("name"), name), cb.greaterThan(root.<UUID>get("id"), id)));
+    }
+
     private static Specification<Driver> hasText (String text){
         return (root, query, cb) -> {
             if (!StringUtils.hasText(text)) return null;
@@ -33,6 +58,14 @@ public class DriverSpecification {
         };
     }
 
+    private static Specification<Driver> hasSearchDocument(String text){
+        return (root, query, cb) -> {
+            if (!StringUtils.hasText(text)) return null;
+
+            return cb.like(root.get("searchDocument"), "%" + TextNormalizer.fold(text) + "%");
+        };
+    }
+
     private static Specification<Driver> hasState(String state){
         return (root, query, cb) -> {
             if (!StringUtils.hasText(state)) return null;
@@ -41,6 +74,7 @@ public class DriverSpecification {
         };
     }
 
+    // No PostgreSQL, lower(city) LIKE é atendido pelo índice de expressão idx_drivers_city_trgm
     private static Specification<Driver> hasCity(String city){
         return (root, query, cb) -> {
             if (!StringUtils.hasText(city)) return null;
@@ -55,7 +89,9 @@ public class DriverSpecification {
         return (root, query, cb) -> {
             if (vehicles == null || vehicles.isEmpty()) return null;
 
-            return root.join("vehicleType").in(vehicles);
+            Expression<Integer> matched = cb.function("bitand", Integer.class,
+                    root.get("vehicleType"), cb.literal(VehicleTypesConverter.mask(vehicles)));
+            return cb.notEqual(matched, 0);
         };
     }
 }
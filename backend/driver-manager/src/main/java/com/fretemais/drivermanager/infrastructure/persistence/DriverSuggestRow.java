@@ -0,0 +1,6 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import java.util.UUID;
+
+public record DriverSuggestRow(UUID id, String name, String city) {
+}
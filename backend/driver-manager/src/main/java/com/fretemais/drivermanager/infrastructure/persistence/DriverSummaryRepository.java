@@ -0,0 +1,32 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import com.fretemais.drivermanager.application.dtos.DriverSummaryDTO;
+import com.fretemais.drivermanager.domain.model.Driver;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Consultas de listagem que projetam direto em {@link DriverSummaryDTO}, sem carregar entidades {@link Driver}.
+ */
+public interface DriverSummaryRepository {
+
+    Page<DriverSummaryDTO> findSummaries(Specification<Driver> spec, Pageable pageable);
+
+    Page<DriverSummaryDTO> findSummaries(Specification<Driver> spec, Pageable pageable, LongSupplier total);
+
+    Slice<DriverSummaryDTO> findSummarySlice(Specification<Driver> spec, Pageable pageable);
+
+    List<DriverSummaryDTO> findSummaries(Specification<Driver> spec, Sort sort, int limit);
+
+    /**
+     * Cursor somente-leitura e só para frente; precisa ser consumido dentro de uma transação e fechado ao final.
+     */
+    Stream<DriverSummaryDTO> streamSummaries(Specification<Driver> spec, Sort sort);
+}
@@ -0,0 +1,114 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import com.fretemais.drivermanager.application.dtos.DriverSummaryDTO;
+import com.fretemais.drivermanager.domain.model.Driver;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+class DriverSummaryRepositoryImpl implements DriverSummaryRepository {
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<DriverSummaryDTO> findSummaries(Specification<Driver> spec, Pageable pageable) {
+        return findSummaries(spec, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Page<DriverSummaryDTO> findSummaries(Specification<Driver> spec, Pageable pageable, LongSupplier total) {
+        if (pageable.isUnpaged()) {
+            List<DriverSummaryDTO> content = query(spec, pageable.getSort()).getResultList();
+            return PageableExecutionUtils.getPage(content, pageable, content::size);
+        }
+
+        List<DriverSummaryDTO> content = query(spec, pageable.getSort())
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, total);
+    }
+
+    @Override
+    public Slice<DriverSummaryDTO> findSummarySlice(Specification<Driver> spec, Pageable pageable) {
+        if (pageable.isUnpaged()) return new SliceImpl<>(query(spec, pageable.getSort()).getResultList());
+
+        List<DriverSummaryDTO> content = query(spec, pageable.getSort())
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Override
+    public List<DriverSummaryDTO> findSummaries(Specification<Driver> spec, Sort sort, int limit) {
+        return query(spec, sort).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<DriverSummaryDTO> streamSummaries(Specification<Driver> spec, Sort sort) {
+        return query(spec, sort)
+                .setHint(HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private TypedQuery<DriverSummaryDTO> query(Specification<Driver> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DriverSummaryDTO> query = cb.createQuery(DriverSummaryDTO.class);
+        Root<Driver> root = query.from(Driver.class);
+
+        query.select(cb.construct(DriverSummaryDTO.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("phoneNumber"),
+                root.get("city"),
+                root.get("state"),
+                root.get("vehicleType"),
+                root.get("available")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        if (sort.isSorted()) query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Driver> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Driver> root = query.from(Driver.class);
+
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,6 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import java.util.UUID;
+
+public record DriverTextRow(UUID id, String name, String email, String cpf, String cnh, String phoneNumber) {
+}
@@ -0,0 +1,6 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import java.util.UUID;
+
+public record DriverUniqueRow(UUID id, String name, String email, String phoneNumber, String cpf, String cnh) {
+}
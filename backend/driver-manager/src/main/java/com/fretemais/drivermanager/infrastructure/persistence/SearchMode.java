@@ -0,0 +1,8 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+public enum SearchMode {
+    /** {@code lower(coluna) LIKE '%termo%'} em cada coluna; funciona em qualquer banco. */
+    LIKE,
+    /** {@code LIKE} sobre {@code search_document}, servido pelo índice GIN pg_trgm da migração V2. */
+    TRIGRAM
+}
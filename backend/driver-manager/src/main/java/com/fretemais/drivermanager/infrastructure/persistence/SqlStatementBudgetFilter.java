@@ -0,0 +1,102 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Mede os comandos SQL de cada requisição HTTP e registra um aviso quando passam de
+ * {@code jdbc.request-stats.statement-budget}, o sintoma típico de N+1. Publica por rota os histogramas
+ * {@code jdbc.request.statements}, {@code jdbc.request.time} e, com a contagem de linhas ligada,
+ * {@code jdbc.request.rows}, além do contador {@code jdbc.request.budget.exceeded}.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jdbc.request-stats.enabled:true}")
+    protected boolean enabled = true;
+
+    @Value("${jdbc.request-stats.count-rows:false}")
+    protected boolean countRows;
+
+    @Value("${jdbc.request-stats.statement-budget:10}")
+    protected int statementBudget = 10;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        SqlStatementStats stats;
+        try (SqlStatementCounter.Scope scope = counter.open()) {
+            filterChain.doFilter(request, response);
+            stats = scope.stats();
+        }
+        if (stats.statements() == 0) return;
+
+        String uri = uri(request);
+        record(uri, stats);
+
+        if (stats.statements() > statementBudget) {
+            Counter.builder("jdbc.request.budget.exceeded")
+                    .description("Requisições acima do orçamento de comandos SQL")
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} executou {} comandos SQL (orçamento {}), {} linhas, {} ms de JDBC",
+                    request.getMethod(), uri, stats.statements(), statementBudget, stats.rows(),
+                    stats.jdbcTime().toMillis());
+        }
+    }
+
+    private void record(String uri, SqlStatementStats stats) {
+        DistributionSummary.builder("jdbc.request.statements")
+                .description("Comandos SQL por requisição")
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.statements());
+        if (countRows) {
+            DistributionSummary.builder("jdbc.request.rows")
+                    .description("Linhas lidas por requisição")
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(stats.rows());
+        }
+        Timer.builder("jdbc.request.time")
+                .description("Tempo de JDBC por requisição")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.jdbcTime());
+    }
+
+    // Padrão da rota (ex. /api/drivers/{id}) para não criar uma série por ID
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,103 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Conta os comandos SQL, as linhas lidas e o tempo de JDBC da thread atual, alimentado pelo proxy do
+ * DataSource; as linhas só com {@code jdbc.request-stats.count-rows=true}. Só conta dentro de um
+ * {@link Scope} aberto; fora dele (migrações, tarefas agendadas) não faz nada. Escopos aninhados somam no escopo externo ao fechar. Um lote executado de uma vez conta como um comando.
+ */
+@Component
+public class SqlStatementCounter implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    public Scope open() {
+        Counts counts = new Counts();
+        Scope scope = new Scope(counts, CURRENT.get());
+        CURRENT.set(counts);
+        return scope;
+    }
+
+    public SqlStatementStats measure(Runnable action) {
+        try (Scope scope = open()) {
+            action.run();
+            return scope.stats();
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Counts counts = CURRENT.get();
+        if (counts != null) counts.startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Counts counts = CURRENT.get();
+        if (counts == null) return;
+
+        counts.statements++;
+        counts.jdbcNanos += System.nanoTime() - counts.startedAt;
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (!"next".equals(executionContext.getMethod().getName())) return;
+        if (!(executionContext.getTarget() instanceof ResultSet)) return;
+
+        Counts counts = CURRENT.get();
+        if (counts != null && Boolean.TRUE.equals(executionContext.getResult())) counts.rows++;
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Counts counts;
+        private final Counts parent;
+        private boolean closed;
+
+        private Scope(Counts counts, Counts parent) {
+            this.counts = counts;
+            this.parent = parent;
+        }
+
+        public SqlStatementStats stats() {
+            return new SqlStatementStats(counts.statements, counts.rows, Duration.ofNanos(counts.jdbcNanos));
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+
+            if (parent == null) {
+                CURRENT.remove();
+                return;
+            }
+            parent.statements += counts.statements;
+            parent.rows += counts.rows;
+            parent.jdbcNanos += counts.jdbcNanos;
+            CURRENT.set(parent);
+        }
+    }
+
+    private static final class Counts {
+        long statements;
+        long rows;
+        long jdbcNanos;
+        long startedAt;
+    }
+}
@@ -0,0 +1,10 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import java.time.Duration;
+
+/**
+ * Comandos SQL executados, linhas lidas dos ResultSets e tempo gasto no driver JDBC dentro de um escopo.
+ * {@code rows} fica zerado quando a contagem de linhas está desligada.
+ */
+public record SqlStatementStats(long statements, long rows, Duration jdbcTime) {
+}
@@ -0,0 +1,16 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import com.fretemais.drivermanager.domain.model.UserAccount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UserAccountRepository extends JpaRepository<UserAccount, UUID> {
+
+    @Query("select u.passwordHash from UserAccount u where u.username = :username")
+    Optional<String> findPasswordHashByUsername(String username);
+}
@@ -0,0 +1,51 @@
+package com.fretemais.drivermanager.infrastructure.search;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de um bit por célula, sem remoção. Os bits são ligados com operações atômicas, então
+ * inclusões e consultas concorrentes não pegam lock. Dimensionado para a capacidade e a taxa de falso positivo
+ * informadas.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long cells;
+    private final int hashes;
+    private final AtomicLong size = new AtomicLong();
+
+    public BloomFilter(long capacity, double falsePositiveRate) {
+        double bits = -capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.cells = Math.max(64, (long) Math.ceil(bits));
+        this.hashes = Math.max(1, (int) Math.round(cells / (double) capacity * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((cells + 63) / 64));
+    }
+
+    public void add(String key) {
+        long hash = CountingBloomFilter.hash(key);
+        for (int i = 0; i < hashes; i++) {
+            long cell = CountingBloomFilter.cell(hash, i, cells);
+            long mask = 1L << (cell & 63);
+            bits.getAndAccumulate((int) (cell >>> 6), mask, (word, m) -> word | m);
+        }
+        size.incrementAndGet();
+    }
+
+    public boolean mightContain(String key) {
+        long hash = CountingBloomFilter.hash(key);
+        for (int i = 0; i < hashes; i++) {
+            long cell = CountingBloomFilter.cell(hash, i, cells);
+            if ((bits.get((int) (cell >>> 6)) & (1L << (cell & 63))) == 0) return false;
+        }
+        return true;
+    }
+
+    public long size() {
+        return size.get();
+    }
+
+    public long memoryBytes() {
+        return bits.length() * (long) Long.BYTES;
+    }
+}
@@ -0,0 +1,104 @@
+package com.fretemais.drivermanager.infrastructure.search;
+
+/**
+ * Filtro de Bloom com contadores de 4 bits (16 por {@code long}), o que permite remover chaves.
+ * Contadores que chegam a 15 ficam saturados e não são mais decrementados, para nunca gerar falso negativo
+ * por estouro. Dimensionado para a capacidade e a taxa de falso positivo informadas. Não é thread-safe.
+ */
+public final class CountingBloomFilter {
+
+    private static final int MAX_COUNT = 15;
+
+    private final long[] counters;
+    private final long cells;
+    private final int hashes;
+    private long size;
+
+    public CountingBloomFilter(long capacity, double falsePositiveRate) {
+        double bits = -capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.cells = Math.max(64, (long) Math.ceil(bits));
+        this.hashes = Math.max(1, (int) Math.round(cells / (double) capacity * Math.log(2)));
+        this.counters = new long[(int) ((cells + 15) / 16)];
+    }
+
+    public void add(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < hashes; i++) {
+            long cell = cell(hash, i);
+            int count = get(cell);
+            if (count < MAX_COUNT) set(cell, count + 1);
+        }
+        size++;
+    }
+
+    public void remove(String key) {
+        if (!mightContain(key)) return;
+
+        long hash = hash(key);
+        for (int i = 0; i < hashes; i++) {
+            long cell = cell(hash, i);
+            int count = get(cell);
+            if (count < MAX_COUNT) set(cell, count - 1);
+        }
+        size--;
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < hashes; i++) {
+            if (get(cell(hash, i)) == 0) return false;
+        }
+        return true;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long memoryBytes() {
+        return counters.length * (long) Long.BYTES;
+    }
+
+    /**
+     * Taxa de falso positivo esperada para a ocupação atual: (1 - e^(-k·n/m))^k.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-hashes * (double) size / cells), hashes);
+    }
+
+    private long cell(long hash, int i) {
+        return cell(hash, i, cells);
+    }
+
+    // Hashing duplo de Kirsch-Mitzenmacher, compartilhado com o BloomFilter
+    static long cell(long hash, int i, long cells) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return Math.floorMod(h1 + (long) i * h2, cells);
+    }
+
+    private int get(long cell) {
+        return (int) (counters[(int) (cell >>> 4)] >>> ((cell & 15) << 2)) & MAX_COUNT;
+    }
+
+    private void set(long cell, int count) {
+        int word = (int) (cell >>> 4);
+        int shift = (int) ((cell & 15) << 2);
+        counters[word] = (counters[word] & ~((long) MAX_COUNT << shift)) | ((long) count << shift);
+    }
+
+    // FNV-1a de 64 bits seguido do finalizador do MurmurHash3 para espalhar os bits altos e baixos
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
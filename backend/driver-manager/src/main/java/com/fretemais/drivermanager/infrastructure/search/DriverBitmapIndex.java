@@ -0,0 +1,241 @@
+package com.fretemais.drivermanager.infrastructure.search;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverSnapshot;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverBitmapRow;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice de bitmaps sobre ordinais densos de motoristas para os filtros de baixa cardinalidade:
+ * um bitmap por UF, por tipo de veículo e para disponibilidade. Filtros viram AND/OR de bitmaps,
+ * respondendo contagens sem ir ao banco.
+ * <p>
+ * Só as escritas desta instância chegam por evento; escritas de outras instâncias ou direto no banco aparecem
+ * na próxima reconstrução, a cada {@code rebuild-interval}. Por isso o índice responde só contagens (o banco
+ * continua decidindo quais linhas atendem aos filtros) e deixa de responder se a última reconstrução ficou
+ * mais de dois intervalos para trás.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DriverBitmapIndex {
+
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
+    private final DriverRepository driverRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${search.bitmap-index.enabled:false}")
+    protected boolean enabled;
+
+    @Value("${search.bitmap-index.rebuild-interval:5m}")
+    protected Duration rebuildInterval;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Contents contents = new Contents();
+    private List<DriverChangedEvent> pending;
+    private ScheduledExecutorService scheduler;
+    private volatile long rebuiltAt;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("driver-bitmap-rebuild").factory());
+        scheduler.scheduleWithFixedDelay(this::rebuildQuietly, 0, rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+
+    public void rebuild() {
+        if (!enabled) return;
+
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Contents rebuilt = new Contents();
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                try (Stream<DriverBitmapRow> rows = driverRepository.streamBitmapRows()) {
+                    rows.forEach(row -> rebuilt.put(row.id(), row.state(), row.vehicleTypes(), row.available()));
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pending.forEach(rebuilt::apply);
+            pending = null;
+            contents = rebuilt;
+            rebuiltAt = started;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de bitmaps construído com {} motoristas e {} UFs", rebuilt.ordinals.size(), rebuilt.byState.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(DriverCatalogChangedEvent event) {
+        if (!enabled) return;
+
+        if (scheduler == null) rebuild();
+        else scheduler.execute(this::rebuildQuietly);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDriverChanged(DriverChangedEvent event) {
+        if (!enabled) return;
+
+        lock.writeLock().lock();
+        try {
+            contents.apply(event);
+            if (pending != null) pending.add(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Quantidade de motoristas que atendem aos filtros; vazio enquanto o índice não está pronto ou fresco.
+     * Filtros nulos ou vazios não restringem; {@code states} e {@code vehicles} são OR dentro do filtro.
+     */
+    public OptionalLong count(Collection<String> states, Collection<VehicleType> vehicles, Boolean available) {
+        if (!isReady()) return OptionalLong.empty();
+
+        lock.readLock().lock();
+        try {
+            return OptionalLong.of(contents.evaluate(states, vehicles, available).cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Se as reconstruções pararem, as contagens voltam ao banco em vez de ignorar escritas de outras instâncias
+    public boolean isReady() {
+        return ready && System.nanoTime() - rebuiltAt <= 2 * rebuildInterval.toNanos();
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao reconstruir o índice de bitmaps", e);
+        }
+    }
+
+    private static String normalize(String state) {
+        return state.toUpperCase(Locale.ROOT);
+    }
+
+    private static final class Contents {
+
+        private final Map<String, BitSet> byState = new HashMap<>();
+        private final BitSet[] byVehicle = new BitSet[VEHICLE_TYPES.length];
+        private final BitSet available = new BitSet();
+        private final BitSet live = new BitSet();
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private final ArrayDeque<Integer> freeOrdinals = new ArrayDeque<>();
+        private int nextOrdinal;
+
+        {
+            for (int i = 0; i < byVehicle.length; i++) byVehicle[i] = new BitSet();
+        }
+
+        // Idempotente: parte do que está indexado para o ID, não do "before" do evento
+        void apply(DriverChangedEvent event) {
+            remove(event.id());
+            if (!event.isDeletion()) {
+                DriverSnapshot driver = event.after();
+                put(driver.id(), driver.state(), driver.vehicleTypes(), driver.available());
+            }
+        }
+
+        BitSet evaluate(Collection<String> states, Collection<VehicleType> vehicles, Boolean wantAvailable) {
+            BitSet result = (BitSet) live.clone();
+
+            if (states != null && !states.isEmpty()) {
+                BitSet union = new BitSet();
+                for (String state : states) {
+                    BitSet bitmap = byState.get(normalize(state));
+                    if (bitmap != null) union.or(bitmap);
+                }
+                result.and(union);
+            }
+
+            if (vehicles != null && !vehicles.isEmpty()) {
+                BitSet union = new BitSet();
+                for (VehicleType type : vehicles) union.or(byVehicle[type.ordinal()]);
+                result.and(union);
+            }
+
+            if (Boolean.TRUE.equals(wantAvailable)) result.and(available);
+            if (Boolean.FALSE.equals(wantAvailable)) result.andNot(available);
+            return result;
+        }
+
+        void put(UUID id, String state, List<VehicleType> vehicles, boolean isAvailable) {
+            int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+            ordinals.put(id, ordinal);
+
+            live.set(ordinal);
+            if (state != null) byState.computeIfAbsent(normalize(state), key -> new BitSet()).set(ordinal);
+            if (vehicles != null) {
+                for (VehicleType type : vehicles) byVehicle[type.ordinal()].set(ordinal);
+            }
+            if (isAvailable) available.set(ordinal);
+        }
+
+        void remove(UUID id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) return;
+
+            live.clear(ordinal);
+            byState.values().forEach(bitmap -> bitmap.clear(ordinal));
+            for (BitSet bitmap : byVehicle) bitmap.clear(ordinal);
+            available.clear(ordinal);
+            freeOrdinals.push(ordinal);
+        }
+    }
+}
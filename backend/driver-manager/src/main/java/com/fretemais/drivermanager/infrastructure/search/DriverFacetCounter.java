@@ -0,0 +1,203 @@
+package com.fretemais.drivermanager.infrastructure.search;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverSnapshot;
+import com.fretemais.drivermanager.domain.model.VehicleTypesConverter;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverFacetRow;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Contadores de motoristas por célula (estado, combinação de veículos, disponibilidade), mantidos a cada escrita.
+ * Cada célula é um {@link LongAdder} e as escritas nunca esperam: cada uma marca, ao começar o commit, a geração
+ * de contadores em que seu delta vai entrar. A recontagem abre uma geração nova antes da consulta, então deltas de
+ * commits anteriores, que a consulta já enxerga, ficam na geração descartada. Só um commit que cruza o instante em
+ * que a consulta começa pode ficar uma unidade fora até a recontagem seguinte.
+ * <p>
+ * Escritas de outras instâncias só entram na recontagem seguinte, a cada {@code recount-interval}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DriverFacetCounter {
+
+    private final DriverRepository driverRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${search.facets.enabled:true}")
+    protected boolean enabled;
+
+    @Value("${search.facets.recount-interval:5m}")
+    protected Duration recountInterval;
+
+    private final ReentrantLock recountLock = new ReentrantLock();
+    private volatile Generation writing = new Generation();
+    private volatile Generation published = writing;
+    private ScheduledExecutorService scheduler;
+    private volatile long recountedAt;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("driver-facet-recount").factory());
+        scheduler.scheduleWithFixedDelay(this::recountQuietly, 0, recountInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+
+    public void recount() {
+        if (!enabled) return;
+
+        recountLock.lock();
+        try {
+            long started = System.nanoTime();
+            Generation next = new Generation();
+            writing = next;
+
+            List<DriverFacetRow> rows;
+            try {
+                TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+                transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                transaction.setReadOnly(true);
+                rows = transaction.execute(status -> driverRepository.countFacets(null));
+            } catch (RuntimeException e) {
+                // Os deltas marcados com a geração abandonada se perderam: o banco responde até a próxima recontagem
+                ready = false;
+                writing = published;
+                throw e;
+            }
+
+            // Deltas de commits que começaram depois da troca já estão em next; a contagem soma por cima
+            for (DriverFacetRow row : rows) {
+                next.adder(Cell.of(row.state(), row.vehicleTypes(), row.available())).add(row.count());
+            }
+            published = next;
+            recountedAt = started;
+            ready = true;
+            log.info("Contadores de facetas recalculados com {} células", next.cells.size());
+        } finally {
+            recountLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(DriverCatalogChangedEvent event) {
+        if (!enabled) return;
+
+        if (scheduler == null) recount();
+        else scheduler.execute(this::recountQuietly);
+    }
+
+    /**
+     * Marca a geração antes do commit e aplica o delta nela só se a transação confirmar. Se uma recontagem começar
+     * no meio, o delta fica na geração antiga: a consulta da recontagem começa depois e já vê a linha gravada.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onDriverChanged(DriverChangedEvent event) {
+        if (!enabled) return;
+
+        Generation generation = writing;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            generation.apply(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                generation.apply(event);
+            }
+        });
+    }
+
+    public Optional<List<DriverFacetRow>> rows(String state, List<VehicleType> vehicles) {
+        if (!isReady()) return Optional.empty();
+
+        String wantedState = StringUtils.hasText(state) ? state.toUpperCase(Locale.ROOT) : null;
+        int wantedVehicles = VehicleTypesConverter.mask(vehicles);
+        VehicleTypesConverter converter = new VehicleTypesConverter();
+
+        List<DriverFacetRow> rows = new ArrayList<>();
+        published.cells.forEach((cell, adder) -> {
+            if (wantedState != null && !wantedState.equals(cell.state())) return;
+            if (wantedVehicles != 0 && (wantedVehicles & cell.vehicles()) == 0) return;
+
+            long count = adder.sum();
+            if (count > 0) {
+                rows.add(new DriverFacetRow(cell.state(), converter.convertToEntityAttribute(cell.vehicles()), cell.available(), count));
+            }
+        });
+        return Optional.of(rows);
+    }
+
+    // Se as recontagens pararem, as facetas voltam ao banco em vez de ignorar escritas de outras instâncias
+    public boolean isReady() {
+        return ready && System.nanoTime() - recountedAt <= 2 * recountInterval.toNanos();
+    }
+
+    private void recountQuietly() {
+        try {
+            recount();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao recontar as facetas", e);
+        }
+    }
+
+    private static final class Generation {
+
+        private final Map<Cell, LongAdder> cells = new ConcurrentHashMap<>();
+
+        void apply(DriverChangedEvent event) {
+            if (event.before() != null) adder(event.before()).decrement();
+            if (event.after() != null) adder(event.after()).increment();
+        }
+
+        LongAdder adder(DriverSnapshot driver) {
+            return adder(Cell.of(driver.state(), driver.vehicleTypes(), driver.available()));
+        }
+
+        LongAdder adder(Cell cell) {
+            return cells.computeIfAbsent(cell, key -> new LongAdder());
+        }
+    }
+
+    private record Cell(String state, int vehicles, boolean available) {
+
+        static Cell of(String state, List<VehicleType> vehicles, boolean available) {
+            return new Cell(state == null ? null : state.toUpperCase(Locale.ROOT), VehicleTypesConverter.mask(vehicles), available);
+        }
+    }
+}
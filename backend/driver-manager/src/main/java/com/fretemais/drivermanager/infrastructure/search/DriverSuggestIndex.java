@@ -0,0 +1,191 @@
+package com.fretemais.drivermanager.infrastructure.search;
+
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverSnapshot;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverSuggestRow;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Sugestões de nomes e cidades por prefixo, sem acentos e sem diferenciar maiúsculas.
+ * A reconstrução roda em segundo plano sobre tries novas, enquanto as atuais continuam respondendo;
+ * escritas que chegam durante a reconstrução são reaplicadas antes da troca.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DriverSuggestIndex {
+
+    private final DriverRepository driverRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${search.suggest.enabled:true}")
+    protected boolean enabled;
+
+    @Value("${search.suggest.rebuild-interval:1h}")
+    protected Duration rebuildInterval;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Contents contents = new Contents();
+    private List<DriverChangedEvent> pending;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("driver-suggest-rebuild").factory());
+        scheduler.scheduleWithFixedDelay(this::rebuildQuietly, 0, rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+
+    public void rebuild() {
+        if (!enabled) return;
+
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Contents rebuilt = new Contents();
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                try (Stream<DriverSuggestRow> rows = driverRepository.streamSuggestRows()) {
+                    rows.forEach(row -> rebuilt.put(row.id(), row.name(), row.city()));
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pending.forEach(rebuilt::apply);
+            pending = null;
+            contents = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de sugestões construído com {} nomes e {} cidades", rebuilt.names.size(), rebuilt.cities.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(DriverCatalogChangedEvent event) {
+        if (!enabled) return;
+
+        if (scheduler == null) rebuild();
+        else scheduler.execute(this::rebuildQuietly);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDriverChanged(DriverChangedEvent event) {
+        if (!enabled) return;
+
+        lock.writeLock().lock();
+        try {
+            contents.apply(event);
+            if (pending != null) pending.add(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<List<String>> names(String prefix, int limit) {
+        return search(prefix, limit, true);
+    }
+
+    public Optional<List<String>> cities(String prefix, int limit) {
+        return search(prefix, limit, false);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private Optional<List<String>> search(String prefix, int limit, boolean names) {
+        if (!ready) return Optional.empty();
+
+        lock.readLock().lock();
+        try {
+            return Optional.of((names ? contents.names : contents.cities).search(prefix, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao reconstruir o índice de sugestões", e);
+        }
+    }
+
+    private static final class Contents {
+
+        private final PrefixTrie names = new PrefixTrie();
+        private final PrefixTrie cities = new PrefixTrie();
+        private final Map<UUID, Entry> entries = new HashMap<>();
+
+        // Idempotente: parte do que está indexado para o ID, não do "before" do evento
+        void apply(DriverChangedEvent event) {
+            Entry previous = entries.remove(event.id());
+            if (previous != null) {
+                names.remove(previous.name());
+                cities.remove(previous.city());
+            }
+            if (!event.isDeletion()) {
+                DriverSnapshot driver = event.after();
+                put(driver.id(), driver.name(), driver.city());
+            }
+        }
+
+        void put(UUID id, String name, String city) {
+            entries.put(id, new Entry(name, city));
+            names.add(name);
+            cities.add(city);
+        }
+    }
+
+    private record Entry(String name, String city) {
+    }
+}
@@ -0,0 +1,296 @@
+package com.fretemais.drivermanager.infrastructure.search;
+
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverSnapshot;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverTextRow;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido de trigramas sobre nome, email, CPF, CNH e telefone.
+ * Responde ao filtro {@code text} com o conjunto exato de IDs cujos campos contêm o termo,
+ * ou vazio (Optional) quando a busca deve cair no caminho SQL.
+ * <p>
+ * A reconstrução roda em segundo plano sobre um índice novo, enquanto o atual continua respondendo. Só as escritas
+ * desta instância chegam por evento; as de outras instâncias aparecem na próxima reconstrução, a cada
+ * {@code rebuild-interval}. Como o índice decide quais IDs entram na consulta, ele deixa de responder se a última
+ * reconstrução ficou mais de dois intervalos para trás, e a busca volta ao {@code LIKE}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DriverTextIndex {
+
+    private static final int GRAM = 3;
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final DriverRepository driverRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${search.text-index.enabled:false}")
+    protected boolean enabled;
+
+    @Value("${search.text-index.max-candidates:1000}")
+    protected int maxCandidates;
+
+    @Value("${search.text-index.rebuild-interval:5m}")
+    protected Duration rebuildInterval;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Contents contents = new Contents();
+    private List<DriverChangedEvent> pending;
+    private ScheduledExecutorService scheduler;
+    private volatile long rebuiltAt;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("driver-text-rebuild").factory());
+        scheduler.scheduleWithFixedDelay(this::rebuildQuietly, 0, rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+
+    public void rebuild() {
+        if (!enabled) return;
+
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Contents rebuilt = new Contents();
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                try (Stream<DriverTextRow> rows = driverRepository.streamTextRows()) {
+                    rows.forEach(row -> rebuilt.put(row.id(), document(row.name(), row.email(), row.cpf(), row.cnh(), row.phoneNumber())));
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pending.forEach(rebuilt::apply);
+            pending = null;
+            contents = rebuilt;
+            rebuiltAt = started;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de texto construído com {} motoristas e {} trigramas", rebuilt.ordinals.size(), rebuilt.postings.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(DriverCatalogChangedEvent event) {
+        if (!enabled) return;
+
+        if (scheduler == null) rebuild();
+        else scheduler.execute(this::rebuildQuietly);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDriverChanged(DriverChangedEvent event) {
+        if (!enabled) return;
+
+        lock.writeLock().lock();
+        try {
+            contents.apply(event);
+            if (pending != null) pending.add(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Set<UUID>> search(String text) {
+        if (!isReady() || !StringUtils.hasText(text)) return Optional.empty();
+
+        String term = text.toLowerCase(Locale.ROOT);
+        if (term.length() < GRAM) return Optional.empty();
+
+        lock.readLock().lock();
+        try {
+            return contents.search(term, maxCandidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Se as reconstruções pararem, a busca volta ao LIKE em vez de ignorar escritas de outras instâncias
+    public boolean isReady() {
+        return ready && System.nanoTime() - rebuiltAt <= 2 * rebuildInterval.toNanos();
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao reconstruir o índice de texto", e);
+        }
+    }
+
+    private static boolean containsInAll(List<Postings> lists, int ordinal) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(ordinal)) return false;
+        }
+        return true;
+    }
+
+    private static String document(String... fields) {
+        StringJoiner joiner = new StringJoiner(String.valueOf(FIELD_SEPARATOR));
+        for (String field : fields) {
+            joiner.add(field == null ? "" : field.toLowerCase(Locale.ROOT));
+        }
+        return joiner.toString();
+    }
+
+    private static Set<Long> grams(String value) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            char first = value.charAt(i);
+            char second = value.charAt(i + 1);
+            char third = value.charAt(i + 2);
+            if (first == FIELD_SEPARATOR || second == FIELD_SEPARATOR || third == FIELD_SEPARATOR) continue;
+
+            grams.add(((long) first << 32) | ((long) second << 16) | third);
+        }
+        return grams;
+    }
+
+    private static final class Contents {
+
+        private final Map<Long, Postings> postings = new HashMap<>();
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private final List<UUID> ids = new ArrayList<>();
+        private final List<String> documents = new ArrayList<>();
+        private final ArrayDeque<Integer> freeOrdinals = new ArrayDeque<>();
+
+        // Idempotente: parte do que está indexado para o ID, não do "before" do evento
+        void apply(DriverChangedEvent event) {
+            remove(event.id());
+            if (!event.isDeletion()) {
+                DriverSnapshot driver = event.after();
+                put(driver.id(), document(driver.name(), driver.email(), driver.cpf(), driver.cnh(), driver.phoneNumber()));
+            }
+        }
+
+        Optional<Set<UUID>> search(String term, int maxCandidates) {
+            List<Postings> lists = new ArrayList<>();
+            for (long gram : grams(term)) {
+                Postings list = postings.get(gram);
+                if (list == null) return Optional.of(Set.of());
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            Postings smallest = lists.getFirst();
+            Set<UUID> matches = new HashSet<>();
+            for (int i = 0; i < smallest.size; i++) {
+                int ordinal = smallest.values[i];
+                if (!containsInAll(lists, ordinal) || !documents.get(ordinal).contains(term)) continue;
+
+                matches.add(ids.get(ordinal));
+                if (matches.size() > maxCandidates) return Optional.empty();
+            }
+            return Optional.of(matches);
+        }
+
+        void put(UUID id, String document) {
+            int ordinal = freeOrdinals.isEmpty() ? ids.size() : freeOrdinals.pop();
+            if (ordinal == ids.size()) {
+                ids.add(id);
+                documents.add(document);
+            } else {
+                ids.set(ordinal, id);
+                documents.set(ordinal, document);
+            }
+            ordinals.put(id, ordinal);
+
+            for (long gram : grams(document)) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(ordinal);
+            }
+        }
+
+        void remove(UUID id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) return;
+
+            for (long gram : grams(documents.get(ordinal))) {
+                Postings list = postings.get(gram);
+                if (list != null && list.remove(ordinal) && list.size == 0) postings.remove(gram);
+            }
+            ids.set(ordinal, null);
+            documents.set(ordinal, null);
+            freeOrdinals.push(ordinal);
+        }
+    }
+
+    private static final class Postings {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) return;
+
+            int insertAt = -index - 1;
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = value;
+            size++;
+        }
+
+        boolean remove(int value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index < 0) return false;
+
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.fretemais.drivermanager.infrastructure.search;
+
+import com.fretemais.drivermanager.application.dtos.UniqueKeyFilterStatsDTO;
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverSnapshot;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverUniqueRow;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Filtro de Bloom com contagem sobre nome, email, telefone, CPF e CNH dos motoristas. Quando nenhum valor
+ * de uma escrita pode estar no filtro, a conferência de unicidade no banco é dispensada; respostas
+ * "talvez" seguem para o banco. As constraints únicas continuam valendo se o filtro estiver defasado.
+ * <p>
+ * A reconstrução roda em segundo plano sobre um filtro novo, enquanto o atual continua respondendo. Das escritas
+ * que chegam no meio, só as inclusões são reaplicadas no filtro novo: repetir uma remoção que a leitura já refletiu
+ * baixaria contadores de outras chaves e poderia gerar um falso "não cadastrado"; uma chave antiga que sobra só
+ * custa uma consulta ao banco.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DriverUniqueKeyFilter {
+
+    private static final int KEYS_PER_DRIVER = 5;
+    private static final char NAME = 'n';
+    private static final char EMAIL = 'e';
+    private static final char PHONE = 'p';
+    private static final char CPF = 'c';
+    private static final char CNH = 'h';
+
+    private final DriverRepository driverRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${search.unique-filter.enabled:false}")
+    protected boolean enabled;
+
+    @Value("${search.unique-filter.false-positive-rate:0.01}")
+    protected double falsePositiveRate = 0.01;
+
+    @Value("${search.unique-filter.min-capacity:100000}")
+    protected long minCapacity = 100_000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private CountingBloomFilter filter;
+    private List<DriverChangedEvent> pending;
+    private ExecutorService executor;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+
+        executor = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("driver-unique-rebuild").factory());
+        executor.execute(this::rebuildQuietly);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) executor.shutdownNow();
+    }
+
+    public void rebuild() {
+        if (!enabled) return;
+
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        CountingBloomFilter rebuilt;
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transaction.setReadOnly(true);
+            rebuilt = transaction.execute(status -> {
+                // Folga de 2x sobre o tamanho atual para absorver cadastros até a próxima reconstrução
+                long capacity = Math.max(minCapacity, driverRepository.count() * KEYS_PER_DRIVER * 2);
+                CountingBloomFilter next = new CountingBloomFilter(capacity, falsePositiveRate);
+                try (Stream<DriverUniqueRow> rows = driverRepository.streamUniqueRows()) {
+                    rows.forEach(row -> add(next, row.name(), row.email(), row.phoneNumber(), row.cpf(), row.cnh()));
+                }
+                return next;
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (DriverChangedEvent event : pending) {
+                DriverSnapshot after = event.after();
+                if (after != null) add(rebuilt, after.name(), after.email(), after.phoneNumber(), after.cpf(), after.cnh());
+            }
+            pending = null;
+            filter = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Filtro de unicidade construído com {} chaves em {} KB", rebuilt.size(), rebuilt.memoryBytes() / 1024);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(DriverCatalogChangedEvent event) {
+        if (!enabled) return;
+
+        if (executor == null) rebuild();
+        else executor.execute(this::rebuildQuietly);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDriverChanged(DriverChangedEvent event) {
+        if (!enabled) return;
+
+        lock.writeLock().lock();
+        try {
+            if (pending != null) pending.add(event);
+            if (filter == null) return;
+
+            DriverSnapshot before = event.before();
+            if (before != null) {
+                remove(NAME, before.name());
+                remove(EMAIL, before.email());
+                remove(PHONE, before.phoneNumber());
+                remove(CPF, before.cpf());
+                remove(CNH, before.cnh());
+            }
+            DriverSnapshot after = event.after();
+            if (after != null) add(filter, after.name(), after.email(), after.phoneNumber(), after.cpf(), after.cnh());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@code false} só quando é certo que nenhum dos valores está cadastrado; valores nulos são ignorados.
+     * Enquanto o filtro não está pronto, responde sempre {@code true}.
+     */
+    public boolean mayBeTaken(String name, String email, String phone, String cpf, String cnh) {
+        if (!ready) return true;
+
+        boolean mayBeTaken;
+        lock.readLock().lock();
+        try {
+            mayBeTaken = mightContain(NAME, name) || mightContain(EMAIL, email) || mightContain(PHONE, phone)
+                    || mightContain(CPF, cpf) || mightContain(CNH, cnh);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        checks.increment();
+        if (!mayBeTaken) skipped.increment();
+        return mayBeTaken;
+    }
+
+    /**
+     * Registra que uma resposta "talvez" foi ao banco e não encontrou conflito.
+     */
+    public void recordFalsePositive() {
+        if (ready) falsePositives.increment();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public UniqueKeyFilterStatsDTO stats() {
+        long keys = 0;
+        long memory = 0;
+        double expected = 0;
+        lock.readLock().lock();
+        try {
+            if (filter != null) {
+                keys = filter.size();
+                memory = filter.memoryBytes();
+                expected = filter.expectedFalsePositiveRate();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long checked = checks.sum();
+        long skippedChecks = skipped.sum();
+        long fp = falsePositives.sum();
+        return new UniqueKeyFilterStatsDTO(checked, skippedChecks, fp,
+                ratio(skippedChecks, checked), ratio(fp, fp + skippedChecks), expected, keys, memory);
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao reconstruir o filtro de unicidade", e);
+        }
+    }
+
+    private static void add(CountingBloomFilter target, String name, String email, String phone, String cpf, String cnh) {
+        add(target, NAME, name);
+        add(target, EMAIL, email);
+        add(target, PHONE, phone);
+        add(target, CPF, cpf);
+        add(target, CNH, cnh);
+    }
+
+    private static void add(CountingBloomFilter target, char field, String value) {
+        if (value != null) target.add(key(field, value));
+    }
+
+    private void remove(char field, String value) {
+        if (value != null) filter.remove(key(field, value));
+    }
+
+    private boolean mightContain(char field, String value) {
+        return value != null && filter.mightContain(key(field, value));
+    }
+
+    // Um único filtro para os cinco campos; o prefixo evita que o mesmo texto em campos diferentes colida
+    private static String key(char field, String value) {
+        return field + ":" + value;
+    }
+
+    private static double ratio(long part, long total) {
+        return total == 0 ? 0 : (double) part / total;
+    }
+}
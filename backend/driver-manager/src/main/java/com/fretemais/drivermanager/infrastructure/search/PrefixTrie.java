@@ -0,0 +1,198 @@
+package com.fretemais.drivermanager.infrastructure.search;
+
+import com.fretemais.drivermanager.domain.model.TextNormalizer;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Trie compactada (radix) sobre o texto sem acentos e em minúsculas. Cada chave guarda as formas
+ * originais com contagem de referências, para que valores repetidos (cidades) saiam uma única vez
+ * e só sumam quando o último motorista deixar de usá-los. Não é thread-safe.
+ */
+final class PrefixTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node("");
+    private int size;
+
+    void add(String value) {
+        if (!StringUtils.hasText(value)) return;
+
+        Node node = insert(TextNormalizer.fold(value.strip()));
+        if (node.values == null) node.values = new TreeMap<>();
+        if (node.values.merge(value, 1, Integer::sum) == 1) size++;
+    }
+
+    void remove(String value) {
+        if (!StringUtils.hasText(value)) return;
+        remove(root, TextNormalizer.fold(value.strip()), 0, value);
+    }
+
+    /**
+     * Até {@code limit} valores originais cujas chaves começam pelo prefixo, em ordem alfabética da chave.
+     */
+    List<String> search(String prefix, int limit) {
+        List<String> matches = new ArrayList<>(limit);
+        if (!StringUtils.hasText(prefix) || limit <= 0) return matches;
+
+        String key = TextNormalizer.fold(prefix.strip());
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.child(key.charAt(position));
+            if (child == null) return matches;
+
+            int common = commonPrefix(child.label, key, position);
+            if (position + common == key.length()) {
+                collect(child, matches, limit);
+                return matches;
+            }
+            if (common < child.label.length()) return matches;
+
+            position += common;
+            node = child;
+        }
+        collect(node, matches, limit);
+        return matches;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private Node insert(String key) {
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.child(key.charAt(position));
+            if (child == null) {
+                Node leaf = new Node(key.substring(position));
+                node.addChild(leaf);
+                return leaf;
+            }
+
+            int common = commonPrefix(child.label, key, position);
+            if (common < child.label.length()) child = split(node, child, common);
+
+            position += common;
+            node = child;
+        }
+        return node;
+    }
+
+    private boolean remove(Node node, String key, int position, String value) {
+        if (position == key.length()) {
+            if (node.values == null) return false;
+
+            Integer references = node.values.get(value);
+            if (references == null) return false;
+            if (references > 1) {
+                node.values.put(value, references - 1);
+                return false;
+            }
+
+            node.values.remove(value);
+            if (node.values.isEmpty()) node.values = null;
+            size--;
+            return true;
+        }
+
+        Node child = node.child(key.charAt(position));
+        if (child == null || !key.startsWith(child.label, position)) return false;
+        if (!remove(child, key, position + child.label.length(), value)) return false;
+
+        if (child.values == null && child.children.length == 0) node.removeChild(child);
+        else if (child.values == null && child.children.length == 1) node.replaceChild(child, child.mergeWithOnlyChild());
+        return true;
+    }
+
+    private static Node split(Node parent, Node child, int at) {
+        Node middle = new Node(child.label.substring(0, at));
+        parent.replaceChild(child, middle);
+        child.label = child.label.substring(at);
+        middle.addChild(child);
+        return middle;
+    }
+
+    private static void collect(Node node, List<String> matches, int limit) {
+        if (node.values != null) {
+            for (String value : node.values.keySet()) {
+                matches.add(value);
+                if (matches.size() == limit) return;
+            }
+        }
+        for (Node child : node.children) {
+            collect(child, matches, limit);
+            if (matches.size() == limit) return;
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int position) {
+        int max = Math.min(label.length(), key.length() - position);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(position + i)) i++;
+        return i;
+    }
+
+    private static final class Node {
+
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private Map<String, Integer> values;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char first) {
+            int index = indexOf(first);
+            return index >= 0 ? children[index] : null;
+        }
+
+        void addChild(Node child) {
+            int insertAt = -indexOf(child.label.charAt(0)) - 1;
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, insertAt);
+            grown[insertAt] = child;
+            System.arraycopy(children, insertAt, grown, insertAt + 1, children.length - insertAt);
+            children = grown;
+        }
+
+        void removeChild(Node child) {
+            int index = indexOf(child.label.charAt(0));
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, index);
+            System.arraycopy(children, index + 1, shrunk, index, children.length - index - 1);
+            children = shrunk.length == 0 ? NO_CHILDREN : shrunk;
+        }
+
+        void replaceChild(Node current, Node replacement) {
+            children[indexOf(current.label.charAt(0))] = replacement;
+        }
+
+        Node mergeWithOnlyChild() {
+            Node only = children[0];
+            only.label = label + only.label;
+            return only;
+        }
+
+        private int indexOf(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char candidate = children[middle].label.charAt(0);
+                if (candidate < first) low = middle + 1;
+                else if (candidate > first) high = middle - 1;
+                else return middle;
+            }
+            return -(low + 1);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.fretemais.drivermanager.infrastructure.security;
+
+import com.fretemais.drivermanager.domain.model.UserAccount;
+import com.fretemais.drivermanager.infrastructure.persistence.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cria o usuário administrador quando a tabela de usuários está vazia e {@code auth.bootstrap.password} está definido.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminUserInitializer {
+
+    private final UserAccountRepository userAccountRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${auth.bootstrap.username:admin}")
+    protected String username = "admin";
+
+    @Value("${auth.bootstrap.password:}")
+    protected String password = "";
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createAdmin() {
+        if (password.isEmpty() || userAccountRepository.count() > 0) return;
+
+        userAccountRepository.save(UserAccount.builder()
+                .username(username)
+                .passwordHash(passwordEncoder.encode(password))
+                .build());
+        log.info("Usuário inicial '{}' criado", username);
+    }
+}
@@ -0,0 +1,136 @@
+package com.fretemais.drivermanager.infrastructure.security;
+
+import com.fretemais.drivermanager.application.dtos.CredentialVerifierStatsDTO;
+import com.fretemais.drivermanager.infrastructure.exceptions.LoginUnavailableException;
+import com.fretemais.drivermanager.infrastructure.exceptions.TooManyLoginAttemptsException;
+import com.fretemais.drivermanager.infrastructure.persistence.UserAccountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Confere usuário e senha com o hash gravado. O hash é lento de propósito e consome CPU, então roda em poucas
+ * threads de plataforma próprias com fila limitada: uma rajada de logins não rouba CPU das leituras de motoristas.
+ * Fila cheia vira 429 na hora, antes de consultar o banco; espera além de {@code timeout} vira 503. Usuários
+ * inexistentes também pagam um hash, para que o tempo de resposta não revele quais existem. Publica os timers
+ * {@code auth.verifier.hash} e {@code auth.verifier.latency} (com fila) e os gauges da fila e das threads ativas.
+ */
+@Component
+@RequiredArgsConstructor
+public class CredentialVerifier {
+
+    private final UserAccountRepository userAccountRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.verifier.threads:2}")
+    protected int threads = 2;
+
+    @Value("${auth.verifier.queue-capacity:32}")
+    protected int queueCapacity = 32;
+
+    @Value("${auth.verifier.timeout:5s}")
+    protected Duration timeout = Duration.ofSeconds(5);
+
+    private ThreadPoolExecutor executor;
+    private String unknownUserHash;
+
+    private Timer hashTimer;
+    private Timer latencyTimer;
+    private Counter rejected;
+    private Counter timedOut;
+
+    @PostConstruct
+    void init() {
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("credential-verifier-", 0).daemon().factory(), new ThreadPoolExecutor.AbortPolicy());
+        unknownUserHash = passwordEncoder.encode("usuario-inexistente");
+
+        hashTimer = Timer.builder("auth.verifier.hash")
+                .description("Tempo do hash de senha no executor do login")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        latencyTimer = Timer.builder("auth.verifier.latency")
+                .description("Tempo do login na fila mais o hash")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        rejected = Counter.builder("auth.verifier.rejected")
+                .description("Logins recusados com a fila cheia")
+                .register(meterRegistry);
+        timedOut = Counter.builder("auth.verifier.timeouts")
+                .description("Logins que passaram do tempo limite")
+                .register(meterRegistry);
+        Gauge.builder("auth.verifier.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Logins aguardando o executor")
+                .register(meterRegistry);
+        Gauge.builder("auth.verifier.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Threads do executor calculando hash")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public boolean verify(String username, String password) {
+        if (username == null || username.isBlank() || password == null || password.isEmpty()) return false;
+
+        // Com a fila cheia recusa sem ir ao banco; se lotar entre a checagem e o submit, o submit recusa
+        if (executor.getQueue().remainingCapacity() == 0) throw tooManyAttempts();
+
+        Optional<String> hash = userAccountRepository.findPasswordHashByUsername(username);
+        long submittedAt = System.nanoTime();
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> hashTimer.record(
+                    () -> passwordEncoder.matches(password, hash.orElse(unknownUserHash)) && hash.isPresent()));
+        } catch (RejectedExecutionException e) {
+            throw tooManyAttempts();
+        }
+
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            timedOut.increment();
+            throw new LoginUnavailableException("Verificação de credenciais indisponível no momento");
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoginUnavailableException("Verificação de credenciais indisponível no momento");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha ao verificar credenciais", e.getCause());
+        } finally {
+            latencyTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public CredentialVerifierStatsDTO stats() {
+        return new CredentialVerifierStatsDTO(hashTimer.count(), (long) rejected.count(), (long) timedOut.count(),
+                hashTimer.mean(TimeUnit.MILLISECONDS), latencyTimer.mean(TimeUnit.MILLISECONDS),
+                executor.getQueue().size(), queueCapacity, executor.getActiveCount(), threads);
+    }
+
+    private TooManyLoginAttemptsException tooManyAttempts() {
+        rejected.increment();
+        return new TooManyLoginAttemptsException("Muitas tentativas de login simultâneas, tente novamente em instantes");
+    }
+}
@@ -1,25 +1,68 @@
 package com.fretemais.drivermanager.infrastructure.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * Rotas liberadas sem autenticação em qualquer perfil; o filtro nem lê o cabeçalho nelas.
+     */
+    public static final RequestMatcher PUBLIC_ROUTES = new OrRequestMatcher(
+            PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, "/api/auth/login"),
+            PathPatternRequestMatcher.withDefaults().matcher("/swagger-ui/**"),
+            PathPatternRequestMatcher.withDefaults().matcher("/v3/api-docs/**"),
+            PathPatternRequestMatcher.withDefaults().matcher("/h2-console/**"),
+            PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.GET, "/actuator/health/**"));
+
+    // Expõe nomes de rotas, volumes e tempos: pública só onde auth.public-prometheus permitir
+    private static final RequestMatcher PROMETHEUS =
+            PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.GET, "/actuator/prometheus");
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final RequestMatcher publicRoutes;
+    private final Timer authenticated;
+    private final Timer rejected;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry,
+                                   @Value("${auth.public-prometheus:true}") boolean publicPrometheus) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.publicRoutes = publicPrometheus ? new OrRequestMatcher(PUBLIC_ROUTES, PROMETHEUS) : PUBLIC_ROUTES;
+        this.authenticated = timer(meterRegistry, "authenticated");
+        this.rejected = timer(meterRegistry, "rejected");
+    }
+
+    /**
+     * {@link #PUBLIC_ROUTES} mais {@code /actuator/prometheus} quando {@code auth.public-prometheus} é verdadeiro.
+     */
+    public RequestMatcher publicRoutes() {
+        return publicRoutes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return publicRoutes.matches(request);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -27,7 +70,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = getTokenFromRequest(request);
 
         if (token != null){
+            long start = System.nanoTime();
             String username = jwtTokenProvider.validateToken(token);
+            (username != null ? authenticated : rejected).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             if (username != null){
                 UserDetails userDetails = new User(username, "", Collections.emptyList());
 
@@ -39,6 +84,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // Só a validação do token; requisições sem token ou em rotas públicas não são medidas
+    private static Timer timer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.filter")
+                .description("Validação do JWT por requisição")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     private String getTokenFromRequest(HttpServletRequest request){
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")){
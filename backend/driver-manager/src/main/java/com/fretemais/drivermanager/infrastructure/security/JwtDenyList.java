@@ -0,0 +1,139 @@
+package com.fretemais.drivermanager.infrastructure.security;
+
+import com.fretemais.drivermanager.domain.model.RevokedToken;
+import com.fretemais.drivermanager.infrastructure.persistence.RevokedTokenRepository;
+import com.fretemais.drivermanager.infrastructure.search.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JWTs revogados por {@code jti}, consultados em toda requisição autenticada sem ir ao banco: um filtro de Bloom
+ * responde "não revogado" para quase todos os tokens e só os "talvez" conferem o conjunto exato.
+ * Filtro e conjunto formam um retrato publicado em um campo volátil, e a consulta não pega lock: o filtro liga
+ * bits atômicos e o conjunto é concorrente. Uma revogação entra no retrato atual em O(1); só a recarga monta um
+ * retrato novo e troca a referência.
+ * Cada revogação é gravada em {@code revoked_tokens} e a lista é recarregada de lá periodicamente,
+ * o que descarta os tokens já expirados e traz revogações feitas por outras instâncias. Uma revogação feita em
+ * outra instância só vale aqui depois da próxima recarga, no máximo {@code reload-interval} depois.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtDenyList {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.deny-list.capacity:100000}")
+    protected long capacity = 100_000;
+
+    @Value("${jwt.deny-list.false-positive-rate:0.001}")
+    protected double falsePositiveRate = 0.001;
+
+    @Value("${jwt.deny-list.reload-interval:10m}")
+    protected Duration reloadInterval = Duration.ofMinutes(10);
+
+    // Serializa revogações e a troca do retrato, para nenhuma revogação cair no retrato descartado
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void init() {
+        snapshot = new Snapshot(new ConcurrentHashMap<>(), new BloomFilter(capacity, falsePositiveRate));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reload();
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("jwt-deny-list-reload").factory());
+        scheduler.scheduleWithFixedDelay(this::reloadQuietly, reloadInterval.toMillis(), reloadInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+
+    /**
+     * Revoga o token até a expiração dele. Retorna {@code false}, sem gravar nada, para tokens sem {@code jti}
+     * ou já expirados.
+     */
+    public boolean revoke(String jti, long expiresAt) {
+        if (jti == null || expiresAt <= System.currentTimeMillis()) return false;
+
+        revokedTokenRepository.save(new RevokedToken(jti, Instant.ofEpochMilli(expiresAt)));
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current.revoked().putIfAbsent(jti, expiresAt) == null) current.filter().add(jti);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null) return false;
+
+        Snapshot current = snapshot;
+        return current.filter().mightContain(jti) && current.revoked().containsKey(jti);
+    }
+
+    public int size() {
+        return snapshot.revoked().size();
+    }
+
+    public void reload() {
+        reload(System.currentTimeMillis());
+    }
+
+    void reload(long now) {
+        Instant instant = Instant.ofEpochMilli(now);
+        Map<String, Long> loaded = new ConcurrentHashMap<>();
+        for (RevokedToken token : revokedTokenRepository.findActive(instant)) {
+            loaded.put(token.getJti(), token.getExpiresAt().toEpochMilli());
+        }
+        int deleted = revokedTokenRepository.deleteExpired(instant);
+
+        writeLock.lock();
+        try {
+            // Revogações gravadas depois da consulta já estão no retrato atual
+            snapshot.revoked().forEach((jti, expiresAt) -> {
+                if (expiresAt > now) loaded.putIfAbsent(jti, expiresAt);
+            });
+            BloomFilter rebuilt = new BloomFilter(Math.max(capacity, loaded.size() * 2L), falsePositiveRate);
+            loaded.keySet().forEach(rebuilt::add);
+            snapshot = new Snapshot(loaded, rebuilt);
+        } finally {
+            writeLock.unlock();
+        }
+        log.debug("Lista de tokens revogados recarregada com {} tokens; {} expirados removidos", loaded.size(), deleted);
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao recarregar a lista de tokens revogados", e);
+        }
+    }
+
+    // Revogações só acrescentam; a recarga descarta expirados em um retrato novo
+    private record Snapshot(Map<String, Long> revoked, BloomFilter filter) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.fretemais.drivermanager.infrastructure.security;
+
+import com.fretemais.drivermanager.application.dtos.CacheStatsDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Tokens já verificados, pela chave SHA-256 do token: um acerto dispensa o HMAC e a leitura das claims.
+ * Só guarda tokens válidos e os descarta ao expirar. Sem lock global, pois roda em toda requisição autenticada.
+ * Uma fila ordenada por expiração, alterada só em inserções e descartes, diz qual entrada sai primeiro quando o
+ * cache enche: as já expiradas e, se não houver, a que expira antes, sem varrer o mapa.
+ */
+@Component
+public class JwtTokenCache {
+
+    @Value("${jwt.token-cache.enabled:true}")
+    protected boolean enabled = true;
+
+    @Value("${jwt.token-cache.max-size:10000}")
+    protected int maxSize = 10_000;
+
+    private final ConcurrentHashMap<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Expiry> expiries = new ConcurrentSkipListSet<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled) return verifier.apply(token);
+
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = entries.get(key);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                hits.increment();
+                return cached;
+            }
+            if (entries.remove(key, cached)) {
+                expiries.remove(new Expiry(cached.expiresAt(), key));
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        VerifiedToken verified = verifier.apply(token);
+        if (verified != null && verified.expiresAt() > now) store(key, verified, now);
+        return verified;
+    }
+
+    public CacheStatsDTO stats() {
+        int size = entries.size();
+        return new CacheStatsDTO(hits.sum(), misses.sum(), evictions.sum(), 0, size, size, maxSize);
+    }
+
+    private void store(String key, VerifiedToken token, long now) {
+        // Tira do início da fila as expiradas e, enquanto estiver cheio, a que expira antes
+        Expiry soonest;
+        while ((soonest = expiries.ceiling(Expiry.FIRST)) != null
+                && (entries.size() >= maxSize || soonest.expiresAt() <= now)) {
+            if (expiries.remove(soonest) && entries.remove(soonest.key()) != null) evictions.increment();
+        }
+        entries.put(key, token);
+        expiries.add(new Expiry(token.expiresAt(), key));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Expiry(long expiresAt, String key) implements Comparable<Expiry> {
+
+        // Menor que qualquer entrada: ceiling(FIRST) lê o início da fila sem lançar exceção se ela estiver vazia
+        static final Expiry FIRST = new Expiry(Long.MIN_VALUE, "");
+
+        @Override
+        public int compareTo(Expiry other) {
+            int byTime = Long.compare(expiresAt, other.expiresAt);
+            return byTime != 0 ? byTime : key.compareTo(other.key);
+        }
+    }
+}
@@ -1,44 +1,74 @@
 package com.fretemais.drivermanager.infrastructure.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
     private static final long EXPIRE_TIME = 86400000; // 1 hora
 
+    private final JwtTokenCache tokenCache;
+    private final JwtDenyList denyList;
+
     @Value("${jwt.secret}")
     protected String secret;
 
-    private SecretKey getSecretKey(){
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    // Chave e parser são imutáveis e thread-safe: montados uma vez, não a cada requisição
+    private SecretKey secretKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     public String genereateToken(String username){
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + EXPIRE_TIME))
-                .signWith(getSecretKey())
+                .signWith(secretKey)
                 .compact();
     }
 
     public String validateToken(String token) {
+        VerifiedToken verified = tokenCache.get(token, this::verify);
+        if (verified == null || denyList.isRevoked(verified.id())) return null;
+        return verified.subject();
+    }
+
+    /**
+     * Revoga um token válido até a expiração dele. Retorna {@code false} se o token já era inválido ou não tem {@code jti}.
+     */
+    public boolean revokeToken(String token) {
+        VerifiedToken verified = tokenCache.get(token, this::verify);
+        if (verified == null) return false;
+
+        return denyList.revoke(verified.id(), verified.expiresAt());
+    }
+
+    private VerifiedToken verify(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSecretKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getSubject();
-        } catch (Exception e) {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Date expiration = claims.getExpiration();
+            return new VerifiedToken(claims.getSubject(), claims.getId(), expiration == null ? 0 : expiration.getTime());
+        } catch (JwtException | IllegalArgumentException e) {
             return null;
         }
     }
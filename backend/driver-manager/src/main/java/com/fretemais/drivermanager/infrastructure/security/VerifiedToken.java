@@ -0,0 +1,8 @@
+package com.fretemais.drivermanager.infrastructure.security;
+
+/**
+ * Resultado de um JWT com assinatura e validade já conferidas: o usuário, o {@code jti} usado na revogação e o
+ * instante de expiração em milissegundos.
+ */
+public record VerifiedToken(String subject, String id, long expiresAt) {
+}
@@ -0,0 +1,20 @@
+-- Esquema base equivalente ao mapeamento JPA de Driver.
+-- Bancos criados antes do Flyway são marcados como baseline (spring.flyway.baseline-on-migrate).
+CREATE TABLE IF NOT EXISTS drivers (
+    id           UUID PRIMARY KEY,
+    name         VARCHAR(255) UNIQUE,
+    cpf          VARCHAR(255) UNIQUE,
+    cnh          VARCHAR(255) UNIQUE,
+    phone_number VARCHAR(255) UNIQUE,
+    email        VARCHAR(255) UNIQUE,
+    available    BOOLEAN NOT NULL,
+    city         VARCHAR(255),
+    state        VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS driver_vehicle_types (
+    driver_id    UUID NOT NULL REFERENCES drivers (id),
+    vehicle_type VARCHAR(255) CHECK (vehicle_type IN ('CAR', 'MOTORCYCLE', 'TRUCK'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_driver_vehicle_types_driver_id ON driver_vehicle_types (driver_id);
@@ -0,0 +1,11 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- Mantida pela aplicação (Driver#refreshSearchDocument); o backfill abaixo usa a mesma normalização.
+ALTER TABLE drivers ADD COLUMN search_document VARCHAR(1280);
+
+UPDATE drivers
+SET search_document = lower(unaccent(concat_ws('|', name, email, cpf, cnh, phone_number)));
+
+CREATE INDEX idx_drivers_search_document_trgm ON drivers USING gin (search_document gin_trgm_ops);
+CREATE INDEX idx_drivers_city_trgm ON drivers USING gin (lower(city) gin_trgm_ops);
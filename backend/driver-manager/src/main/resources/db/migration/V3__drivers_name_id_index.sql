@@ -0,0 +1,2 @@
+-- Atende a paginação por cursor: ORDER BY name, id e o predicado (name, id) > (?, ?).
+CREATE INDEX idx_drivers_name_id ON drivers (name, id);
@@ -0,0 +1,11 @@
+-- Tipos de veículo passam a ser um bitmask em drivers (CAR = 1, MOTORCYCLE = 2, TRUCK = 4), ver VehicleType#bit.
+ALTER TABLE drivers ADD COLUMN vehicle_types INTEGER NOT NULL DEFAULT 0;
+
+UPDATE drivers d
+SET vehicle_types = COALESCE((
+    SELECT bit_or(CASE vt.vehicle_type WHEN 'CAR' THEN 1 WHEN 'MOTORCYCLE' THEN 2 WHEN 'TRUCK' THEN 4 ELSE 0 END)
+    FROM driver_vehicle_types vt
+    WHERE vt.driver_id = d.id
+), 0);
+
+DROP TABLE driver_vehicle_types;
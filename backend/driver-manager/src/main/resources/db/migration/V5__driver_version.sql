@@ -0,0 +1,2 @@
+-- Versão para controle otimista de concorrência e ETag de GET /api/drivers/{id}
+ALTER TABLE drivers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,7 @@
+-- JWTs revogados por jti até a expiração; a lista fica em memória e é recarregada daqui na inicialização
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti        VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
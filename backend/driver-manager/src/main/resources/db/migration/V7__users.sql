@@ -0,0 +1,6 @@
+-- Usuários do login com a senha em hash BCrypt; o administrador inicial é criado pela aplicação (auth.bootstrap)
+CREATE TABLE IF NOT EXISTS users (
+    id            UUID PRIMARY KEY,
+    username      VARCHAR(255) NOT NULL UNIQUE,
+    password_hash VARCHAR(255) NOT NULL
+);
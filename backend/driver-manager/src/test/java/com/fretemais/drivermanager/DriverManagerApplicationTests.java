@@ -3,9 +3,11 @@ package com.fretemais.drivermanager;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
 
 @Import(TestcontainersConfiguration.class)
 @SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
 class DriverManagerApplicationTests {
 
 	@Test
@@ -0,0 +1,299 @@
+package com.fretemais.drivermanager.application.services;
+
+import com.fretemais.drivermanager.application.dtos.DriverImportErrorDTO;
+import com.fretemais.drivermanager.application.dtos.DriverImportReportDTO;
+import com.fretemais.drivermanager.application.mappers.DriverMapper;
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.model.Driver;
+import com.fretemais.drivermanager.infrastructure.exceptions.InvalidImportFileException;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverUniqueRow;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DriverImportService - Testes Unitários")
+class DriverImportServiceTest {
+
+    private static final String HEADER = "name,email,phone,cpf,cnh,city,state,vehicleTypes\n";
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private DriverRepository driverRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private DriverImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new DriverImportService(driverRepository, new DriverMapper(), VALIDATOR, transactionManager, eventPublisher);
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Driver> insertedDrivers(int batches) {
+        ArgumentCaptor<List<Driver>> captor = ArgumentCaptor.forClass(List.class);
+        verify(driverRepository, times(batches)).insertAll(captor.capture());
+        return captor.getAllValues().stream().flatMap(List::stream).toList();
+    }
+
+    @Nested
+    @DisplayName("Testes de gravação")
+    class InsertTests {
+
+        @Test
+        @DisplayName("Deve gravar linhas válidas em blocos e publicar uma única mudança de catálogo")
+        void shouldInsertValidRowsInChunks() throws Exception {
+            // Arrange
+            importService.chunkSize = 2;
+            String content = HEADER
+                    + "João Silva,joao@email.com,11999999999,52998224725,12345678900,São Paulo,SP,CAR|MOTORCYCLE\n"
+                    + "Maria Santos,maria@email.com,21988888888,11144477735,98765432100,Rio de Janeiro,RJ,truck\n"
+                    + "Carlos Lima,carlos@email.com,31977777777,39053344705,11122233344,Belo Horizonte,MG,CAR\n";
+
+            // Act
+            DriverImportReportDTO report = importService.importCsv(csv(content));
+
+            // Assert
+            assertThat(report.total()).isEqualTo(3);
+            assertThat(report.imported()).isEqualTo(3);
+            assertThat(report.errors()).isEmpty();
+
+            List<Driver> drivers = insertedDrivers(2);
+            assertThat(drivers).extracting(Driver::getName).containsExactly("João Silva", "Maria Santos", "Carlos Lima");
+            assertThat(drivers.get(1).getVehicleType()).containsExactly(VehicleType.TRUCK);
+            assertThat(drivers).allMatch(Driver::isAvailable);
+            verify(driverRepository, times(2)).findTaken(anyCollection(), anyCollection(), anyCollection(), anyCollection(), anyCollection());
+            verify(eventPublisher).publishEvent(new DriverCatalogChangedEvent(3));
+        }
+
+        @Test
+        @DisplayName("Deve ler campos entre aspas com vírgulas, aspas e quebras de linha")
+        void shouldParseQuotedFields() throws Exception {
+            // Arrange
+            String content = HEADER
+                    + "\"Silva, \"\"João\"\"\",joao@email.com,11999999999,52998224725,12345678900,\"São\nPaulo\",SP,CAR\r\n"
+                    + "Linha Inválida,x\n";
+
+            // Act
+            DriverImportReportDTO report = importService.importCsv(csv(content));
+
+            // Assert
+            assertThat(insertedDrivers(1)).singleElement().satisfies(driver -> {
+                assertThat(driver.getName()).isEqualTo("Silva, \"João\"");
+                assertThat(driver.getCity()).isEqualTo("São\nPaulo");
+            });
+            assertThat(report.errors()).containsExactly(new DriverImportErrorDTO(4, List.of("Esperadas 8 colunas, encontradas 2")));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar só a linha em conflito quando o banco acusa conflito no batch")
+        void shouldRejectOnlyConflictingRowOnIntegrityViolation() throws Exception {
+            // Arrange
+            doAnswer(invocation -> {
+                List<Driver> drivers = invocation.getArgument(0);
+                if (drivers.stream().anyMatch(driver -> driver.getEmail().equals("maria@email.com"))) {
+                    throw new DataIntegrityViolationException("Detail: Key (email)=(maria@email.com) already exists.");
+                }
+                return null;
+            }).when(driverRepository).insertAll(any());
+
+            // Act
+            DriverImportReportDTO report = importService.importCsv(csv(HEADER
+                    + "João Silva,joao@email.com,11999999999,52998224725,12345678900,São Paulo,SP,CAR\n"
+                    + "Maria Santos,maria@email.com,21988888888,11144477735,98765432100,Rio de Janeiro,RJ,TRUCK\n"
+                    + "Carlos Lima,carlos@email.com,31977777777,39053344705,11122233344,Belo Horizonte,MG,CAR\n"));
+
+            // Assert
+            assertThat(report.imported()).isEqualTo(2);
+            assertThat(report.errors()).containsExactly(new DriverImportErrorDTO(3, List.of("Email já cadastrado")));
+            verify(eventPublisher).publishEvent(new DriverCatalogChangedEvent(2));
+        }
+
+        @Test
+        @DisplayName("Não deve reportar como conflito de unicidade outras violações de integridade")
+        void shouldNotReportOtherViolationsAsUnique() throws Exception {
+            // Arrange
+            doThrow(new DataIntegrityViolationException("NULL not allowed for column \"CITY\""))
+                    .when(driverRepository).insertAll(any());
+
+            // Act
+            DriverImportReportDTO report = importService.importCsv(csv(HEADER
+                    + "João Silva,joao@email.com,11999999999,52998224725,12345678900,São Paulo,SP,CAR\n"));
+
+            // Assert
+            assertThat(report.errors()).containsExactly(new DriverImportErrorDTO(2, List.of("Registro recusado pelo banco")));
+        }
+
+        @Test
+        @DisplayName("Deve aceitar repetição de uma linha que o banco rejeitou no bloco anterior")
+        void shouldAcceptRepeatOfRowRejectedByDatabase() throws Exception {
+            // Arrange
+            importService.chunkSize = 1;
+            doThrow(new DataIntegrityViolationException("duplicate key"))
+                    .doNothing()
+                    .when(driverRepository).insertAll(any());
+
+            // Act
+            DriverImportReportDTO report = importService.importCsv(csv(HEADER
+                    + "João Silva,joao@email.com,11999999999,52998224725,12345678900,São Paulo,SP,CAR\n"
+                    + "João Silva,joao@email.com,11999999999,52998224725,12345678900,São Paulo,SP,CAR\n"));
+
+            // Assert
+            assertThat(report.imported()).isEqualTo(1);
+            assertThat(report.errors()).extracting(DriverImportErrorDTO::line).containsExactly(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de validação")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Deve reportar erros de validação por linha")
+        void shouldReportValidationErrors() throws Exception {
+            // Act
+            DriverImportReportDTO report = importService.importCsv(csv(HEADER
+                    + ",joao@email.com,11999999999,12345678901,12345678900,São Paulo,SP,CAR\n"
+                    + "Maria Santos,maria@email.com,21988888888,11144477735,98765432100,Rio de Janeiro,RJ,BICYCLE\n"));
+
+            // Assert
+            assertThat(report.imported()).isZero();
+            assertThat(report.errors()).containsExactly(
+                    new DriverImportErrorDTO(2, List.of("CPF inválido", "O nome é obrigatório")),
+                    new DriverImportErrorDTO(3, List.of("Tipo de veículo inválido: BICYCLE", "Selecione pelo menos um tipo de veículo")));
+            verify(driverRepository, never()).insertAll(any());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar valores repetidos dentro do arquivo")
+        void shouldRejectDuplicatesWithinFile() throws Exception {
+            // Act
+            DriverImportReportDTO report = importService.importCsv(csv(HEADER
+                    + "João Silva,joao@email.com,11999999999,52998224725,12345678900,São Paulo,SP,CAR\n"
+                    + "Maria Santos,joao@email.com,21988888888,52998224725,98765432100,Rio de Janeiro,RJ,CAR\n"));
+
+            // Assert
+            assertThat(report.imported()).isEqualTo(1);
+            assertThat(report.errors()).containsExactly(new DriverImportErrorDTO(3,
+                    List.of("Email repetido no arquivo (linha 2)", "CPF repetido no arquivo (linha 2)")));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar valores já cadastrados com uma consulta por bloco")
+        void shouldRejectValuesTakenInDatabase() throws Exception {
+            // Arrange
+            when(driverRepository.findTaken(anyCollection(), anyCollection(), anyCollection(), anyCollection(), anyCollection()))
+                    .thenReturn(List.of(new DriverUniqueRow(UUID.randomUUID(), "Outro", "joao@email.com", "000", "000", "12345678900")));
+
+            // Act
+            DriverImportReportDTO report = importService.importCsv(csv(HEADER
+                    + "João Silva,joao@email.com,11999999999,52998224725,12345678900,São Paulo,SP,CAR\n"
+                    + "Maria Santos,maria@email.com,21988888888,11144477735,98765432100,Rio de Janeiro,RJ,TRUCK\n"));
+
+            // Assert
+            assertThat(report.imported()).isEqualTo(1);
+            assertThat(report.errors()).containsExactly(new DriverImportErrorDTO(2, List.of("Email já cadastrado", "CNH já cadastrada")));
+            assertThat(insertedDrivers(1)).extracting(Driver::getName).containsExactly("Maria Santos");
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar repetição de um bloco anterior pela consulta ao banco")
+        void shouldRejectRepeatFromEarlierChunkThroughDatabase() throws Exception {
+            // Arrange
+            importService.chunkSize = 1;
+            when(driverRepository.findTaken(anyCollection(), anyCollection(), anyCollection(), anyCollection(), anyCollection()))
+                    .thenReturn(List.of())
+                    .thenReturn(List.of(new DriverUniqueRow(UUID.randomUUID(), "João Silva", "joao@email.com", "11999999999", "52998224725", "12345678900")));
+
+            // Act
+            DriverImportReportDTO report = importService.importCsv(csv(HEADER
+                    + "João Silva,joao@email.com,11999999999,52998224725,12345678900,São Paulo,SP,CAR\n"
+                    + "Maria Santos,joao@email.com,21988888888,11144477735,98765432100,Rio de Janeiro,RJ,CAR\n"));
+
+            // Assert
+            assertThat(report.imported()).isEqualTo(1);
+            assertThat(report.errors()).containsExactly(new DriverImportErrorDTO(3, List.of("Email já cadastrado")));
+        }
+
+        @Test
+        @DisplayName("Não deve apontar repetição para uma linha que o banco rejeitou")
+        void shouldNotReportRepeatOfRowTakenInDatabase() throws Exception {
+            // Arrange
+            when(driverRepository.findTaken(anyCollection(), anyCollection(), anyCollection(), anyCollection(), anyCollection()))
+                    .thenReturn(List.of(new DriverUniqueRow(UUID.randomUUID(), "Outro", "outro@email.com", "000", "52998224725", "000")));
+
+            // Act
+            DriverImportReportDTO report = importService.importCsv(csv(HEADER
+                    + "João Silva,joao@email.com,11999999999,52998224725,12345678900,São Paulo,SP,CAR\n"
+                    + "Maria Santos,joao@email.com,21988888888,11144477735,98765432100,Rio de Janeiro,RJ,TRUCK\n"));
+
+            // Assert
+            assertThat(report.imported()).isEqualTo(1);
+            assertThat(report.errors()).containsExactly(new DriverImportErrorDTO(2, List.of("CPF já cadastrado")));
+            assertThat(insertedDrivers(1)).extracting(Driver::getName).containsExactly("Maria Santos");
+        }
+
+        @Test
+        @DisplayName("Deve limitar a quantidade de erros listados sem perder a contagem")
+        void shouldCapReportedErrors() throws Exception {
+            // Arrange
+            importService.maxReportedErrors = 1;
+
+            // Act
+            DriverImportReportDTO report = importService.importCsv(csv(HEADER + "a\nb\nc\n"));
+
+            // Assert
+            assertThat(report.failed()).isEqualTo(3);
+            assertThat(report.errors()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Deve recusar arquivo sem coluna obrigatória no cabeçalho")
+        void shouldRejectMissingColumn() {
+            assertThatThrownBy(() -> importService.importCsv(csv("name,email\n")))
+                    .isInstanceOf(InvalidImportFileException.class)
+                    .hasMessage("Coluna obrigatória ausente no cabeçalho: phone");
+        }
+
+        @Test
+        @DisplayName("Deve recusar arquivo vazio")
+        void shouldRejectEmptyFile() {
+            assertThatThrownBy(() -> importService.importCsv(csv("")))
+                    .isInstanceOf(InvalidImportFileException.class)
+                    .hasMessage("Arquivo CSV vazio");
+        }
+    }
+}
@@ -1,36 +1,79 @@
 package com.fretemais.drivermanager.application.services;
 
+import com.fretemais.drivermanager.application.dtos.DriverFacetsDTO;
+import com.fretemais.drivermanager.application.dtos.DriverPatchDTO;
 import com.fretemais.drivermanager.application.dtos.DriverRequestDTO;
 import com.fretemais.drivermanager.application.dtos.DriverResponseDTO;
+import com.fretemais.drivermanager.application.dtos.DriverSuggestionsDTO;
 import com.fretemais.drivermanager.application.dtos.DriverSummaryDTO;
+import com.fretemais.drivermanager.application.dtos.DriverWindowDTO;
 import com.fretemais.drivermanager.application.mappers.DriverMapper;
 import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverSnapshot;
 import com.fretemais.drivermanager.domain.model.Driver;
+import com.fretemais.drivermanager.infrastructure.cache.DriverEntityCache;
+import com.fretemais.drivermanager.infrastructure.cache.DriverJsonCache;
+import com.fretemais.drivermanager.infrastructure.cache.DriverListCache;
 import com.fretemais.drivermanager.infrastructure.exceptions.DuplicateResourceException;
+import com.fretemais.drivermanager.infrastructure.exceptions.InvalidCursorException;
+import com.fretemais.drivermanager.infrastructure.exceptions.MissingDeleteCriteriaException;
+import com.fretemais.drivermanager.infrastructure.exceptions.PreconditionFailedException;
 import com.fretemais.drivermanager.infrastructure.exceptions.ResourceNotFoundException;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverCountCache;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverFacetRow;
 import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverUniqueRow;
+import com.fretemais.drivermanager.infrastructure.search.DriverBitmapIndex;
+import com.fretemais.drivermanager.infrastructure.search.DriverFacetCounter;
+import com.fretemais.drivermanager.infrastructure.search.DriverSuggestIndex;
+import com.fretemais.drivermanager.infrastructure.search.DriverTextIndex;
+import com.fretemais.drivermanager.infrastructure.search.DriverUniqueKeyFilter;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.DeleteSpecification;
 import org.springframework.data.jpa.domain.Specification;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -44,6 +87,39 @@ class DriverServiceTest {
     @Mock
     private DriverMapper driverMapper;
 
+    @Mock
+    private DriverTextIndex driverTextIndex;
+
+    @Mock
+    private DriverCountCache driverCountCache;
+
+    @Mock
+    private DriverListCache driverListCache;
+
+    @Mock
+    private DriverEntityCache driverEntityCache;
+
+    @Mock
+    private DriverJsonCache driverJsonCache;
+
+    @Mock
+    private DriverFacetCounter driverFacetCounter;
+
+    @Mock
+    private DriverBitmapIndex driverBitmapIndex;
+
+    @Mock
+    private DriverSuggestIndex driverSuggestIndex;
+
+    @Mock
+    private DriverUniqueKeyFilter driverUniqueKeyFilter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder().build();
+
     @InjectMocks
     private DriverService driverService;
 
@@ -51,9 +127,17 @@ class DriverServiceTest {
     private Driver driver;
     private DriverResponseDTO responseDTO;
     private UUID driverId;
+    private final List<DriverUniqueRow> taken = new ArrayList<>();
 
     @BeforeEach
     void setUp() {
+        lenient().when(driverListCache.get(any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(driverEntityCache.get(any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(driverJsonCache.get(any(), anyLong(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        lenient().when(driverRepository.findTaken(anyCollection(), anyCollection(), anyCollection(), anyCollection(), anyCollection()))
+                .thenAnswer(invocation -> List.copyOf(taken));
+        lenient().when(driverUniqueKeyFilter.mayBeTaken(any(), any(), any(), any(), any())).thenReturn(true);
+
         driverId = UUID.randomUUID();
 
         validRequestDTO = DriverRequestDTO.builder()
@@ -94,6 +178,10 @@ class DriverServiceTest {
                 .build();
     }
 
+    private void takenBy(UUID id, String name, String email, String phone, String cpf, String cnh) {
+        taken.add(new DriverUniqueRow(id, name, email, phone, cpf, cnh));
+    }
+
     @Nested
     @DisplayName("Testes do método create()")
     class CreateTests {
@@ -102,9 +190,6 @@ class DriverServiceTest {
         @DisplayName("Deve criar motorista com sucesso quando dados são válidos")
         void shouldCreateDriverSuccessfully() {
             // Arrange
-            when(driverRepository.existsByEmail(validRequestDTO.email())).thenReturn(false);
-            when(driverRepository.existsByCpf(validRequestDTO.cpf())).thenReturn(false);
-            when(driverRepository.existsByCnh(validRequestDTO.cnh())).thenReturn(false);
             when(driverMapper.toEntity(validRequestDTO)).thenReturn(driver);
             when(driverRepository.save(driver)).thenReturn(driver);
             when(driverMapper.toResponse(driver)).thenReturn(responseDTO);
@@ -119,24 +204,24 @@ class DriverServiceTest {
             assertThat(result.email()).isEqualTo("joao.silva@email.com");
             assertThat(result.available()).isTrue();
 
-            verify(driverRepository).existsByEmail(validRequestDTO.email());
-            verify(driverRepository).existsByCpf(validRequestDTO.cpf());
-            verify(driverRepository).existsByCnh(validRequestDTO.cnh());
+            verify(driverRepository).findTaken(List.of("João Silva"), List.of("joao.silva@email.com"),
+                    List.of("11999999999"), List.of("12345678901"), List.of("12345678900"));
             verify(driverRepository).save(driver);
+            verify(driverRepository).flush();
+            verify(eventPublisher).publishEvent(any(DriverChangedEvent.class));
         }
 
         @Test
         @DisplayName("Deve lançar exceção quando email já existe")
         void shouldThrowExceptionWhenEmailExists() {
             // Arrange
-            when(driverRepository.existsByEmail(validRequestDTO.email())).thenReturn(true);
+            takenBy(UUID.randomUUID(), "Outro", "joao.silva@email.com", "000", "000", "000");
 
             // Act & Assert
             assertThatThrownBy(() -> driverService.create(validRequestDTO))
                     .isInstanceOf(DuplicateResourceException.class)
                     .hasMessage("Email já cadastrado");
 
-            verify(driverRepository).existsByEmail(validRequestDTO.email());
             verify(driverRepository, never()).save(any());
         }
 
@@ -144,8 +229,7 @@ class DriverServiceTest {
         @DisplayName("Deve lançar exceção quando CPF já existe")
         void shouldThrowExceptionWhenCpfExists() {
             // Arrange
-            when(driverRepository.existsByEmail(validRequestDTO.email())).thenReturn(false);
-            when(driverRepository.existsByCpf(validRequestDTO.cpf())).thenReturn(true);
+            takenBy(UUID.randomUUID(), "Outro", "outro@email.com", "000", "12345678901", "000");
 
             // Act & Assert
             assertThatThrownBy(() -> driverService.create(validRequestDTO))
@@ -159,9 +243,7 @@ class DriverServiceTest {
         @DisplayName("Deve lançar exceção quando CNH já existe")
         void shouldThrowExceptionWhenCnhExists() {
             // Arrange
-            when(driverRepository.existsByEmail(validRequestDTO.email())).thenReturn(false);
-            when(driverRepository.existsByCpf(validRequestDTO.cpf())).thenReturn(false);
-            when(driverRepository.existsByCnh(validRequestDTO.cnh())).thenReturn(true);
+            takenBy(UUID.randomUUID(), "Outro", "outro@email.com", "000", "000", "12345678900");
 
             // Act & Assert
             assertThatThrownBy(() -> driverService.create(validRequestDTO))
@@ -172,6 +254,137 @@ class DriverServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Testes de unicidade")
+    class UniquenessTests {
+
+        @Test
+        @DisplayName("Deve reportar o email antes dos demais campos quando vários conflitam")
+        void shouldReportEmailFirst() {
+            // Arrange
+            takenBy(UUID.randomUUID(), "João Silva", "outro@email.com", "11999999999", "000", "000");
+            takenBy(UUID.randomUUID(), "Outro", "joao.silva@email.com", "000", "000", "000");
+
+            // Act & Assert
+            assertThatThrownBy(() -> driverService.create(validRequestDTO))
+                    .isInstanceOf(DuplicateResourceException.class)
+                    .hasMessage("Email já cadastrado");
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar nome e telefone já cadastrados")
+        void shouldRejectNameAndPhone() {
+            // Arrange
+            takenBy(UUID.randomUUID(), "Outro", "outro@email.com", "11999999999", "000", "000");
+
+            // Act & Assert
+            assertThatThrownBy(() -> driverService.create(validRequestDTO))
+                    .isInstanceOf(DuplicateResourceException.class)
+                    .hasMessage("Telefone já cadastrado");
+        }
+
+        @Test
+        @DisplayName("Deve traduzir violação de unicidade do H2 no flush para o campo correto")
+        void shouldMapH2ViolationOnFlush() {
+            // Arrange
+            when(driverMapper.toEntity(validRequestDTO)).thenReturn(driver);
+            doThrow(new DataIntegrityViolationException("could not execute statement", new RuntimeException(
+                    "Unique index or primary key violation: \"PUBLIC.UK_INDEX_2 ON PUBLIC.DRIVERS(CPF NULLS FIRST) " +
+                            "VALUES ( /* 1 */ '12345678901' )\"")))
+                    .when(driverRepository).flush();
+
+            // Act & Assert
+            assertThatThrownBy(() -> driverService.create(validRequestDTO))
+                    .isInstanceOf(DuplicateResourceException.class)
+                    .hasMessage("CPF já cadastrado");
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("Deve traduzir violação de unicidade do PostgreSQL no flush para o campo correto")
+        void shouldMapPostgresViolationOnFlush() {
+            // Arrange
+            when(driverMapper.toEntity(validRequestDTO)).thenReturn(driver);
+            doThrow(new DataIntegrityViolationException("could not execute statement", new RuntimeException(
+                    "ERROR: duplicate key value violates unique constraint \"drivers_phone_number_key\"\n" +
+                            "  Detail: Key (phone_number)=(11999999999) already exists.")))
+                    .when(driverRepository).flush();
+
+            // Act & Assert
+            assertThatThrownBy(() -> driverService.create(validRequestDTO))
+                    .isInstanceOf(DuplicateResourceException.class)
+                    .hasMessage("Telefone já cadastrado");
+        }
+
+        @Test
+        @DisplayName("Não deve consultar o banco quando o filtro garante que os valores são novos")
+        void shouldSkipLookupWhenFilterRulesOut() {
+            // Arrange
+            when(driverUniqueKeyFilter.mayBeTaken("João Silva", "joao.silva@email.com", "11999999999", "12345678901", "12345678900"))
+                    .thenReturn(false);
+            when(driverMapper.toEntity(validRequestDTO)).thenReturn(driver);
+            when(driverRepository.save(driver)).thenReturn(driver);
+
+            // Act
+            driverService.create(validRequestDTO);
+
+            // Assert
+            verify(driverRepository, never()).findTaken(anyCollection(), anyCollection(), anyCollection(), anyCollection(), anyCollection());
+            verify(driverRepository).flush();
+        }
+
+        @Test
+        @DisplayName("Deve registrar falso positivo quando o banco não encontra conflito")
+        void shouldRecordFalsePositive() {
+            // Arrange
+            when(driverMapper.toEntity(validRequestDTO)).thenReturn(driver);
+            when(driverRepository.save(driver)).thenReturn(driver);
+
+            // Act
+            driverService.create(validRequestDTO);
+
+            // Assert
+            verify(driverUniqueKeyFilter).recordFalsePositive();
+        }
+
+        @Test
+        @DisplayName("Deve passar ao filtro só os valores alterados no update")
+        void shouldFilterOnlyChangedValuesOnUpdate() {
+            // Arrange
+            DriverRequestDTO newEmail = DriverRequestDTO.builder()
+                    .name("João Silva")
+                    .email("novo@email.com")
+                    .phone("11999999999")
+                    .cpf("12345678901")
+                    .cnh("12345678900")
+                    .city("São Paulo")
+                    .state("SP")
+                    .vehicleTypes(List.of(VehicleType.CAR))
+                    .build();
+            when(driverRepository.findById(driverId)).thenReturn(Optional.of(driver));
+            when(driverUniqueKeyFilter.mayBeTaken(null, "novo@email.com", null, null, null)).thenReturn(false);
+            when(driverRepository.save(driver)).thenReturn(driver);
+
+            // Act
+            driverService.updateById(driverId, newEmail, null);
+
+            // Assert
+            verify(driverRepository, never()).findTaken(anyCollection(), anyCollection(), anyCollection(), anyCollection(), anyCollection());
+        }
+
+        @Test
+        @DisplayName("Deve propagar violação que não é de unicidade")
+        void shouldPropagateOtherViolations() {
+            // Arrange
+            DataIntegrityViolationException violation = new DataIntegrityViolationException("NULL not allowed for column \"AVAILABLE\"");
+            when(driverMapper.toEntity(validRequestDTO)).thenReturn(driver);
+            doThrow(violation).when(driverRepository).flush();
+
+            // Act & Assert
+            assertThatThrownBy(() -> driverService.create(validRequestDTO)).isSameAs(violation);
+        }
+    }
+
     @Nested
     @DisplayName("Testes do método list()")
     class ListTests {
@@ -196,10 +409,9 @@ class DriverServiceTest {
         void shouldListDriversWithPagination() {
             // Arrange
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Driver> driverPage = new PageImpl<>(List.of(driver), pageable, 1);
+            Page<DriverSummaryDTO> summaryPage = new PageImpl<>(List.of(summaryDTO), pageable, 1);
 
-            when(driverRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(driverPage);
-            when(driverMapper.toSummary(driver)).thenReturn(summaryDTO);
+            when(driverRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(summaryPage);
 
             // Act
             Page<DriverSummaryDTO> result = driverService.list(null, null, null, null, pageable);
@@ -209,7 +421,7 @@ class DriverServiceTest {
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().getFirst().name()).isEqualTo("João Silva");
 
-            verify(driverRepository).findAll(any(Specification.class), eq(pageable));
+            verify(driverRepository).findSummaries(any(Specification.class), eq(pageable));
         }
 
         @Test
@@ -217,10 +429,9 @@ class DriverServiceTest {
         void shouldListDriversWithTextFilter() {
             // Arrange
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Driver> driverPage = new PageImpl<>(List.of(driver), pageable, 1);
+            Page<DriverSummaryDTO> summaryPage = new PageImpl<>(List.of(summaryDTO), pageable, 1);
 
-            when(driverRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(driverPage);
-            when(driverMapper.toSummary(driver)).thenReturn(summaryDTO);
+            when(driverRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(summaryPage);
 
             // Act
             Page<DriverSummaryDTO> result = driverService.list("João", null, null, null, pageable);
@@ -229,7 +440,40 @@ class DriverServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
 
-            verify(driverRepository).findAll(any(Specification.class), eq(pageable));
+            verify(driverRepository).findSummaries(any(Specification.class), eq(pageable));
+        }
+
+        @Test
+        @DisplayName("Deve usar candidatos do índice de texto quando disponível")
+        void shouldUseTextIndexCandidatesWhenAvailable() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<DriverSummaryDTO> summaryPage = new PageImpl<>(List.of(summaryDTO), pageable, 1);
+
+            when(driverTextIndex.search("silva")).thenReturn(Optional.of(Set.of(driverId)));
+            when(driverRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(summaryPage);
+
+            // Act
+            Page<DriverSummaryDTO> result = driverService.list("silva", null, null, null, pageable);
+
+            // Assert
+            assertThat(result.getContent()).hasSize(1);
+            verify(driverRepository).findSummaries(any(Specification.class), eq(pageable));
+        }
+
+        @Test
+        @DisplayName("Deve retornar página vazia sem consultar o banco quando o índice não encontra candidatos")
+        void shouldReturnEmptyPageWhenTextIndexHasNoCandidates() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 10);
+            when(driverTextIndex.search("inexistente")).thenReturn(Optional.of(Set.of()));
+
+            // Act
+            Page<DriverSummaryDTO> result = driverService.list("inexistente", null, null, null, pageable);
+
+            // Assert
+            assertThat(result.getContent()).isEmpty();
+            verify(driverRepository, never()).findSummaries(any(Specification.class), any(Pageable.class));
         }
 
         @Test
@@ -237,10 +481,9 @@ class DriverServiceTest {
         void shouldListDriversWithStateFilter() {
             // Arrange
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Driver> driverPage = new PageImpl<>(List.of(driver), pageable, 1);
+            Page<DriverSummaryDTO> summaryPage = new PageImpl<>(List.of(summaryDTO), pageable, 1);
 
-            when(driverRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(driverPage);
-            when(driverMapper.toSummary(driver)).thenReturn(summaryDTO);
+            when(driverRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(summaryPage);
 
             // Act
             Page<DriverSummaryDTO> result = driverService.list(null, "SP", null, null, pageable);
@@ -249,7 +492,43 @@ class DriverServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
 
-            verify(driverRepository).findAll(any(Specification.class), eq(pageable));
+            verify(driverRepository).findSummaries(any(Specification.class), eq(pageable));
+        }
+
+        @Test
+        @DisplayName("Deve usar o total do índice de bitmaps quando responde ao filtro")
+        void shouldUseBitmapIndexCountWhenAvailable() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<DriverSummaryDTO> summaryPage = new PageImpl<>(List.of(summaryDTO), pageable, 1);
+
+            when(driverBitmapIndex.count(List.of("SP"), List.of(VehicleType.CAR), null)).thenReturn(OptionalLong.of(1));
+            when(driverRepository.findSummaries(any(Specification.class), eq(pageable), any(LongSupplier.class))).thenReturn(summaryPage);
+
+            // Act
+            Page<DriverSummaryDTO> result = driverService.list(null, "SP", null, List.of(VehicleType.CAR), pageable);
+
+            // Assert
+            assertThat(result.getContent()).hasSize(1);
+            verify(driverRepository, never()).findSummaries(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Deve buscar as linhas no banco mesmo quando o índice de bitmaps conta zero")
+        void shouldQueryRowsEvenWhenBitmapIndexCountsZero() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<DriverSummaryDTO> summaryPage = new PageImpl<>(List.of(summaryDTO), pageable, 1);
+
+            when(driverBitmapIndex.count(List.of("AM"), null, null)).thenReturn(OptionalLong.of(0));
+            when(driverRepository.findSummaries(any(Specification.class), eq(pageable), any(LongSupplier.class))).thenReturn(summaryPage);
+
+            // Act
+            Page<DriverSummaryDTO> result = driverService.list(null, "AM", null, null, pageable);
+
+            // Assert
+            assertThat(result.getContent()).hasSize(1);
+            verify(driverRepository).findSummaries(any(Specification.class), eq(pageable), any(LongSupplier.class));
         }
 
         @Test
@@ -257,10 +536,9 @@ class DriverServiceTest {
         void shouldListDriversWithCityFilter() {
             // Arrange
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Driver> driverPage = new PageImpl<>(List.of(driver), pageable, 1);
+            Page<DriverSummaryDTO> summaryPage = new PageImpl<>(List.of(summaryDTO), pageable, 1);
 
-            when(driverRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(driverPage);
-            when(driverMapper.toSummary(driver)).thenReturn(summaryDTO);
+            when(driverRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(summaryPage);
 
             // Act
             Page<DriverSummaryDTO> result = driverService.list(null, null, "São Paulo", null, pageable);
@@ -269,7 +547,7 @@ class DriverServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
 
-            verify(driverRepository).findAll(any(Specification.class), eq(pageable));
+            verify(driverRepository).findSummaries(any(Specification.class), eq(pageable));
         }
 
         @Test
@@ -277,10 +555,9 @@ class DriverServiceTest {
         void shouldListDriversWithVehicleFilter() {
             // Arrange
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Driver> driverPage = new PageImpl<>(List.of(driver), pageable, 1);
+            Page<DriverSummaryDTO> summaryPage = new PageImpl<>(List.of(summaryDTO), pageable, 1);
 
-            when(driverRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(driverPage);
-            when(driverMapper.toSummary(driver)).thenReturn(summaryDTO);
+            when(driverRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(summaryPage);
 
             // Act
             Page<DriverSummaryDTO> result = driverService.list(null, null, null, List.of(VehicleType.CAR), pageable);
@@ -289,7 +566,7 @@ class DriverServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
 
-            verify(driverRepository).findAll(any(Specification.class), eq(pageable));
+            verify(driverRepository).findSummaries(any(Specification.class), eq(pageable));
         }
 
         @Test
@@ -297,9 +574,9 @@ class DriverServiceTest {
         void shouldReturnEmptyPageWhenNoDrivers() {
             // Arrange
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Driver> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+            Page<DriverSummaryDTO> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
-            when(driverRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(emptyPage);
+            when(driverRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(emptyPage);
 
             // Act
             Page<DriverSummaryDTO> result = driverService.list(null, null, null, null, pageable);
@@ -309,6 +586,343 @@ class DriverServiceTest {
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isZero();
         }
+
+        @Test
+        @DisplayName("Deve servir a listagem pelo cache com a chave normalizada dos filtros")
+        void shouldServeListThroughCache() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<DriverSummaryDTO> cachedPage = new PageImpl<>(List.of(summaryDTO), pageable, 1);
+            DriverListCache.Key key = DriverListCache.Key.of("EXACT", null, "sp", null, List.of(VehicleType.CAR), pageable);
+
+            doReturn(cachedPage).when(driverListCache).get(eq(key), any());
+
+            // Act
+            Page<DriverSummaryDTO> result = driverService.list(null, "SP", null, List.of(VehicleType.CAR), pageable);
+
+            // Assert
+            assertThat(result).isSameAs(cachedPage);
+            verifyNoInteractions(driverRepository);
+        }
+
+        @Test
+        @DisplayName("Deve listar em modo Slice sem executar contagem")
+        void shouldListSliceWithoutCount() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 1);
+            Slice<DriverSummaryDTO> summarySlice = new SliceImpl<>(List.of(summaryDTO), pageable, true);
+
+            when(driverRepository.findSummarySlice(any(Specification.class), eq(pageable))).thenReturn(summarySlice);
+
+            // Act
+            Slice<DriverSummaryDTO> result = driverService.listSlice(null, "SP", null, null, pageable);
+
+            // Assert
+            assertThat(result.getContent()).containsExactly(summaryDTO);
+            assertThat(result.hasNext()).isTrue();
+            verify(driverRepository, never()).count(any(Specification.class));
+            verify(driverRepository, never()).findSummaries(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Deve usar o total em cache no modo aproximado")
+        void shouldUseCachedTotalInApproximateMode() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 1);
+            Slice<DriverSummaryDTO> summarySlice = new SliceImpl<>(List.of(summaryDTO), pageable, true);
+
+            when(driverRepository.findSummarySlice(any(Specification.class), eq(pageable))).thenReturn(summarySlice);
+            when(driverCountCache.count(any(), any(LongSupplier.class))).thenReturn(42L);
+
+            // Act
+            Page<DriverSummaryDTO> result = driverService.listApproximate(null, "SP", null, List.of(VehicleType.CAR), pageable);
+
+            // Assert
+            assertThat(result.getContent()).containsExactly(summaryDTO);
+            assertThat(result.getTotalElements()).isEqualTo(42);
+            verify(driverRepository, never()).count(any(Specification.class));
+        }
+
+        @Test
+        @DisplayName("Deve dispensar a contagem no modo aproximado quando a primeira página não está cheia")
+        void shouldSkipCountWhenFirstPageIsPartial() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 10);
+            Slice<DriverSummaryDTO> summarySlice = new SliceImpl<>(List.of(summaryDTO), pageable, false);
+
+            when(driverRepository.findSummarySlice(any(Specification.class), eq(pageable))).thenReturn(summarySlice);
+
+            // Act
+            Page<DriverSummaryDTO> result = driverService.listApproximate(null, null, null, null, pageable);
+
+            // Assert
+            assertThat(result.getTotalElements()).isEqualTo(1);
+            verifyNoInteractions(driverCountCache);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes do método scroll()")
+    class ScrollTests {
+
+        private DriverSummaryDTO summaryDTO;
+
+        @BeforeEach
+        void setUp() {
+            summaryDTO = DriverSummaryDTO.builder()
+                    .id(driverId)
+                    .name("João Silva")
+                    .phone("11999999999")
+                    .city("São Paulo")
+                    .state("SP")
+                    .vehicleTypes(List.of(VehicleType.CAR, VehicleType.MOTORCYCLE))
+                    .available(true)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Deve retornar cursor da próxima janela quando há mais resultados")
+        void shouldReturnNextCursorWhenHasNext() {
+            // Arrange
+            DriverSummaryDTO other = DriverSummaryDTO.builder().id(UUID.randomUUID()).name("Maria Santos").build();
+
+            when(driverRepository.findSummaries(any(Specification.class), eq(DriverCursor.SORT), eq(2)))
+                    .thenReturn(List.of(summaryDTO, other));
+
+            // Act
+            DriverWindowDTO result = driverService.scroll(null, null, null, null, null, 1);
+
+            // Assert
+            assertThat(result.content()).containsExactly(summaryDTO);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.nextCursor()).isNotBlank();
+            assertThat(DriverCursor.decode(result.nextCursor())).isEqualTo(new DriverCursor(driverId, "João Silva"));
+        }
+
+        @Test
+        @DisplayName("Deve omitir cursor na última janela")
+        void shouldOmitCursorOnLastWindow() {
+            // Arrange
+            when(driverRepository.findSummaries(any(Specification.class), eq(DriverCursor.SORT), eq(11)))
+                    .thenReturn(List.of(summaryDTO));
+
+            // Act
+            DriverWindowDTO result = driverService.scroll(null, null, null, null, null, 10);
+
+            // Assert
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve lançar InvalidCursorException para cursor malformado")
+        void shouldThrowExceptionForInvalidCursor() {
+            // Act & Assert
+            assertThatThrownBy(() -> driverService.scroll(null, null, null, null, "nao-e-um-cursor", 10))
+                    .isInstanceOf(InvalidCursorException.class)
+                    .hasMessage("Cursor inválido");
+
+            verify(driverRepository, never()).findSummaries(any(Specification.class), any(Sort.class), anyInt());
+        }
+
+        @Test
+        @DisplayName("Deve retornar janela vazia sem consultar o banco quando o índice não encontra candidatos")
+        void shouldReturnEmptyWindowWhenIndexHasNoCandidates() {
+            // Arrange
+            when(driverTextIndex.search("inexistente")).thenReturn(Optional.of(Set.of()));
+
+            // Act
+            DriverWindowDTO result = driverService.scroll("inexistente", null, null, null, null, 10);
+
+            // Assert
+            assertThat(result.content()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+            verify(driverRepository, never()).findSummaries(any(Specification.class), any(Sort.class), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes do método facets()")
+    class FacetsTests {
+
+        private final List<DriverFacetRow> rows = List.of(
+                new DriverFacetRow("SP", List.of(VehicleType.CAR, VehicleType.TRUCK), true, 3),
+                new DriverFacetRow("SP", List.of(VehicleType.TRUCK), false, 2),
+                new DriverFacetRow("RJ", List.of(VehicleType.MOTORCYCLE), true, 4));
+
+        @Test
+        @DisplayName("Deve agregar as contagens dos contadores em memória")
+        void shouldAggregateFromCounters() {
+            // Arrange
+            when(driverFacetCounter.rows(null, null)).thenReturn(Optional.of(rows));
+
+            // Act
+            DriverFacetsDTO result = driverService.facets(null, null, null, null);
+
+            // Assert
+            assertThat(result.total()).isEqualTo(9);
+            assertThat(result.byState()).containsExactly(Map.entry("RJ", 4L), Map.entry("SP", 5L));
+            assertThat(result.byVehicleType()).containsExactly(
+                    Map.entry(VehicleType.CAR, 3L), Map.entry(VehicleType.MOTORCYCLE, 4L), Map.entry(VehicleType.TRUCK, 5L));
+            assertThat(result.available()).isEqualTo(7);
+            assertThat(result.unavailable()).isEqualTo(2);
+            verifyNoInteractions(driverRepository);
+        }
+
+        @Test
+        @DisplayName("Deve contar no banco quando há filtro de texto ou cidade")
+        void shouldCountInDatabaseForTextOrCity() {
+            // Arrange
+            when(driverRepository.countFacets(any(Specification.class))).thenReturn(rows);
+
+            // Act
+            DriverFacetsDTO result = driverService.facets(null, null, "paulo", null);
+
+            // Assert
+            assertThat(result.total()).isEqualTo(9);
+            verify(driverRepository).countFacets(any(Specification.class));
+            verifyNoInteractions(driverFacetCounter);
+        }
+
+        @Test
+        @DisplayName("Deve contar no banco enquanto os contadores não estão prontos")
+        void shouldCountInDatabaseWhenCountersNotReady() {
+            // Arrange
+            when(driverFacetCounter.rows("SP", null)).thenReturn(Optional.empty());
+            when(driverRepository.countFacets(any(Specification.class))).thenReturn(List.of());
+
+            // Act
+            DriverFacetsDTO result = driverService.facets(null, "SP", null, null);
+
+            // Assert
+            assertThat(result.total()).isZero();
+            assertThat(result.byState()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes do método suggest()")
+    class SuggestTests {
+
+        @Test
+        @DisplayName("Deve responder pelo índice de sugestões sem consultar o banco")
+        void shouldAnswerFromIndex() {
+            // Arrange
+            when(driverSuggestIndex.names("sao", 5)).thenReturn(Optional.of(List.of("Saulo Lima")));
+            when(driverSuggestIndex.cities("sao", 5)).thenReturn(Optional.of(List.of("São Paulo")));
+
+            // Act
+            DriverSuggestionsDTO result = driverService.suggest("sao", 5);
+
+            // Assert
+            assertThat(result.names()).containsExactly("Saulo Lima");
+            assertThat(result.cities()).containsExactly("São Paulo");
+            verifyNoInteractions(driverRepository);
+        }
+
+        @Test
+        @DisplayName("Deve buscar nomes no banco e não sugerir cidades enquanto o índice não está pronto")
+        void shouldFallBackToDatabase() {
+            // Arrange
+            when(driverRepository.findNamesByPrefix("sao", Limit.of(5))).thenReturn(List.of("Saulo Lima"));
+
+            // Act
+            DriverSuggestionsDTO result = driverService.suggest(" São ", 5);
+
+            // Assert
+            assertThat(result.names()).containsExactly("Saulo Lima");
+            assertThat(result.cities()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve escapar curingas do LIKE no prefixo")
+        void shouldEscapeLikeWildcards() {
+            // Act
+            driverService.suggest("50%_a\\", 5);
+
+            // Assert
+            verify(driverRepository).findNamesByPrefix("50\\%\\_a\\\\", Limit.of(5));
+        }
+
+        @Test
+        @DisplayName("Deve retornar listas vazias para prefixo em branco")
+        void shouldReturnEmptyForBlankPrefix() {
+            DriverSuggestionsDTO result = driverService.suggest(" ", 5);
+
+            assertThat(result.names()).isEmpty();
+            assertThat(result.cities()).isEmpty();
+            verifyNoInteractions(driverSuggestIndex, driverRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes do método export()")
+    class ExportTests {
+
+        private DriverSummaryDTO summary(String name, String city) {
+            return DriverSummaryDTO.builder()
+                    .id(driverId)
+                    .name(name)
+                    .phone("11999999999")
+                    .city(city)
+                    .state("SP")
+                    .vehicleTypes(List.of(VehicleType.CAR, VehicleType.TRUCK))
+                    .available(true)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Deve escrever um objeto JSON por linha")
+        void shouldWriteNdjson() throws Exception {
+            // Arrange
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            when(driverRepository.streamSummaries(any(Specification.class), eq(Sort.by("name", "id"))))
+                    .thenReturn(Stream.of(summary("João Silva", "São Paulo"), summary("Maria Santos", "Santos")));
+
+            // Act
+            long rows = driverService.export(null, "SP", null, null, ExportFormat.NDJSON, out);
+
+            // Assert
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(rows).isEqualTo(2);
+            assertThat(lines).hasSize(2);
+            assertThat(lines[0]).startsWith("{").contains("\"name\":\"João Silva\"").contains("\"vehicleTypes\":[\"CAR\",\"TRUCK\"]");
+        }
+
+        @Test
+        @DisplayName("Deve escrever CSV com cabeçalho e escapar campos")
+        void shouldWriteCsv() throws Exception {
+            // Arrange
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            when(driverRepository.streamSummaries(any(Specification.class), any(Sort.class)))
+                    .thenReturn(Stream.of(summary("Silva, \"João\"", "São Paulo")));
+
+            // Act
+            driverService.export(null, null, null, null, ExportFormat.CSV, out);
+
+            // Assert
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                    id,name,phone,city,state,vehicleTypes,available
+                    %s,"Silva, ""João\""",11999999999,São Paulo,SP,CAR|TRUCK,true
+                    """.formatted(driverId));
+        }
+
+        @Test
+        @DisplayName("Deve escrever só o cabeçalho sem consultar o banco quando o índice não encontra candidatos")
+        void shouldWriteOnlyHeaderWhenNoCandidates() throws Exception {
+            // Arrange
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            when(driverTextIndex.search("inexistente")).thenReturn(Optional.of(Set.of()));
+
+            // Act
+            long rows = driverService.export("inexistente", null, null, null, ExportFormat.CSV, out);
+
+            // Assert
+            assertThat(rows).isZero();
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("id,name,phone,city,state,vehicleTypes,available\n");
+            verify(driverRepository, never()).streamSummaries(any(), any());
+        }
     }
 
     @Nested
@@ -347,6 +961,80 @@ class DriverServiceTest {
 
             verify(driverRepository).findById(nonExistentId);
         }
+
+        @Test
+        @DisplayName("Deve responder do cache sem consultar o banco")
+        void shouldReturnCachedDriver() {
+            // Arrange
+            doReturn(responseDTO).when(driverEntityCache).get(eq(driverId), any());
+
+            // Act
+            DriverResponseDTO result = driverService.getById(driverId);
+
+            // Assert
+            assertThat(result).isSameAs(responseDTO);
+            verifyNoInteractions(driverRepository, driverMapper);
+        }
+
+        @Test
+        @DisplayName("Deve consultar a versão no banco mesmo com o motorista em cache")
+        void shouldNotReadVersionFromCache() {
+            // Arrange
+            when(driverRepository.findVersionById(driverId)).thenReturn(Optional.of(6L));
+
+            // Act & Assert
+            assertThat(driverService.getVersion(driverId)).isEqualTo(6);
+            verifyNoInteractions(driverEntityCache);
+        }
+
+        @Test
+        @DisplayName("Deve devolver o JSON do motorista com a versão usada na chave do cache")
+        void shouldReturnSerializedDriver() {
+            // Arrange
+            DriverResponseDTO cached = DriverResponseDTO.builder().id(driverId).name("João Silva").version(4).build();
+            doReturn(cached).when(driverEntityCache).get(eq(driverId), any());
+
+            // Act
+            DriverJson result = driverService.getJsonById(driverId);
+
+            // Assert
+            assertThat(result.version()).isEqualTo(4);
+            assertThat(result.json()).isEqualTo(objectMapper.writeValueAsBytes(cached));
+            verify(driverJsonCache).get(eq(driverId), eq(4L), any());
+        }
+
+        @Test
+        @DisplayName("Deve reler do banco quando o cache guarda uma versão diferente da lida no banco")
+        void shouldReloadWhenCachedVersionIsStale() {
+            // Arrange
+            DriverResponseDTO stale = DriverResponseDTO.builder().id(driverId).name("João Silva").version(1).build();
+            DriverResponseDTO current = DriverResponseDTO.builder().id(driverId).name("João Souza").version(2).build();
+            doReturn(stale, current).when(driverEntityCache).get(eq(driverId), any());
+
+            // Act
+            DriverJson result = driverService.getJsonById(driverId, 2);
+
+            // Assert
+            assertThat(result.version()).isEqualTo(2);
+            assertThat(result.json()).isEqualTo(objectMapper.writeValueAsBytes(current));
+            verify(driverEntityCache).invalidate(driverId);
+        }
+
+        @Test
+        @DisplayName("Não deve reler do banco quando o cache já está na versão lida")
+        void shouldUseCacheWhenVersionMatches() {
+            // Arrange
+            DriverResponseDTO cached = DriverResponseDTO.builder().id(driverId).name("João Silva").version(2).build();
+            doReturn(cached).when(driverEntityCache).get(eq(driverId), any());
+
+            // Act
+            DriverJson result = driverService.getJsonById(driverId, 2);
+
+            // Assert
+            assertThat(result.version()).isEqualTo(2);
+            verify(driverEntityCache, never()).invalidate(any());
+            verifyNoInteractions(driverRepository);
+        }
     }
 
     @Nested
@@ -357,15 +1045,31 @@ class DriverServiceTest {
         @DisplayName("Deve deletar motorista quando ID existe")
         void shouldDeleteDriverWhenIdExists() {
             // Arrange
-            when(driverRepository.findById(driverId)).thenReturn(Optional.of(driver));
-            doNothing().when(driverRepository).delete(driver);
+            DriverSnapshot snapshot = DriverSnapshot.of(driver);
+            when(driverRepository.findSnapshotById(driverId)).thenReturn(Optional.of(snapshot));
+            when(driverRepository.deleteRowById(driverId)).thenReturn(1);
 
             // Act
             driverService.deleteById(driverId);
 
             // Assert
-            verify(driverRepository).findById(driverId);
-            verify(driverRepository).delete(driver);
+            verify(driverRepository).deleteRowById(driverId);
+            verify(driverRepository, never()).findById(any());
+            verify(driverRepository, never()).delete(any(Driver.class));
+            verify(eventPublisher).publishEvent(DriverChangedEvent.deleted(snapshot));
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando outra requisição exclui o motorista antes")
+        void shouldThrowWhenRowVanishesBeforeDelete() {
+            // Arrange
+            when(driverRepository.findSnapshotById(driverId)).thenReturn(Optional.of(DriverSnapshot.of(driver)));
+            when(driverRepository.deleteRowById(driverId)).thenReturn(0);
+
+            // Act & Assert
+            assertThatThrownBy(() -> driverService.deleteById(driverId))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
@@ -373,15 +1077,75 @@ class DriverServiceTest {
         void shouldThrowExceptionWhenIdNotExistsOnDelete() {
             // Arrange
             UUID nonExistentId = UUID.randomUUID();
-            when(driverRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+            when(driverRepository.findSnapshotById(nonExistentId)).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> driverService.deleteById(nonExistentId))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessage("Motorista não encontrado");
 
-            verify(driverRepository).findById(nonExistentId);
-            verify(driverRepository, never()).deleteById(nonExistentId);
+            verify(driverRepository).findSnapshotById(nonExistentId);
+            verify(driverRepository, never()).deleteRowById(nonExistentId);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes do método deleteAll()")
+    class DeleteAllTests {
+
+        @Test
+        @DisplayName("Deve excluir por filtro com um único DELETE e publicar uma mudança de catálogo")
+        void shouldDeleteByFilter() {
+            // Arrange
+            when(driverRepository.delete(ArgumentMatchers.<DeleteSpecification<Driver>>any())).thenReturn(10_000L);
+
+            // Act
+            long deleted = driverService.deleteAll(null, null, null, "Campinas", null);
+
+            // Assert
+            assertThat(deleted).isEqualTo(10_000);
+            verify(driverRepository).delete(ArgumentMatchers.<DeleteSpecification<Driver>>any());
+            verify(eventPublisher).publishEvent(new DriverCatalogChangedEvent(10_000));
+        }
+
+        @Test
+        @DisplayName("Deve excluir por IDs em blocos de 1000, ignorando repetidos")
+        void shouldDeleteIdsInChunks() {
+            // Arrange
+            List<UUID> ids = Stream.generate(UUID::randomUUID).limit(2500).toList();
+            List<UUID> withRepeats = Stream.concat(ids.stream(), ids.stream().limit(10)).toList();
+            when(driverRepository.delete(ArgumentMatchers.<DeleteSpecification<Driver>>any())).thenReturn(1000L, 1000L, 500L);
+
+            // Act
+            long deleted = driverService.deleteAll(withRepeats, null, null, null, null);
+
+            // Assert
+            assertThat(deleted).isEqualTo(2500);
+            verify(driverRepository, times(3)).delete(ArgumentMatchers.<DeleteSpecification<Driver>>any());
+        }
+
+        @Test
+        @DisplayName("Não deve publicar evento quando nada é excluído")
+        void shouldNotPublishWhenNothingDeleted() {
+            // Arrange
+            when(driverRepository.delete(ArgumentMatchers.<DeleteSpecification<Driver>>any())).thenReturn(0L);
+
+            // Act
+            long deleted = driverService.deleteAll(List.of(driverId), null, null, null, null);
+
+            // Assert
+            assertThat(deleted).isZero();
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Deve recusar exclusão em lote sem IDs nem filtros")
+        void shouldRejectMissingCriteria() {
+            assertThatThrownBy(() -> driverService.deleteAll(List.of(), " ", null, null, List.of()))
+                    .isInstanceOf(MissingDeleteCriteriaException.class)
+                    .hasMessage("Informe IDs ou ao menos um filtro para excluir em lote");
+
+            verify(driverRepository, never()).delete(ArgumentMatchers.<DeleteSpecification<Driver>>any());
         }
     }
 
@@ -436,12 +1200,11 @@ class DriverServiceTest {
                     .build();
 
             when(driverRepository.findById(driverId)).thenReturn(Optional.of(driver));
-            when(driverRepository.existsByEmail(updateRequestDTO.email())).thenReturn(false);
             when(driverRepository.save(any(Driver.class))).thenReturn(updatedDriver);
             when(driverMapper.toResponse(updatedDriver)).thenReturn(updatedResponseDTO);
 
             // Act
-            DriverResponseDTO result = driverService.updateById(driverId, updateRequestDTO);
+            DriverResponseDTO result = driverService.updateById(driverId, updateRequestDTO, null);
 
             // Assert
             assertThat(result).isNotNull();
@@ -470,15 +1233,16 @@ class DriverServiceTest {
                     .build();
 
             when(driverRepository.findById(driverId)).thenReturn(Optional.of(driver));
+            takenBy(driverId, "João Silva", "joao.silva@email.com", "11999999999", "12345678901", "12345678900");
             when(driverRepository.save(any(Driver.class))).thenReturn(driver);
             when(driverMapper.toResponse(any())).thenReturn(responseDTO);
 
             // Act
-            DriverResponseDTO result = driverService.updateById(driverId, sameEmailRequest);
+            DriverResponseDTO result = driverService.updateById(driverId, sameEmailRequest, null);
 
             // Assert
             assertThat(result).isNotNull();
-            verify(driverRepository, never()).existsByEmail(anyString());
+            verify(driverRepository).flush();
         }
 
         @Test
@@ -486,10 +1250,10 @@ class DriverServiceTest {
         void shouldThrowExceptionWhenNewEmailExists() {
             // Arrange
             when(driverRepository.findById(driverId)).thenReturn(Optional.of(driver));
-            when(driverRepository.existsByEmail(updateRequestDTO.email())).thenReturn(true);
+            takenBy(UUID.randomUUID(), "Outro", "joao.atualizado@email.com", "000", "000", "000");
 
             // Act & Assert
-            assertThatThrownBy(() -> driverService.updateById(driverId, updateRequestDTO))
+            assertThatThrownBy(() -> driverService.updateById(driverId, updateRequestDTO, null))
                     .isInstanceOf(DuplicateResourceException.class)
                     .hasMessage("Email já cadastrado");
 
@@ -512,10 +1276,10 @@ class DriverServiceTest {
                     .build();
 
             when(driverRepository.findById(driverId)).thenReturn(Optional.of(driver));
-            when(driverRepository.existsByCpf(newCpfRequest.cpf())).thenReturn(true);
+            takenBy(UUID.randomUUID(), "Outro", "outro@email.com", "000", "98765432100", "000");
 
             // Act & Assert
-            assertThatThrownBy(() -> driverService.updateById(driverId, newCpfRequest))
+            assertThatThrownBy(() -> driverService.updateById(driverId, newCpfRequest, null))
                     .isInstanceOf(DuplicateResourceException.class)
                     .hasMessage("CPF já cadastrado");
 
@@ -538,10 +1302,10 @@ class DriverServiceTest {
                     .build();
 
             when(driverRepository.findById(driverId)).thenReturn(Optional.of(driver));
-            when(driverRepository.existsByCnh(newCnhRequest.cnh())).thenReturn(true);
+            takenBy(UUID.randomUUID(), "Outro", "outro@email.com", "000", "000", "99999999999");
 
             // Act & Assert
-            assertThatThrownBy(() -> driverService.updateById(driverId, newCnhRequest))
+            assertThatThrownBy(() -> driverService.updateById(driverId, newCnhRequest, null))
                     .isInstanceOf(DuplicateResourceException.class)
                     .hasMessage("CNH já cadastrada");
 
@@ -556,7 +1320,7 @@ class DriverServiceTest {
             when(driverRepository.findById(nonExistentId)).thenReturn(Optional.empty());
 
 
-            assertThatThrownBy(() -> driverService.updateById(nonExistentId, updateRequestDTO))
+            assertThatThrownBy(() -> driverService.updateById(nonExistentId, updateRequestDTO, null))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessage("Motorista não encontrado");
 
@@ -564,5 +1328,160 @@ class DriverServiceTest {
             verify(driverRepository, never()).save(any());
         }
     }
-}
 
+    @Nested
+    @DisplayName("Testes do método patchById()")
+    class PatchByIdTests {
+
+        @Test
+        @DisplayName("Deve alterar só os campos informados e conferir unicidade só dos alterados")
+        void shouldPatchOnlyGivenFields() {
+            // Arrange
+            when(driverRepository.findById(driverId)).thenReturn(Optional.of(driver));
+            when(driverRepository.save(driver)).thenReturn(driver);
+
+            // Act
+            driverService.patchById(driverId, DriverPatchDTO.builder()
+                    .email("joao.silva@email.com")
+                    .phone("11977777777")
+                    .available(false)
+                    .build(), null);
+
+            // Assert
+            assertThat(driver.getPhoneNumber()).isEqualTo("11977777777");
+            assertThat(driver.isAvailable()).isFalse();
+            assertThat(driver.getName()).isEqualTo("João Silva");
+            assertThat(driver.getCity()).isEqualTo("São Paulo");
+            verify(driverUniqueKeyFilter).mayBeTaken(null, null, "11977777777", null, null);
+            verify(driverRepository).findTaken(List.of(), List.of(), List.of("11977777777"), List.of(), List.of());
+            verify(eventPublisher).publishEvent(any(DriverChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Deve manter a lista de veículos quando só a ordem muda")
+        void shouldKeepVehicleListWhenOnlyOrderDiffers() {
+            // Arrange
+            List<VehicleType> vehicles = driver.getVehicleType();
+            when(driverRepository.findById(driverId)).thenReturn(Optional.of(driver));
+            when(driverRepository.save(driver)).thenReturn(driver);
+
+            // Act
+            driverService.patchById(driverId, DriverPatchDTO.builder()
+                    .city("Campinas")
+                    .vehicleTypes(List.of(VehicleType.MOTORCYCLE, VehicleType.CAR))
+                    .build(), null);
+
+            // Assert
+            assertThat(driver.getVehicleType()).isSameAs(vehicles);
+            assertThat(driver.getCity()).isEqualTo("Campinas");
+        }
+
+        @Test
+        @DisplayName("Não deve gravar nem publicar evento quando nada muda")
+        void shouldNotWriteWhenNothingChanges() {
+            // Arrange
+            when(driverRepository.findById(driverId)).thenReturn(Optional.of(driver));
+            when(driverMapper.toResponse(driver)).thenReturn(responseDTO);
+
+            // Act
+            DriverResponseDTO result = driverService.patchById(driverId, DriverPatchDTO.builder()
+                    .name("João Silva")
+                    .state("SP")
+                    .vehicleTypes(List.of(VehicleType.CAR, VehicleType.MOTORCYCLE))
+                    .available(true)
+                    .build(), null);
+
+            // Assert
+            assertThat(result).isEqualTo(responseDTO);
+            verify(driverRepository, never()).save(any());
+            verify(driverRepository, never()).findTaken(anyCollection(), anyCollection(), anyCollection(), anyCollection(), anyCollection());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando o novo CPF já existe em outro motorista")
+        void shouldRejectTakenCpf() {
+            // Arrange
+            when(driverRepository.findById(driverId)).thenReturn(Optional.of(driver));
+            takenBy(UUID.randomUUID(), "Outro", "outro@email.com", "000", "52998224725", "000");
+
+            // Act & Assert
+            assertThatThrownBy(() -> driverService.patchById(driverId, DriverPatchDTO.builder().cpf("52998224725").build(), null))
+                    .isInstanceOf(DuplicateResourceException.class)
+                    .hasMessage("CPF já cadastrado");
+            assertThat(driver.getCpf()).isEqualTo("12345678901");
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando ID não existe")
+        void shouldThrowWhenIdNotExists() {
+            // Arrange
+            UUID nonExistentId = UUID.randomUUID();
+            when(driverRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> driverService.patchById(nonExistentId, DriverPatchDTO.builder().city("Campinas").build(), null))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Motorista não encontrado");
+        }
+
+        @Test
+        @DisplayName("Deve gravar quando a versão do If-Match é a atual")
+        void shouldPatchWhenVersionMatches() {
+            // Arrange
+            driver.setVersion(3);
+            when(driverRepository.findById(driverId)).thenReturn(Optional.of(driver));
+            when(driverRepository.save(driver)).thenReturn(driver);
+
+            // Act
+            driverService.patchById(driverId, DriverPatchDTO.builder().city("Campinas").build(), 3L);
+
+            // Assert
+            verify(driverRepository).save(driver);
+        }
+
+        @Test
+        @DisplayName("Deve recusar a alteração quando a versão do If-Match está defasada")
+        void shouldRejectStaleVersion() {
+            // Arrange
+            driver.setVersion(4);
+            when(driverRepository.findById(driverId)).thenReturn(Optional.of(driver));
+
+            // Act & Assert
+            assertThatThrownBy(() -> driverService.patchById(driverId, DriverPatchDTO.builder().city("Campinas").build(), 3L))
+                    .isInstanceOf(PreconditionFailedException.class)
+                    .hasMessage("O motorista foi alterado por outra requisição");
+            assertThat(driver.getCity()).isEqualTo("São Paulo");
+            verify(driverRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes do método getVersion()")
+    class GetVersionTests {
+
+        @Test
+        @DisplayName("Deve retornar a versão sem carregar a entidade")
+        void shouldReturnVersion() {
+            // Arrange
+            when(driverRepository.findVersionById(driverId)).thenReturn(Optional.of(7L));
+
+            // Act & Assert
+            assertThat(driverService.getVersion(driverId)).isEqualTo(7);
+            verify(driverRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando ID não existe")
+        void shouldThrowWhenIdNotExists() {
+            // Arrange
+            when(driverRepository.findVersionById(driverId)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> driverService.getVersion(driverId))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Motorista não encontrado");
+        }
+    }
+}
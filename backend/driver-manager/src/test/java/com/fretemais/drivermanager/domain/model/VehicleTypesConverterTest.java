@@ -0,0 +1,40 @@
+package com.fretemais.drivermanager.domain.model;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VehicleTypesConverter - Testes Unitários")
+class VehicleTypesConverterTest {
+
+    private final VehicleTypesConverter converter = new VehicleTypesConverter();
+
+    @Test
+    @DisplayName("Deve converter os tipos de veículo em bitmask")
+    void shouldConvertToMask() {
+        assertThat(converter.convertToDatabaseColumn(List.of(VehicleType.CAR))).isEqualTo(1);
+        assertThat(converter.convertToDatabaseColumn(List.of(VehicleType.TRUCK, VehicleType.MOTORCYCLE))).isEqualTo(6);
+        assertThat(converter.convertToDatabaseColumn(List.of(VehicleType.CAR, VehicleType.CAR))).isEqualTo(1);
+        assertThat(converter.convertToDatabaseColumn(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve converter o bitmask em lista na ordem do enum")
+    void shouldConvertToListInEnumOrder() {
+        assertThat(converter.convertToEntityAttribute(7))
+                .containsExactly(VehicleType.CAR, VehicleType.MOTORCYCLE, VehicleType.TRUCK);
+        assertThat(converter.convertToEntityAttribute(5)).containsExactly(VehicleType.CAR, VehicleType.TRUCK);
+        assertThat(converter.convertToEntityAttribute(0)).isEmpty();
+        assertThat(converter.convertToEntityAttribute(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar a mesma lista para a mesma máscara")
+    void shouldShareListPerMask() {
+        assertThat(converter.convertToEntityAttribute(3)).isSameAs(converter.convertToEntityAttribute(3));
+    }
+}
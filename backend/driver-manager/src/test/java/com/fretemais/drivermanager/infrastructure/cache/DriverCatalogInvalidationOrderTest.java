@@ -0,0 +1,187 @@
+package com.fretemais.drivermanager.infrastructure.cache;
+
+import com.fretemais.drivermanager.application.dtos.DriverSummaryDTO;
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.model.Driver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uma leitura que acontece entre os listeners pós-commit não pode receber a página antiga com a versão nova.
+ */
+@DisplayName("DriverListCache e DriverCatalogVersion - Ordem dos listeners")
+class DriverCatalogInvalidationOrderTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+    private static final DriverListCache.Key KEY = DriverListCache.Key.of("EXACT", null, "SP", null, null, FIRST_PAGE);
+
+    private AnnotationConfigApplicationContext context;
+    private DriverListCache listCache;
+    private DriverCatalogVersion catalogVersion;
+    private ConcurrentReader reader;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(TestConfig.class);
+        listCache = context.getBean(DriverListCache.class);
+        catalogVersion = context.getBean(DriverCatalogVersion.class);
+        reader = context.getBean(ConcurrentReader.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    private static Slice<DriverSummaryDTO> page(String name) {
+        return new PageImpl<>(List.of(DriverSummaryDTO.builder().id(UUID.randomUUID()).name(name).build()),
+                FIRST_PAGE, 1);
+    }
+
+    private void commit(Object event) {
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+                .executeWithoutResult(status -> context.publishEvent(event));
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a listagem antes de incrementar a versão após uma escrita")
+    void shouldInvalidateBeforeBumpingOnDriverChange() {
+        // Arrange
+        String before = catalogVersion.current();
+        listCache.get(KEY, () -> page("antigo"));
+
+        // Act
+        commit(DriverChangedEvent.created(Driver.builder().id(UUID.randomUUID()).state("SP").vehicleType(List.of()).build()));
+
+        // Assert
+        assertThat(reader.observations).singleElement()
+                .isEqualTo(new Observation(before, "novo"));
+        assertThat(catalogVersion.current()).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a listagem antes de incrementar a versão após uma escrita em lote")
+    void shouldInvalidateBeforeBumpingOnCatalogChange() {
+        // Arrange
+        String before = catalogVersion.current();
+        listCache.get(KEY, () -> page("antigo"));
+
+        // Act
+        commit(new DriverCatalogChangedEvent(10));
+
+        // Assert
+        assertThat(reader.observations).singleElement()
+                .isEqualTo(new Observation(before, "novo"));
+        assertThat(catalogVersion.current()).isNotEqualTo(before);
+    }
+
+    record Observation(String version, String page) {
+    }
+
+    /**
+     * Simula um {@code GET /api/drivers} concorrente rodando entre a invalidação e o incremento da versão.
+     */
+    static class ConcurrentReader {
+
+        private final DriverListCache listCache;
+        private final DriverCatalogVersion catalogVersion;
+        final List<Observation> observations = new ArrayList<>();
+
+        ConcurrentReader(DriverListCache listCache, DriverCatalogVersion catalogVersion) {
+            this.listCache = listCache;
+            this.catalogVersion = catalogVersion;
+        }
+
+        @Order(0)
+        @TransactionalEventListener
+        public void onDriverChanged(DriverChangedEvent event) {
+            read();
+        }
+
+        @Order(0)
+        @TransactionalEventListener
+        public void onCatalogChanged(DriverCatalogChangedEvent event) {
+            read();
+        }
+
+        private void read() {
+            String version = catalogVersion.current();
+            String name = listCache.get(KEY, () -> page("novo")).getContent().getFirst().name();
+            observations.add(new Observation(version, name));
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TestConfig {
+
+        // Converte os padrões "30s" dos @Value como o Spring Boot faz
+        @Bean
+        static ConversionService conversionService() {
+            return ApplicationConversionService.getSharedInstance();
+        }
+
+        @Bean
+        DriverListCache driverListCache() {
+            return new DriverListCache();
+        }
+
+        @Bean
+        DriverCatalogVersion driverCatalogVersion() {
+            return new DriverCatalogVersion();
+        }
+
+        @Bean
+        ConcurrentReader concurrentReader(DriverListCache listCache, DriverCatalogVersion catalogVersion) {
+            return new ConcurrentReader(listCache, catalogVersion);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new AbstractPlatformTransactionManager() {
+                @Override
+                protected Object doGetTransaction() {
+                    return new Object();
+                }
+
+                @Override
+                protected void doBegin(Object transaction, TransactionDefinition definition) {
+                }
+
+                @Override
+                protected void doCommit(DefaultTransactionStatus status) {
+                }
+
+                @Override
+                protected void doRollback(DefaultTransactionStatus status) {
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.fretemais.drivermanager.infrastructure.cache;
+
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.model.Driver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DriverCatalogVersion - Testes Unitários")
+class DriverCatalogVersionTest {
+
+    private final DriverCatalogVersion catalogVersion = new DriverCatalogVersion();
+
+    @Test
+    @DisplayName("Deve manter a versão enquanto não há escrita")
+    void shouldKeepVersionWithoutWrites() {
+        assertThat(catalogVersion.current()).isEqualTo(catalogVersion.current());
+    }
+
+    @Test
+    @DisplayName("Deve mudar a versão a cada escrita individual ou em lote")
+    void shouldChangeOnEveryWrite() {
+        String initial = catalogVersion.current();
+
+        catalogVersion.onDriverChanged(DriverChangedEvent.created(Driver.builder().id(UUID.randomUUID()).build()));
+        String afterCreate = catalogVersion.current();
+        catalogVersion.onCatalogChanged(new DriverCatalogChangedEvent(10));
+
+        assertThat(afterCreate).isNotEqualTo(initial);
+        assertThat(catalogVersion.current()).isNotIn(initial, afterCreate);
+    }
+
+    @Test
+    @DisplayName("Deve mudar a versão ao fim da janela mesmo sem escritas locais")
+    void shouldChangeWhenWindowEnds() throws InterruptedException {
+        catalogVersion.window = Duration.ofMillis(1);
+        String initial = catalogVersion.current();
+
+        Thread.sleep(2);
+
+        assertThat(catalogVersion.current()).isNotEqualTo(initial);
+    }
+
+    @Test
+    @DisplayName("Deve distinguir versões de inicializações diferentes")
+    void shouldDifferAcrossStartups() throws InterruptedException {
+        Thread.sleep(2);
+
+        assertThat(new DriverCatalogVersion().current()).isNotEqualTo(catalogVersion.current());
+    }
+}
@@ -0,0 +1,224 @@
+package com.fretemais.drivermanager.infrastructure.cache;
+
+import com.fretemais.drivermanager.application.dtos.DriverResponseDTO;
+import com.fretemais.drivermanager.application.dtos.EntityCacheStatsDTO;
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.model.Driver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DriverEntityCache - Testes Unitários")
+class DriverEntityCacheTest {
+
+    private DriverEntityCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new DriverEntityCache();
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<DriverResponseDTO> loader(UUID id) {
+        return () -> {
+            loads.incrementAndGet();
+            return DriverResponseDTO.builder().id(id).name("Motorista " + loads.get()).build();
+        };
+    }
+
+    private void read(UUID id, int times) {
+        for (int i = 0; i < times; i++) {
+            cache.get(id, loader(id));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de leitura")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Deve consultar uma vez e servir as próximas leituras do cache")
+        void shouldLoadOnceAndServeFromCache() {
+            UUID id = UUID.randomUUID();
+
+            DriverResponseDTO first = cache.get(id, loader(id));
+            DriverResponseDTO second = cache.get(id, loader(id));
+
+            assertThat(second).isSameAs(first);
+            assertThat(loads).hasValue(1);
+            assertThat(cache.stats().hits()).isEqualTo(1);
+            assertThat(cache.stats().misses()).isEqualTo(1);
+            assertThat(cache.stats().hitRatio()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("Deve consultar o banco de novo após o TTL")
+        void shouldReloadAfterTtl() {
+            cache.ttl = Duration.ZERO;
+            UUID id = UUID.randomUUID();
+
+            read(id, 2);
+
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Deve delegar direto ao banco quando desabilitado")
+        void shouldBypassWhenDisabled() {
+            cache.enabled = false;
+            UUID id = UUID.randomUUID();
+
+            read(id, 2);
+
+            assertThat(loads).hasValue(2);
+            assertThat(cache.stats().size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de concorrência")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Deve servir leituras concorrentes espalhadas pelos segmentos")
+        void shouldServeConcurrentReads() throws Exception {
+            List<UUID> ids = LongStream.range(0, 100).mapToObj(i -> new UUID(3, i)).toList();
+
+            List<Future<?>> readers = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int thread = 0; thread < 8; thread++) {
+                    readers.add(executor.submit(() -> {
+                        for (int i = 0; i < 1_000; i++) {
+                            UUID id = ids.get(i % ids.size());
+                            assertThat(cache.get(id, loader(id)).id()).isEqualTo(id);
+                        }
+                        return null;
+                    }));
+                }
+            }
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+
+            EntityCacheStatsDTO stats = cache.stats();
+            assertThat(stats.hits() + stats.misses()).isEqualTo(8_000);
+            assertThat(stats.size()).isEqualTo(100);
+            assertThat(loads.get()).isGreaterThanOrEqualTo(100);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de admissão TinyLFU")
+    class AdmissionTests {
+
+        @BeforeEach
+        void setUp() {
+            cache.maxSize = 2;
+        }
+
+        @Test
+        @DisplayName("Não deve deixar uma varredura de IDs únicos expulsar motoristas frequentes")
+        void shouldRejectOneHitWonders() {
+            // IDs fixos: com UUIDs aleatórios uma colisão no sketch pode admitir um ID da varredura
+            UUID hot = new UUID(1, 1);
+            UUID warm = new UUID(1, 2);
+            read(hot, 5);
+            read(warm, 5);
+
+            LongStream.range(0, 100).mapToObj(i -> new UUID(2, i)).forEach(id -> read(id, 1));
+
+            loads.set(0);
+            read(hot, 1);
+            read(warm, 1);
+            assertThat(loads).hasValue(0);
+
+            EntityCacheStatsDTO stats = cache.stats();
+            assertThat(stats.rejections()).isEqualTo(100);
+            assertThat(stats.evictions()).isZero();
+            assertThat(stats.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve admitir uma chave mais frequente no lugar da menos recente")
+        void shouldAdmitFrequentKey() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            UUID popular = UUID.randomUUID();
+            read(first, 1);
+            read(second, 1);
+
+            read(popular, 3);
+
+            loads.set(0);
+            read(popular, 1);
+            read(second, 1);
+            read(first, 1);
+            assertThat(loads).hasValue(1);
+            assertThat(cache.stats().evictions()).isGreaterThanOrEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de invalidação")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Deve remover o motorista alterado ou excluído")
+        void shouldEvictChangedDriver() {
+            UUID id = UUID.randomUUID();
+            UUID other = UUID.randomUUID();
+            read(id, 1);
+            read(other, 1);
+
+            cache.onDriverChanged(DriverChangedEvent.deleted(Driver.builder().id(id).vehicleType(List.of()).build()));
+
+            loads.set(0);
+            read(id, 1);
+            read(other, 1);
+            assertThat(loads).hasValue(1);
+            assertThat(cache.stats().invalidations()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve esvaziar o cache em escritas em lote")
+        void shouldClearOnCatalogChange() {
+            read(UUID.randomUUID(), 1);
+            read(UUID.randomUUID(), 1);
+
+            cache.onCatalogChanged(new DriverCatalogChangedEvent(2));
+
+            assertThat(cache.stats().size()).isZero();
+            assertThat(cache.stats().invalidations()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Não deve guardar valor lido antes de uma escrita confirmada durante a leitura")
+        void shouldDiscardValueLoadedDuringWrite() {
+            UUID id = UUID.randomUUID();
+
+            cache.get(id, () -> {
+                cache.onDriverChanged(DriverChangedEvent.deleted(Driver.builder().id(id).vehicleType(List.of()).build()));
+                return DriverResponseDTO.builder().id(id).build();
+            });
+
+            read(id, 1);
+            assertThat(loads).hasValue(1);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.fretemais.drivermanager.infrastructure.cache;
+
+import com.fretemais.drivermanager.application.mappers.DriverMapper;
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.model.Driver;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara o caminho normal do {@code GET /api/drivers/{id}} em um acerto de cache (DTO + Jackson) com os bytes
+ * já serializados. Desligado por padrão:
+ * {@code mvn test -Dbenchmark=true -Dtest=DriverJsonCacheBenchmarkTest}
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("DriverJsonCache - Benchmark")
+class DriverJsonCacheBenchmarkTest {
+
+    private static final int WARMUP = 200_000;
+    private static final int ROUNDS = 1_000_000;
+
+    private final DriverMapper mapper = new DriverMapper();
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @Test
+    @DisplayName("DTO + Jackson x bytes em cache")
+    void compareWithSerialization() {
+        Driver driver = Driver.builder()
+                .id(UUID.randomUUID())
+                .name("João da Silva Santos")
+                .email("joao.silva@email.com")
+                .phoneNumber("11987654321")
+                .cpf("52998224725")
+                .cnh("12345678900")
+                .city("São Paulo")
+                .state("SP")
+                .available(true)
+                .vehicleType(List.of(VehicleType.CAR, VehicleType.TRUCK))
+                .version(3)
+                .build();
+        DriverJsonCache cache = new DriverJsonCache();
+        Supplier<byte[]> serialize = () -> objectMapper.writeValueAsBytes(mapper.toResponse(driver));
+
+        byte[] serialized = measure("DTO + Jackson", serialize);
+        byte[] cached = measure("bytes em cache", () -> cache.get(driver.getId(), driver.getVersion(), serialize));
+
+        assertThat(cached).isEqualTo(serialized);
+    }
+
+    private static byte[] measure(String label, Supplier<byte[]> operation) {
+        byte[] result = operation.get();
+        for (int i = 0; i < WARMUP; i++) {
+            operation.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            operation.get();
+        }
+        log.info("{}: {} bytes, {} ns por requisição", label, result.length, (System.nanoTime() - start) / ROUNDS);
+        return result;
+    }
+}
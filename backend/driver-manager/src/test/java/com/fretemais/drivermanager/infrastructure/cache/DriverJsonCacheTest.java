@@ -0,0 +1,142 @@
+package com.fretemais.drivermanager.infrastructure.cache;
+
+import com.fretemais.drivermanager.application.dtos.CacheStatsDTO;
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.model.Driver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DriverJsonCache - Testes Unitários")
+class DriverJsonCacheTest {
+
+    private DriverJsonCache cache;
+    private AtomicInteger serializations;
+
+    @BeforeEach
+    void setUp() {
+        cache = new DriverJsonCache();
+        serializations = new AtomicInteger();
+    }
+
+    private Supplier<byte[]> serializer(int size) {
+        return () -> {
+            serializations.incrementAndGet();
+            return "x".repeat(size).getBytes(StandardCharsets.UTF_8);
+        };
+    }
+
+    @Nested
+    @DisplayName("Testes de leitura")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Deve serializar uma vez por versão e reaproveitar os bytes")
+        void shouldSerializeOncePerVersion() {
+            UUID id = UUID.randomUUID();
+
+            byte[] first = cache.get(id, 1, serializer(10));
+            byte[] second = cache.get(id, 1, serializer(10));
+            cache.get(id, 2, serializer(10));
+
+            assertThat(second).isSameAs(first);
+            assertThat(serializations).hasValue(2);
+            assertThat(cache.stats().hits()).isEqualTo(1);
+            assertThat(cache.stats().size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Não deve trocar bytes de uma versão mais nova por uma mais antiga")
+        void shouldKeepNewerVersion() {
+            UUID id = UUID.randomUUID();
+            cache.get(id, 2, serializer(10));
+
+            cache.get(id, 1, serializer(20));
+
+            assertThat(cache.stats().weight()).isEqualTo(10);
+            serializations.set(0);
+            cache.get(id, 2, serializer(10));
+            assertThat(serializations).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("Deve serializar sempre quando desabilitado")
+        void shouldBypassWhenDisabled() {
+            cache.enabled = false;
+            UUID id = UUID.randomUUID();
+
+            cache.get(id, 1, serializer(10));
+            cache.get(id, 1, serializer(10));
+
+            assertThat(serializations).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de limite em bytes")
+    class SizeTests {
+
+        @Test
+        @DisplayName("Deve remover os menos recentes quando o total de bytes passa do limite")
+        void shouldEvictByBytes() {
+            cache.maxSize = DataSize.ofBytes(100);
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            cache.get(first, 1, serializer(40));
+            cache.get(second, 1, serializer(40));
+            cache.get(first, 1, serializer(40));
+
+            cache.get(UUID.randomUUID(), 1, serializer(40));
+
+            CacheStatsDTO stats = cache.stats();
+            assertThat(stats.evictions()).isEqualTo(1);
+            assertThat(stats.weight()).isEqualTo(80);
+            assertThat(stats.maxWeight()).isEqualTo(100);
+            serializations.set(0);
+            cache.get(first, 1, serializer(40));
+            assertThat(serializations).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("Não deve guardar um corpo maior que o limite")
+        void shouldSkipOversizedBody() {
+            cache.maxSize = DataSize.ofBytes(100);
+
+            cache.get(UUID.randomUUID(), 1, serializer(101));
+
+            assertThat(cache.stats().size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de invalidação")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Deve remover o motorista alterado e esvaziar em escritas em lote")
+        void shouldInvalidateOnWrites() {
+            UUID id = UUID.randomUUID();
+            cache.get(id, 1, serializer(10));
+            cache.get(UUID.randomUUID(), 1, serializer(30));
+
+            cache.onDriverChanged(DriverChangedEvent.deleted(Driver.builder().id(id).vehicleType(List.of()).build()));
+            assertThat(cache.stats().weight()).isEqualTo(30);
+
+            cache.onCatalogChanged(new DriverCatalogChangedEvent(1));
+            assertThat(cache.stats().size()).isZero();
+            assertThat(cache.stats().weight()).isZero();
+            assertThat(cache.stats().invalidations()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.fretemais.drivermanager.infrastructure.cache;
+
+import com.fretemais.drivermanager.application.dtos.DriverSummaryDTO;
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverSnapshot;
+import com.fretemais.drivermanager.domain.model.Driver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DriverListCache - Testes Unitários")
+class DriverListCacheTest {
+
+    private final Pageable firstPage = PageRequest.of(0, 10);
+
+    private DriverListCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new DriverListCache();
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<Page<DriverSummaryDTO>> loader(int rows) {
+        return () -> {
+            loads.incrementAndGet();
+            List<DriverSummaryDTO> content = new ArrayList<>();
+            for (int i = 0; i < rows; i++) {
+                content.add(DriverSummaryDTO.builder().id(UUID.randomUUID()).name("Motorista " + i).build());
+            }
+            return new PageImpl<>(content, firstPage, rows);
+        };
+    }
+
+    private DriverListCache.Key key(String state, List<VehicleType> vehicles) {
+        return DriverListCache.Key.of("EXACT", null, state, null, vehicles, firstPage);
+    }
+
+    private Driver driver(String state, VehicleType vehicle) {
+        return Driver.builder()
+                .id(UUID.randomUUID())
+                .name("Motorista")
+                .city("Belo Horizonte")
+                .state(state)
+                .vehicleType(List.of(vehicle))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Testes de leitura")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Deve consultar uma vez e servir as próximas leituras do cache")
+        void shouldLoadOnceAndServeFromCache() {
+            // Act
+            Page<DriverSummaryDTO> first = cache.get(key("SP", null), loader(2));
+            Page<DriverSummaryDTO> second = cache.get(key("sp", null), loader(2));
+
+            // Assert
+            assertThat(second).isSameAs(first);
+            assertThat(loads).hasValue(1);
+            assertThat(cache.stats().hits()).isEqualTo(1);
+            assertThat(cache.stats().misses()).isEqualTo(1);
+            assertThat(cache.stats().weight()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Deve separar entradas por página e ordenação")
+        void shouldKeyByPageable() {
+            // Act
+            cache.get(key("SP", null), loader(1));
+            cache.get(DriverListCache.Key.of("EXACT", null, "SP", null, null, PageRequest.of(1, 10)), loader(1));
+
+            // Assert
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Deve consultar novamente após expirar o TTL")
+        void shouldReloadAfterTtl() {
+            // Arrange
+            cache.ttl = Duration.ZERO;
+
+            // Act
+            cache.get(key("SP", null), loader(1));
+            cache.get(key("SP", null), loader(1));
+
+            // Assert
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Deve remover as entradas menos usadas ao exceder o peso máximo")
+        void shouldEvictLeastRecentlyUsedByWeight() {
+            // Arrange
+            cache.maxWeight = 6;
+
+            // Act
+            cache.get(key("SP", null), loader(2));
+            cache.get(key("RJ", null), loader(2));
+            cache.get(key("SP", null), loader(2));
+            cache.get(key("MG", null), loader(2));
+            cache.get(key("SP", null), loader(2));
+            cache.get(key("RJ", null), loader(2));
+
+            // Assert
+            assertThat(loads).hasValue(4);
+            assertThat(cache.stats().evictions()).isEqualTo(2);
+            assertThat(cache.stats().weight()).isLessThanOrEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("Deve executar uma única consulta para leituras concorrentes da mesma chave")
+        void shouldCoalesceConcurrentLoads() throws Exception {
+            // Arrange
+            CountDownLatch release = new CountDownLatch(1);
+            Supplier<Page<DriverSummaryDTO>> slowLoader = () -> {
+                loads.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new PageImpl<>(List.of(), firstPage, 0);
+            };
+
+            // Act
+            List<Future<Page<DriverSummaryDTO>>> results = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 8; i++) {
+                    results.add(executor.submit(() -> cache.get(key("SP", null), slowLoader)));
+                }
+                Thread.sleep(100);
+                release.countDown();
+            }
+
+            // Assert
+            assertThat(loads).hasValue(1);
+            Page<DriverSummaryDTO> first = results.getFirst().get();
+            for (Future<Page<DriverSummaryDTO>> result : results) {
+                assertThat(result.get()).isSameAs(first);
+            }
+        }
+
+        @Test
+        @DisplayName("Deve consultar sempre quando desabilitado")
+        void shouldBypassWhenDisabled() {
+            // Arrange
+            cache.enabled = false;
+
+            // Act
+            cache.get(key("SP", null), loader(1));
+            cache.get(key("SP", null), loader(1));
+
+            // Assert
+            assertThat(loads).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de invalidação")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Deve invalidar apenas entradas cujo estado e veículos aceitam o motorista")
+        void shouldInvalidateSelectively() {
+            // Arrange
+            cache.get(key("SP", null), loader(1));
+            cache.get(key("RJ", null), loader(1));
+            cache.get(key(null, List.of(VehicleType.TRUCK)), loader(1));
+            cache.get(key(null, List.of(VehicleType.CAR)), loader(1));
+
+            // Act
+            cache.onDriverChanged(DriverChangedEvent.created(driver("SP", VehicleType.CAR)));
+
+            // Assert
+            assertThat(cache.stats().invalidations()).isEqualTo(2);
+            cache.get(key("RJ", null), loader(1));
+            cache.get(key(null, List.of(VehicleType.TRUCK)), loader(1));
+            assertThat(loads).hasValue(4);
+        }
+
+        @Test
+        @DisplayName("Deve invalidar entradas que aceitavam o motorista antes da alteração")
+        void shouldInvalidateUsingPreviousState() {
+            // Arrange
+            cache.get(key("RJ", null), loader(1));
+            Driver driver = driver("RJ", VehicleType.CAR);
+            DriverSnapshot before = DriverSnapshot.of(driver);
+            driver.setState("SP");
+
+            // Act
+            cache.onDriverChanged(DriverChangedEvent.updated(before, driver));
+
+            // Assert
+            assertThat(cache.stats().invalidations()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve invalidar sempre as entradas com filtro de texto")
+        void shouldAlwaysInvalidateTextEntries() {
+            // Arrange
+            cache.get(DriverListCache.Key.of("EXACT", "silva", null, null, null, firstPage), loader(1));
+
+            // Act
+            cache.onDriverChanged(DriverChangedEvent.deleted(driver("MG", VehicleType.TRUCK)));
+
+            // Assert
+            assertThat(cache.stats().size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Não deve guardar resultado de consulta concorrente a uma escrita")
+        void shouldDiscardLoadRacingWithWrite() {
+            // Act
+            cache.get(key("SP", null), () -> {
+                loads.incrementAndGet();
+                cache.onDriverChanged(DriverChangedEvent.created(driver("MG", VehicleType.TRUCK)));
+                return new PageImpl<>(List.of(), firstPage, 0);
+            });
+
+            // Assert
+            assertThat(cache.stats().size()).isZero();
+            cache.get(key("SP", null), loader(1));
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Não deve juntar leituras novas a uma consulta iniciada antes da escrita")
+        void shouldNotJoinLoadStartedBeforeWrite() throws Exception {
+            // Arrange
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Supplier<Page<DriverSummaryDTO>> slowLoader = () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new PageImpl<>(List.of(), firstPage, 0);
+            };
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<Page<DriverSummaryDTO>> stale = executor.submit(() -> cache.get(key("SP", null), slowLoader));
+                started.await(5, TimeUnit.SECONDS);
+
+                // Act
+                cache.onDriverChanged(DriverChangedEvent.created(driver("SP", VehicleType.CAR)));
+                Page<DriverSummaryDTO> fresh = cache.get(key("SP", null), loader(1));
+                release.countDown();
+
+                // Assert
+                assertThat(fresh.getContent()).hasSize(1);
+                assertThat(stale.get().getContent()).isEmpty();
+            }
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Deve esvaziar o cache após escrita em lote")
+        void shouldClearOnCatalogChange() {
+            // Arrange
+            cache.get(key("SP", null), loader(1));
+            cache.get(key(null, List.of(VehicleType.CAR)), loader(1));
+
+            // Act
+            cache.onCatalogChanged(new DriverCatalogChangedEvent(500));
+
+            // Assert
+            assertThat(cache.stats().size()).isZero();
+            assertThat(cache.stats().invalidations()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve esvaziar o cache")
+        void shouldClear() {
+            // Arrange
+            cache.get(key("SP", null), loader(1));
+            cache.get(key("RJ", null), loader(1));
+
+            // Act
+            cache.clear();
+
+            // Assert
+            assertThat(cache.stats().size()).isZero();
+            assertThat(cache.stats().weight()).isZero();
+        }
+    }
+}
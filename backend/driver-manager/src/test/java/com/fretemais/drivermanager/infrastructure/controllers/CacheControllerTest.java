@@ -0,0 +1,128 @@
+package com.fretemais.drivermanager.infrastructure.controllers;
+
+import com.fretemais.drivermanager.application.dtos.CacheStatsDTO;
+import com.fretemais.drivermanager.application.dtos.EntityCacheStatsDTO;
+import com.fretemais.drivermanager.application.dtos.UniqueKeyFilterStatsDTO;
+import com.fretemais.drivermanager.infrastructure.cache.DriverEntityCache;
+import com.fretemais.drivermanager.infrastructure.cache.DriverJsonCache;
+import com.fretemais.drivermanager.infrastructure.cache.DriverListCache;
+import com.fretemais.drivermanager.infrastructure.persistence.SqlStatementCounter;
+import com.fretemais.drivermanager.infrastructure.search.DriverUniqueKeyFilter;
+import com.fretemais.drivermanager.infrastructure.security.JwtTokenCache;
+import com.fretemais.drivermanager.infrastructure.security.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest(CacheController.class)
+@Import({SqlStatementCounter.class, SimpleMeterRegistry.class})
+@DisplayName("CacheController - Testes de API")
+class CacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private DriverListCache driverListCache;
+
+    @MockitoBean
+    private DriverEntityCache driverEntityCache;
+
+    @MockitoBean
+    private DriverJsonCache driverJsonCache;
+
+    @MockitoBean
+    private DriverUniqueKeyFilter driverUniqueKeyFilter;
+
+    @MockitoBean
+    private JwtTokenCache jwtTokenCache;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    @WithMockUser
+    @DisplayName("Deve retornar as estatísticas do cache de listagem")
+    void shouldReturnDriverListStats() throws Exception {
+        when(driverListCache.stats()).thenReturn(new CacheStatsDTO(10, 2, 1, 3, 4, 40, 5000));
+
+        mockMvc.perform(get("/api/cache/driver-list"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(10))
+                .andExpect(jsonPath("$.misses").value(2))
+                .andExpect(jsonPath("$.evictions").value(1))
+                .andExpect(jsonPath("$.invalidations").value(3))
+                .andExpect(jsonPath("$.weight").value(40));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Deve retornar as estatísticas do cache de motoristas por ID")
+    void shouldReturnDriverEntityStats() throws Exception {
+        when(driverEntityCache.stats()).thenReturn(new EntityCacheStatsDTO(95, 5, 0.95, 2, 7, 1, 90, 10000));
+
+        mockMvc.perform(get("/api/cache/driver-entities"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hitRatio").value(0.95))
+                .andExpect(jsonPath("$.rejections").value(7))
+                .andExpect(jsonPath("$.size").value(90))
+                .andExpect(jsonPath("$.maxSize").value(10000));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Deve retornar as estatísticas do cache de JSON por motorista")
+    void shouldReturnDriverJsonStats() throws Exception {
+        when(driverJsonCache.stats()).thenReturn(new CacheStatsDTO(80, 20, 3, 1, 40, 20480, 16777216));
+
+        mockMvc.perform(get("/api/cache/driver-json"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(80))
+                .andExpect(jsonPath("$.weight").value(20480))
+                .andExpect(jsonPath("$.maxWeight").value(16777216));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Deve retornar as estatísticas do filtro de unicidade")
+    void shouldReturnUniqueKeyFilterStats() throws Exception {
+        when(driverUniqueKeyFilter.stats()).thenReturn(new UniqueKeyFilterStatsDTO(100, 98, 1, 0.98, 0.0101, 0.002, 500, 4096));
+
+        mockMvc.perform(get("/api/cache/driver-unique-keys"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.checks").value(100))
+                .andExpect(jsonPath("$.skipped").value(98))
+                .andExpect(jsonPath("$.skippedRatio").value(0.98))
+                .andExpect(jsonPath("$.memoryBytes").value(4096));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Deve retornar as estatísticas do cache de tokens verificados")
+    void shouldReturnJwtTokenStats() throws Exception {
+        when(jwtTokenCache.stats()).thenReturn(new CacheStatsDTO(990, 10, 2, 0, 8, 8, 10000));
+
+        mockMvc.perform(get("/api/cache/jwt-tokens"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(990))
+                .andExpect(jsonPath("$.size").value(8))
+                .andExpect(jsonPath("$.maxWeight").value(10000));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 401 UNAUTHORIZED quando não autenticado")
+    void shouldReturn401WhenNotAuthenticated() throws Exception {
+        mockMvc.perform(get("/api/cache/driver-list"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -1,37 +1,70 @@
 package com.fretemais.drivermanager.infrastructure.controllers;
 
+import com.fretemais.drivermanager.application.dtos.DriverFacetsDTO;
+import com.fretemais.drivermanager.application.dtos.DriverImportErrorDTO;
+import com.fretemais.drivermanager.application.dtos.DriverImportReportDTO;
+import com.fretemais.drivermanager.application.dtos.DriverPatchDTO;
 import com.fretemais.drivermanager.application.dtos.DriverRequestDTO;
 import com.fretemais.drivermanager.application.dtos.DriverResponseDTO;
+import com.fretemais.drivermanager.application.dtos.DriverSuggestionsDTO;
 import com.fretemais.drivermanager.application.dtos.DriverSummaryDTO;
+import com.fretemais.drivermanager.application.dtos.DriverWindowDTO;
+import com.fretemais.drivermanager.application.services.DriverImportService;
+import com.fretemais.drivermanager.application.services.DriverJson;
 import com.fretemais.drivermanager.application.services.DriverService;
+import com.fretemais.drivermanager.application.services.ExportFormat;
 import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.events.DriverCatalogChangedEvent;
+import com.fretemais.drivermanager.infrastructure.cache.DriverCatalogVersion;
+import com.fretemais.drivermanager.infrastructure.exceptions.DuplicateResourceException;
+import com.fretemais.drivermanager.infrastructure.exceptions.InvalidCursorException;
+import com.fretemais.drivermanager.infrastructure.exceptions.InvalidImportFileException;
+import com.fretemais.drivermanager.infrastructure.exceptions.MissingDeleteCriteriaException;
+import com.fretemais.drivermanager.infrastructure.exceptions.PreconditionFailedException;
 import com.fretemais.drivermanager.infrastructure.exceptions.ResourceNotFoundException;
+import com.fretemais.drivermanager.infrastructure.persistence.SqlStatementCounter;
+import com.fretemais.drivermanager.infrastructure.security.JwtTokenProvider;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest(DriverController.class)
+@Import({DriverCatalogVersion.class, SqlStatementCounter.class, SimpleMeterRegistry.class})
 @DisplayName("DriverController - Testes de API")
 class DriverControllerTest {
 
@@ -41,6 +74,15 @@ class DriverControllerTest {
     @MockitoBean
     private DriverService driverService;
 
+    @MockitoBean
+    private DriverImportService driverImportService;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private DriverCatalogVersion catalogVersion;
+
     private DriverResponseDTO responseDTO;
     private UUID driverId;
     private String validRequestJson;
@@ -73,9 +115,14 @@ class DriverControllerTest {
                 .state("SP")
                 .available(true)
                 .vehicleTypes(List.of(VehicleType.CAR, VehicleType.MOTORCYCLE))
+                .version(3)
                 .build();
     }
 
+    private static DriverJson json(DriverResponseDTO driver) {
+        return new DriverJson(driver.version(), JsonMapper.builder().build().writeValueAsBytes(driver));
+    }
+
     @Nested
     @DisplayName("POST /api/drivers - Criar Motorista")
     class CreateDriverTests {
@@ -333,6 +380,61 @@ class DriverControllerTest {
                     .build();
         }
 
+        @Test
+        @WithMockUser
+        @DisplayName("Deve responder 304 sem consultar quando o catálogo não mudou")
+        void shouldReturn304WhenCatalogUnchanged() throws Exception {
+            when(driverService.list(any(), any(), any(), any(), any())).thenReturn(new PageImpl<>(List.of(summaryDTO)));
+
+            String etag = mockMvc.perform(get("/api/drivers").param("state", "SP"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, matchesRegex("W/\".+\"")))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get("/api/drivers").param("state", "SP").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+            verify(driverService, times(1)).list(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve consultar de novo quando o catálogo ou os parâmetros mudam")
+        void shouldReloadWhenCatalogOrQueryChanges() throws Exception {
+            when(driverService.list(any(), any(), any(), any(), any())).thenReturn(new PageImpl<>(List.of(summaryDTO)));
+            String etag = mockMvc.perform(get("/api/drivers").param("state", "SP"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get("/api/drivers").param("state", "RJ").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk());
+
+            catalogVersion.onCatalogChanged(new DriverCatalogChangedEvent(1));
+            mockMvc.perform(get("/api/drivers").param("state", "SP").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+
+            verify(driverService, times(3)).list(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve gerar ETags diferentes para buscas que só diferem na separação dos parâmetros")
+        void shouldNotShareEtagBetweenAmbiguousQueries() throws Exception {
+            when(driverService.list(any(), any(), any(), any(), any())).thenReturn(new PageImpl<>(List.of(summaryDTO)));
+
+            String withoutText = mockMvc.perform(get("/api/drivers").param("state", "SP"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            String nullText = mockMvc.perform(get("/api/drivers").param("text", "null").param("state", "SP"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            String shifted = mockMvc.perform(get("/api/drivers").param("text", "sp, state=null"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            assertThat(withoutText).matches("W/\".+-[0-9a-f]{64}\"");
+            assertThat(List.of(withoutText, nullText, shifted)).doesNotHaveDuplicates();
+        }
+
         @Test
         @WithMockUser
         @DisplayName("Deve listar motoristas com paginação padrão")
@@ -486,6 +588,271 @@ class DriverControllerTest {
 
             verify(driverService).list(any(), any(), any(), any(), any());
         }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve listar sem totais quando count=NONE")
+        void shouldListWithoutTotalsWhenCountIsNone() throws Exception {
+            Slice<DriverSummaryDTO> slice = new SliceImpl<>(List.of(summaryDTO), PageRequest.of(0, 10), true);
+
+            when(driverService.listSlice(any(), any(), any(), any(), any())).thenReturn(slice);
+
+            mockMvc.perform(get("/api/drivers")
+                            .param("count", "NONE")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.last").value(false))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+            verify(driverService, never()).list(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve listar com total aproximado quando count=APPROXIMATE")
+        void shouldListWithApproximateTotal() throws Exception {
+            Page<DriverSummaryDTO> page = new PageImpl<>(List.of(summaryDTO), PageRequest.of(0, 1), 120);
+
+            when(driverService.listApproximate(any(), any(), any(), any(), any())).thenReturn(page);
+
+            mockMvc.perform(get("/api/drivers")
+                            .param("count", "APPROXIMATE")
+                            .param("size", "1")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").value(120));
+
+            verify(driverService, never()).list(any(), any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/drivers/scroll - Paginação por Cursor")
+    class ScrollDriversTests {
+
+        private DriverSummaryDTO summaryDTO;
+
+        @BeforeEach
+        void setUp() {
+            summaryDTO = DriverSummaryDTO.builder()
+                    .id(driverId)
+                    .name("João Silva")
+                    .phone("11999999999")
+                    .city("São Paulo")
+                    .state("SP")
+                    .available(true)
+                    .vehicleTypes(List.of(VehicleType.CAR, VehicleType.MOTORCYCLE))
+                    .build();
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve retornar janela com cursor da próxima página")
+        void shouldReturnWindowWithNextCursor() throws Exception {
+            DriverWindowDTO window = DriverWindowDTO.builder()
+                    .content(List.of(summaryDTO))
+                    .nextCursor("abc")
+                    .hasNext(true)
+                    .build();
+
+            when(driverService.scroll(any(), any(), any(), any(), eq("xyz"), eq(1))).thenReturn(window);
+
+            mockMvc.perform(get("/api/drivers/scroll")
+                            .param("cursor", "xyz")
+                            .param("size", "1")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].id").value(driverId.toString()))
+                    .andExpect(jsonPath("$.nextCursor").value("abc"))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve limitar o tamanho da janela")
+        void shouldClampWindowSize() throws Exception {
+            when(driverService.scroll(any(), any(), any(), any(), any(), anyInt()))
+                    .thenReturn(new DriverWindowDTO(List.of(), null, false));
+
+            mockMvc.perform(get("/api/drivers/scroll")
+                            .param("size", "5000")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk());
+
+            verify(driverService).scroll(any(), any(), any(), any(), any(), eq(100));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve retornar 400 BAD REQUEST para cursor inválido")
+        void shouldReturn400ForInvalidCursor() throws Exception {
+            when(driverService.scroll(any(), any(), any(), any(), eq("invalido"), anyInt()))
+                    .thenThrow(new InvalidCursorException("Cursor inválido"));
+
+            mockMvc.perform(get("/api/drivers/scroll")
+                            .param("cursor", "invalido")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string("Cursor inválido"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/drivers/facets - Contagens por Faceta")
+    class FacetsTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve retornar contagens para os filtros informados")
+        void shouldReturnFacets() throws Exception {
+            DriverFacetsDTO facets = DriverFacetsDTO.builder()
+                    .total(5)
+                    .byState(Map.of("SP", 5L))
+                    .byVehicleType(Map.of(VehicleType.TRUCK, 5L))
+                    .available(4)
+                    .unavailable(1)
+                    .build();
+
+            when(driverService.facets(any(), eq("SP"), any(), eq(List.of(VehicleType.TRUCK)))).thenReturn(facets);
+
+            mockMvc.perform(get("/api/drivers/facets")
+                            .param("state", "SP")
+                            .param("vehicles", "TRUCK")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(5))
+                    .andExpect(jsonPath("$.byState.SP").value(5))
+                    .andExpect(jsonPath("$.byVehicleType.TRUCK").value(5))
+                    .andExpect(jsonPath("$.available").value(4))
+                    .andExpect(jsonPath("$.unavailable").value(1));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve recalcular os contadores")
+        void shouldRecountFacets() throws Exception {
+            when(driverService.recountFacets()).thenReturn(DriverFacetsDTO.builder()
+                    .byState(Map.of())
+                    .byVehicleType(Map.of())
+                    .build());
+
+            mockMvc.perform(post("/api/drivers/facets/recount")
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(0));
+
+            verify(driverService).recountFacets();
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/drivers/import - Importar Motoristas")
+    class ImportTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve importar o arquivo enviado e retornar o relatório")
+        void shouldImportUploadedFile() throws Exception {
+            MockMultipartFile file = new MockMultipartFile("file", "motoristas.csv", "text/csv",
+                    "name,email\n".getBytes(StandardCharsets.UTF_8));
+            when(driverImportService.importCsv(any(InputStream.class))).thenReturn(new DriverImportReportDTO(2, 1, 1,
+                    List.of(new DriverImportErrorDTO(3, List.of("CPF inválido")))));
+
+            mockMvc.perform(multipart("/api/drivers/import")
+                            .file(file)
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(2))
+                    .andExpect(jsonPath("$.imported").value(1))
+                    .andExpect(jsonPath("$.errors[0].line").value(3))
+                    .andExpect(jsonPath("$.errors[0].messages[0]").value("CPF inválido"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve retornar 400 quando o cabeçalho é inválido")
+        void shouldReturn400ForInvalidHeader() throws Exception {
+            MockMultipartFile file = new MockMultipartFile("file", "motoristas.csv", "text/csv", new byte[0]);
+            when(driverImportService.importCsv(any(InputStream.class)))
+                    .thenThrow(new InvalidImportFileException("Arquivo CSV vazio"));
+
+            mockMvc.perform(multipart("/api/drivers/import")
+                            .file(file)
+                            .with(csrf()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string("Arquivo CSV vazio"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/drivers/export - Exportar Motoristas")
+    class ExportTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve transmitir CSV como anexo com os filtros informados")
+        void shouldStreamCsvAttachment() throws Exception {
+            doAnswer(invocation -> {
+                invocation.<OutputStream>getArgument(5).write("id,name\n".getBytes(StandardCharsets.UTF_8));
+                return 1L;
+            }).when(driverService).export(any(), eq("SP"), any(), any(), eq(ExportFormat.CSV), any(OutputStream.class));
+
+            mockMvc.perform(get("/api/drivers/export")
+                            .param("state", "SP")
+                            .param("format", "CSV"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                    .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"drivers.csv\""))
+                    .andExpect(content().string("id,name\n"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve usar NDJSON por padrão")
+        void shouldDefaultToNdjson() throws Exception {
+            mockMvc.perform(get("/api/drivers/export"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"));
+
+            verify(driverService).export(any(), any(), any(), any(), eq(ExportFormat.NDJSON), any(OutputStream.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/drivers/suggest - Sugestões por prefixo")
+    class SuggestTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve retornar nomes e cidades para o prefixo")
+        void shouldReturnSuggestions() throws Exception {
+            when(driverService.suggest("sao", 10))
+                    .thenReturn(new DriverSuggestionsDTO(List.of("Saulo Lima"), List.of("São Paulo")));
+
+            mockMvc.perform(get("/api/drivers/suggest")
+                            .param("prefix", "sao")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.names[0]").value("Saulo Lima"))
+                    .andExpect(jsonPath("$.cities[0]").value("São Paulo"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve limitar a quantidade de sugestões")
+        void shouldClampLimit() throws Exception {
+            when(driverService.suggest("sao", 20)).thenReturn(new DriverSuggestionsDTO(List.of(), List.of()));
+
+            mockMvc.perform(get("/api/drivers/suggest")
+                            .param("prefix", "sao")
+                            .param("limit", "500"))
+                    .andExpect(status().isOk());
+
+            verify(driverService).suggest("sao", 20);
+        }
     }
 
     @Nested
@@ -496,16 +863,47 @@ class DriverControllerTest {
         @WithMockUser
         @DisplayName("Deve retornar motorista quando ID existe")
         void shouldReturnDriverWhenIdExists() throws Exception {
-            when(driverService.getById(driverId)).thenReturn(responseDTO);
+            when(driverService.getJsonById(driverId)).thenReturn(json(responseDTO));
 
             mockMvc.perform(get("/api/drivers/{id}", driverId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.id").value(driverId.toString()))
                     .andExpect(jsonPath("$.name").value("João Silva"))
-                    .andExpect(jsonPath("$.email").value("joao.silva@email.com"));
+                    .andExpect(jsonPath("$.email").value("joao.silva@email.com"))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+
+            verify(driverService).getJsonById(driverId);
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve retornar 304 sem corpo quando o If-None-Match é a versão atual")
+        void shouldReturn304WhenNotModified() throws Exception {
+            when(driverService.getVersion(driverId)).thenReturn(3L);
+
+            mockMvc.perform(get("/api/drivers/{id}", driverId)
+                            .header(HttpHeaders.IF_NONE_MATCH, "W/\"2\", \"3\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                    .andExpect(content().string(""));
+
+            verify(driverService, never()).getJsonById(any());
+            verify(driverService, never()).getJsonById(any(), anyLong());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve retornar o motorista quando o If-None-Match está defasado")
+        void shouldReturnBodyWhenModified() throws Exception {
+            when(driverService.getVersion(driverId)).thenReturn(3L);
+            when(driverService.getJsonById(driverId, 3L)).thenReturn(json(responseDTO));
 
-            verify(driverService).getById(driverId);
+            mockMvc.perform(get("/api/drivers/{id}", driverId)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.version").value(3))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
         }
 
         @Test
@@ -513,14 +911,14 @@ class DriverControllerTest {
         @DisplayName("Deve retornar 404 quando motorista não existe")
         void shouldReturn404WhenDriverNotExists() throws Exception {
             UUID nonExistentId = UUID.randomUUID();
-            when(driverService.getById(nonExistentId))
+            when(driverService.getJsonById(nonExistentId))
                     .thenThrow(new ResourceNotFoundException("Motorista não encontrado"));
 
             mockMvc.perform(get("/api/drivers/{id}", nonExistentId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isNotFound());
 
-            verify(driverService).getById(nonExistentId);
+            verify(driverService).getJsonById(nonExistentId);
         }
     }
 
@@ -558,7 +956,7 @@ class DriverControllerTest {
                     .vehicleTypes(List.of(VehicleType.TRUCK))
                     .build();
 
-            when(driverService.updateById(eq(driverId), any(DriverRequestDTO.class)))
+            when(driverService.updateById(eq(driverId), any(DriverRequestDTO.class), isNull()))
                     .thenReturn(updatedResponse);
 
             mockMvc.perform(put("/api/drivers/{id}", driverId)
@@ -572,7 +970,7 @@ class DriverControllerTest {
                     .andExpect(jsonPath("$.city").value("Rio de Janeiro"))
                     .andExpect(jsonPath("$.state").value("RJ"));
 
-            verify(driverService).updateById(eq(driverId), any(DriverRequestDTO.class));
+            verify(driverService).updateById(eq(driverId), any(DriverRequestDTO.class), isNull());
         }
 
         @Test
@@ -598,7 +996,7 @@ class DriverControllerTest {
                             .content(invalidJson))
                     .andExpect(status().isBadRequest());
 
-            verify(driverService, never()).updateById(any(), any());
+            verify(driverService, never()).updateById(any(), any(), any());
         }
 
         @Test
@@ -606,7 +1004,7 @@ class DriverControllerTest {
         @DisplayName("Deve retornar 404 quando motorista não existe na atualização")
         void shouldReturn404WhenDriverNotExistsOnUpdate() throws Exception {
             UUID nonExistentId = UUID.randomUUID();
-            when(driverService.updateById(eq(nonExistentId), any(DriverRequestDTO.class)))
+            when(driverService.updateById(eq(nonExistentId), any(DriverRequestDTO.class), isNull()))
                     .thenThrow(new ResourceNotFoundException("Motorista não encontrado"));
 
             mockMvc.perform(put("/api/drivers/{id}", nonExistentId)
@@ -615,7 +1013,121 @@ class DriverControllerTest {
                             .content(validRequestJson))
                     .andExpect(status().isNotFound());
 
-            verify(driverService).updateById(eq(nonExistentId), any(DriverRequestDTO.class));
+            verify(driverService).updateById(eq(nonExistentId), any(DriverRequestDTO.class), isNull());
+        }
+    }
+
+    @Nested
+    @DisplayName("PATCH /api/drivers/{id} - Atualizar Motorista Parcialmente")
+    class PatchDriverTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve repassar apenas os campos informados")
+        void shouldPatchOnlyGivenFields() throws Exception {
+            DriverResponseDTO patched = DriverResponseDTO.builder()
+                    .id(driverId)
+                    .name("João Silva")
+                    .city("Campinas")
+                    .available(false)
+                    .build();
+            when(driverService.patchById(eq(driverId), any(DriverPatchDTO.class), isNull())).thenReturn(patched);
+
+            mockMvc.perform(patch("/api/drivers/{id}", driverId)
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"city\": \"Campinas\", \"available\": false}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.city").value("Campinas"))
+                    .andExpect(jsonPath("$.available").value(false));
+
+            verify(driverService).patchById(driverId, DriverPatchDTO.builder().city("Campinas").available(false).build(), null);
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve retornar 400 quando um campo informado é inválido")
+        void shouldReturn400WhenGivenFieldIsInvalid() throws Exception {
+            mockMvc.perform(patch("/api/drivers/{id}", driverId)
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"name\": \"  \", \"vehicleTypes\": []}"))
+                    .andExpect(status().isBadRequest());
+
+            verify(driverService, never()).patchById(any(), any(), any());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve retornar 400 quando a UF informada está em branco")
+        void shouldReturn400WhenStateIsBlank() throws Exception {
+            mockMvc.perform(patch("/api/drivers/{id}", driverId)
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"state\": \"  \"}"))
+                    .andExpect(status().isBadRequest());
+
+            verify(driverService, never()).patchById(any(), any(), any());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve retornar 409 quando o novo email já está cadastrado")
+        void shouldReturn409OnDuplicate() throws Exception {
+            when(driverService.patchById(eq(driverId), any(DriverPatchDTO.class), isNull()))
+                    .thenThrow(new DuplicateResourceException("Email já cadastrado"));
+
+            mockMvc.perform(patch("/api/drivers/{id}", driverId)
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"email\": \"outro@email.com\"}"))
+                    .andExpect(status().isConflict())
+                    .andExpect(content().string("Email já cadastrado"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve repassar a versão do If-Match e devolver o novo ETag")
+        void shouldPassIfMatchVersion() throws Exception {
+            when(driverService.patchById(eq(driverId), any(DriverPatchDTO.class), eq(2L))).thenReturn(responseDTO);
+
+            mockMvc.perform(patch("/api/drivers/{id}", driverId)
+                            .with(csrf())
+                            .header(HttpHeaders.IF_MATCH, "\"2\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"city\": \"Campinas\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve retornar 412 quando a versão do If-Match está defasada")
+        void shouldReturn412WhenVersionIsStale() throws Exception {
+            when(driverService.patchById(eq(driverId), any(DriverPatchDTO.class), eq(2L)))
+                    .thenThrow(new PreconditionFailedException("O motorista foi alterado por outra requisição"));
+
+            mockMvc.perform(patch("/api/drivers/{id}", driverId)
+                            .with(csrf())
+                            .header(HttpHeaders.IF_MATCH, "\"2\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"city\": \"Campinas\"}"))
+                    .andExpect(status().isPreconditionFailed())
+                    .andExpect(content().string("O motorista foi alterado por outra requisição"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve retornar 412 para If-Match com ETag fraco")
+        void shouldRejectWeakIfMatch() throws Exception {
+            mockMvc.perform(patch("/api/drivers/{id}", driverId)
+                            .with(csrf())
+                            .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"city\": \"Campinas\"}"))
+                    .andExpect(status().isPreconditionFailed());
+
+            verify(driverService, never()).patchById(any(), any(), any());
         }
     }
 
@@ -654,6 +1166,52 @@ class DriverControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/drivers/bulk-delete - Excluir Motoristas em Lote")
+    class BulkDeleteTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve excluir por IDs e filtros e retornar a quantidade excluída")
+        void shouldDeleteInBulk() throws Exception {
+            when(driverService.deleteAll(List.of(driverId), null, "SP", null, List.of(VehicleType.CAR))).thenReturn(1L);
+
+            mockMvc.perform(post("/api/drivers/bulk-delete")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\": [\"" + driverId + "\"], \"state\": \"SP\", \"vehicleTypes\": [\"CAR\"]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.deleted").value(1));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve retornar 400 quando nenhum critério é informado")
+        void shouldReturn400WithoutCriteria() throws Exception {
+            when(driverService.deleteAll(null, null, null, null, null))
+                    .thenThrow(new MissingDeleteCriteriaException("Informe IDs ou ao menos um filtro para excluir em lote"));
+
+            mockMvc.perform(post("/api/drivers/bulk-delete")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string("Informe IDs ou ao menos um filtro para excluir em lote"));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 401 quando não autenticado")
+        void shouldReturn401WhenUnauthenticated() throws Exception {
+            mockMvc.perform(post("/api/drivers/bulk-delete")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"city\": \"Campinas\"}"))
+                    .andExpect(status().isUnauthorized());
+
+            verifyNoInteractions(driverService);
+        }
+    }
+
     @Nested
     @DisplayName("Testes de Segurança")
     class SecurityTests {
@@ -687,7 +1245,7 @@ class DriverControllerTest {
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isUnauthorized());
 
-            verify(driverService, never()).getById(any());
+            verify(driverService, never()).getJsonById(any());
         }
 
         @Test
@@ -699,7 +1257,7 @@ class DriverControllerTest {
                             .content(validRequestJson))
                     .andExpect(status().isUnauthorized());
 
-            verify(driverService, never()).updateById(any(), any());
+            verify(driverService, never()).updateById(any(), any(), any());
         }
 
         @Test
@@ -0,0 +1,82 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DriverCountCache - Testes Unitários")
+class DriverCountCacheTest {
+
+    private DriverCountCache cache;
+    private AtomicLong calls;
+
+    @BeforeEach
+    void setUp() {
+        cache = new DriverCountCache();
+        calls = new AtomicLong();
+    }
+
+    private long count() {
+        calls.incrementAndGet();
+        return 7;
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar o total dentro do TTL")
+    void shouldReuseCountWithinTtl() {
+        // Act
+        long first = cache.count("SP", this::count);
+        long second = cache.count("SP", this::count);
+
+        // Assert
+        assertThat(first).isEqualTo(7);
+        assertThat(second).isEqualTo(7);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve contar novamente após expirar o TTL")
+    void shouldRecountAfterTtl() {
+        // Arrange
+        cache.ttl = Duration.ZERO;
+
+        // Act
+        cache.count("SP", this::count);
+        cache.count("SP", this::count);
+
+        // Assert
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve manter totais separados por combinação de filtros")
+    void shouldKeepCountsPerKey() {
+        // Act
+        cache.count("SP", this::count);
+        cache.count("RJ", this::count);
+        cache.count("SP", this::count);
+
+        // Assert
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve esvaziar o cache ao atingir o limite de entradas")
+    void shouldClearWhenFull() {
+        // Arrange
+        cache.maxEntries = 1;
+
+        // Act
+        cache.count("SP", this::count);
+        cache.count("RJ", this::count);
+        cache.count("SP", this::count);
+
+        // Assert
+        assertThat(calls).hasValue(3);
+    }
+}
@@ -0,0 +1,247 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import com.fretemais.drivermanager.application.dtos.DriverSummaryDTO;
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.model.Driver;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("DriverRepository - Testes de Persistência")
+class DriverRepositoryTest {
+
+    @Autowired
+    private DriverRepository driverRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Driver carlos;
+    private Driver joao;
+    private Driver maria;
+
+    @BeforeEach
+    void setUp() {
+        joao = save("João Silva", "joao.silva@email.com", "11999999999", "52998224725", "SP", List.of(VehicleType.CAR, VehicleType.MOTORCYCLE));
+        maria = save("Maria Santos", "maria.santos@email.com", "21988888888", "11144477735", "RJ", List.of(VehicleType.TRUCK));
+        carlos = save("Carlos Oliveira", "carlos.oliveira@email.com", "31977777777", "39053344705", "MG", List.of(VehicleType.CAR));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Driver save(String name, String email, String phone, String cpf, String state, List<VehicleType> vehicles) {
+        return driverRepository.save(Driver.builder()
+                .name(name)
+                .email(email)
+                .phoneNumber(phone)
+                .cpf(cpf)
+                .cnh(cpf.substring(0, 10) + "0")
+                .city("Cidade " + state)
+                .state(state)
+                .available(true)
+                .vehicleType(vehicles)
+                .build());
+    }
+
+    private int managedEntities() {
+        return entityManager.unwrap(SessionImplementor.class).getPersistenceContext().getNumberOfManagedEntities();
+    }
+
+    @Nested
+    @DisplayName("Projeção de resumo")
+    class SummaryProjectionTests {
+
+        @Test
+        @DisplayName("Deve projetar os campos do resumo sem carregar entidades")
+        void shouldProjectSummaryWithoutManagedEntities() {
+            Page<DriverSummaryDTO> page = driverRepository.findSummaries(
+                    DriverSpecification.filterBy(null, "SP", null, null), PageRequest.of(0, 10));
+
+            assertThat(page.getContent()).containsExactly(new DriverSummaryDTO(joao.getId(), "João Silva",
+                    "11999999999", "Cidade SP", "SP", List.of(VehicleType.CAR, VehicleType.MOTORCYCLE), true));
+            assertThat(managedEntities()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve ordenar, paginar e contar com os filtros")
+        void shouldSortPageAndCount() {
+            Page<DriverSummaryDTO> page = driverRepository.findSummaries(
+                    DriverSpecification.filterBy(null, null, null, List.of(VehicleType.CAR)),
+                    PageRequest.of(0, 1, Sort.by("name")));
+
+            assertThat(page.getContent()).extracting(DriverSummaryDTO::name).containsExactly("Carlos Oliveira");
+            assertThat(page.getTotalElements()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve indicar próxima página no Slice sem contar")
+        void shouldReturnSlice() {
+            Slice<DriverSummaryDTO> first = driverRepository.findSummarySlice(
+                    DriverSpecification.filterBy(null, null, null, null), PageRequest.of(0, 2, Sort.by("name")));
+            Slice<DriverSummaryDTO> last = driverRepository.findSummarySlice(
+                    DriverSpecification.filterBy(null, null, null, null), PageRequest.of(1, 2, Sort.by("name")));
+
+            assertThat(first.getContent()).extracting(DriverSummaryDTO::name).containsExactly("Carlos Oliveira", "João Silva");
+            assertThat(first.hasNext()).isTrue();
+            assertThat(last.getContent()).extracting(DriverSummaryDTO::name).containsExactly("Maria Santos");
+            assertThat(last.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve continuar a partir da posição do cursor")
+        void shouldSeekAfterPosition() {
+            var spec = DriverSpecification.filterBy(null, null, null, null)
+                    .and(DriverSpecification.isAfter(carlos.getName(), carlos.getId()));
+
+            List<DriverSummaryDTO> rows = driverRepository.findSummaries(spec, Sort.by("name", "id"), 10);
+
+            assertThat(rows).extracting(DriverSummaryDTO::id).containsExactly(joao.getId(), maria.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Contagem por facetas")
+    class FacetCountTests {
+
+        @Test
+        @DisplayName("Deve agrupar por estado, veículos e disponibilidade em uma consulta")
+        void shouldGroupFacets() {
+            List<DriverFacetRow> rows = driverRepository.countFacets(null);
+
+            assertThat(rows).containsExactlyInAnyOrder(
+                    new DriverFacetRow("SP", List.of(VehicleType.CAR, VehicleType.MOTORCYCLE), true, 1),
+                    new DriverFacetRow("RJ", List.of(VehicleType.TRUCK), true, 1),
+                    new DriverFacetRow("MG", List.of(VehicleType.CAR), true, 1));
+        }
+
+        @Test
+        @DisplayName("Deve aplicar os filtros da especificação")
+        void shouldApplySpecification() {
+            List<DriverFacetRow> rows = driverRepository.countFacets(
+                    DriverSpecification.filterBy(null, null, null, List.of(VehicleType.CAR)));
+
+            assertThat(rows).extracting(DriverFacetRow::state).containsExactlyInAnyOrder("SP", "MG");
+        }
+    }
+
+    @Nested
+    @DisplayName("Sugestões por prefixo")
+    class SuggestTests {
+
+        @Test
+        @DisplayName("Deve buscar nomes pelo prefixo sem acentos do documento de busca")
+        void shouldFindNamesIgnoringAccents() {
+            List<String> names = driverRepository.findNamesByPrefix("joao", Limit.of(5));
+
+            assertThat(names).containsExactly("João Silva");
+        }
+
+        @Test
+        @DisplayName("Deve tratar curinga escapado como texto")
+        void shouldTreatEscapedWildcardAsText() {
+            assertThat(driverRepository.findNamesByPrefix("j_ao", Limit.of(5))).containsExactly("João Silva");
+            assertThat(driverRepository.findNamesByPrefix("j\\_ao", Limit.of(5))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Exportação em streaming")
+    class StreamTests {
+
+        @Test
+        @DisplayName("Deve percorrer as projeções em ordem sem carregar entidades")
+        void shouldStreamProjectionsInOrder() {
+            try (Stream<DriverSummaryDTO> rows = driverRepository.streamSummaries(
+                    DriverSpecification.filterBy(null, null, null, List.of(VehicleType.CAR)), Sort.by("name", "id"))) {
+
+                assertThat(rows).extracting(DriverSummaryDTO::name).containsExactly("Carlos Oliveira", "João Silva");
+            }
+            assertThat(managedEntities()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Gravação em lote")
+    class BatchTests {
+
+        @Test
+        @DisplayName("Deve inserir em batch gerando ID e documento de busca")
+        void shouldInsertAllWithJdbcBatch() {
+            Driver driver = Driver.builder()
+                    .name("Ana Célia")
+                    .email("ana@email.com")
+                    .phoneNumber("41966666666")
+                    .cpf("11144477700")
+                    .cnh("11144477700")
+                    .city("Curitiba")
+                    .state("PR")
+                    .available(true)
+                    .vehicleType(List.of(VehicleType.TRUCK))
+                    .build();
+
+            driverRepository.insertAll(List.of(driver));
+
+            Driver saved = driverRepository.findById(driver.getId()).orElseThrow();
+            assertThat(saved.getVehicleType()).containsExactly(VehicleType.TRUCK);
+            assertThat(saved.getSearchDocument()).startsWith("ana celia|ana@email.com");
+        }
+
+        @Test
+        @DisplayName("Deve retornar em uma consulta os registros que já usam algum dos valores")
+        void shouldFindTakenValues() {
+            List<DriverUniqueRow> taken = driverRepository.findTaken(List.of("Outro"), List.of("maria.santos@email.com"),
+                    List.of("31977777777"), List.of("00000000000"), List.of("00000000000"));
+
+            assertThat(taken).extracting(DriverUniqueRow::name).containsExactlyInAnyOrder("Maria Santos", "Carlos Oliveira");
+        }
+    }
+
+    @Nested
+    @DisplayName("Exclusão sem carregar entidades")
+    class DeleteTests {
+
+        @Test
+        @DisplayName("Deve projetar o snapshot e excluir a linha sem gerenciar a entidade")
+        void shouldDeleteRowById() {
+            assertThat(driverRepository.findSnapshotById(maria.getId()))
+                    .hasValueSatisfying(snapshot -> assertThat(snapshot.email()).isEqualTo("maria.santos@email.com"));
+
+            assertThat(driverRepository.deleteRowById(maria.getId())).isEqualTo(1);
+            assertThat(driverRepository.deleteRowById(maria.getId())).isZero();
+            assertThat(managedEntities()).isZero();
+            assertThat(driverRepository.findAll()).extracting(Driver::getName).containsExactlyInAnyOrder("João Silva", "Carlos Oliveira");
+        }
+
+        @Test
+        @DisplayName("Deve excluir por filtro de veículos e por IDs em um único comando")
+        void shouldDeleteBySpecification() {
+            long byVehicle = driverRepository.delete(DriverSpecification.forDelete(
+                    DriverSpecification.filterBy(null, null, null, List.of(VehicleType.MOTORCYCLE))));
+            long byIds = driverRepository.delete(DriverSpecification.forDelete(
+                    DriverSpecification.filterBy(null, "RJ", null, null).and(DriverSpecification.hasIds(List.of(maria.getId(), carlos.getId())))));
+
+            assertThat(byVehicle).isEqualTo(1);
+            assertThat(byIds).isEqualTo(1);
+            assertThat(driverRepository.findAll()).extracting(Driver::getName).containsExactly("Carlos Oliveira");
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.model.Driver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("DriverSpecification - Testes de Filtro")
+class DriverSpecificationTest {
+
+    @Autowired
+    private DriverRepository driverRepository;
+
+    private Driver joao;
+    private Driver maria;
+
+    @BeforeEach
+    void setUp() {
+        joao = driverRepository.save(Driver.builder()
+                .name("João da Silva")
+                .email("joao.silva@email.com")
+                .phoneNumber("11987654321")
+                .cpf("52998224725")
+                .cnh("12345678901")
+                .city("São Paulo")
+                .state("SP")
+                .available(true)
+                .vehicleType(List.of(VehicleType.TRUCK))
+                .build());
+
+        maria = driverRepository.save(Driver.builder()
+                .name("Maria Oliveira")
+                .email("maria.oliveira@email.com")
+                .phoneNumber("21987654321")
+                .cpf("11144477735")
+                .cnh("10987654321")
+                .city("Rio de Janeiro")
+                .state("RJ")
+                .available(true)
+                .vehicleType(List.of(VehicleType.CAR, VehicleType.MOTORCYCLE))
+                .build());
+
+        driverRepository.flush();
+    }
+
+    private List<Driver> find(SearchMode mode, String text, String state, String city, List<VehicleType> vehicles) {
+        return driverRepository.findAll(DriverSpecification.filterBy(mode, text, state, city, vehicles));
+    }
+
+    @Nested
+    @DisplayName("Modo LIKE")
+    class LikeModeTests {
+
+        @Test
+        @DisplayName("Deve filtrar por texto em nome, email, CPF, CNH e telefone")
+        void shouldFilterByText() {
+            assertThat(find(SearchMode.LIKE, "SILVA", null, null, null)).containsExactly(joao);
+            assertThat(find(SearchMode.LIKE, "oliveira@", null, null, null)).containsExactly(maria);
+            assertThat(find(SearchMode.LIKE, "1444777", null, null, null)).containsExactly(maria);
+            assertThat(find(SearchMode.LIKE, "987654321", null, null, null)).containsExactlyInAnyOrder(joao, maria);
+        }
+
+        @Test
+        @DisplayName("Deve combinar estado, cidade e veículos")
+        void shouldCombineFilters() {
+            assertThat(find(SearchMode.LIKE, null, "sp", null, null)).containsExactly(joao);
+            assertThat(find(SearchMode.LIKE, null, null, "janeiro", null)).containsExactly(maria);
+            assertThat(find(SearchMode.LIKE, null, null, null, List.of(VehicleType.TRUCK))).containsExactly(joao);
+            assertThat(find(SearchMode.LIKE, null, "RJ", null, List.of(VehicleType.TRUCK))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve filtrar por qualquer um dos veículos sem duplicar motoristas")
+        void shouldMatchAnyVehicleWithoutDuplicates() {
+            assertThat(find(SearchMode.LIKE, null, null, null, List.of(VehicleType.CAR, VehicleType.MOTORCYCLE)))
+                    .containsExactly(maria);
+            assertThat(find(SearchMode.LIKE, null, null, null, List.of(VehicleType.MOTORCYCLE, VehicleType.TRUCK)))
+                    .containsExactlyInAnyOrder(joao, maria);
+            assertThat(driverRepository.count(DriverSpecification.filterBy(null, null, null,
+                    List.of(VehicleType.CAR, VehicleType.MOTORCYCLE, VehicleType.TRUCK)))).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Modo TRIGRAM")
+    class TrigramModeTests {
+
+        @Test
+        @DisplayName("Deve manter o documento de busca normalizado e sem acentos")
+        void shouldMaintainSearchDocument() {
+            assertThat(joao.getSearchDocument())
+                    .isEqualTo("joao da silva|joao.silva@email.com|52998224725|12345678901|11987654321");
+        }
+
+        @Test
+        @DisplayName("Deve buscar sem diferenciar acentos e maiúsculas")
+        void shouldSearchAccentInsensitive() {
+            assertThat(find(SearchMode.TRIGRAM, "JOAO DA", null, null, null)).containsExactly(joao);
+            assertThat(find(SearchMode.TRIGRAM, "João", null, null, null)).containsExactly(joao);
+            assertThat(find(SearchMode.TRIGRAM, "987654321", "RJ", null, null)).containsExactly(maria);
+        }
+
+        @Test
+        @DisplayName("Deve atualizar o documento de busca quando o motorista muda")
+        void shouldRefreshSearchDocumentOnUpdate() {
+            maria.setName("Maria Conceição");
+            driverRepository.saveAndFlush(maria);
+
+            assertThat(find(SearchMode.TRIGRAM, "conceicao", null, null, null)).containsExactly(maria);
+            assertThat(find(SearchMode.TRIGRAM, "oliveira maria", null, null, null)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve restringir aos IDs candidatos")
+    void shouldRestrictToCandidateIds() {
+        var spec = DriverSpecification.filterBy(null, null, null, null)
+                .and(DriverSpecification.hasIds(Set.of(maria.getId())));
+
+        assertThat(driverRepository.findAll(spec)).containsExactly(maria);
+    }
+}
@@ -0,0 +1,95 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import com.fretemais.drivermanager.TestcontainersConfiguration;
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.model.Driver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Busca por trigramas - PostgreSQL")
+class DriverTrigramSearchPostgresTest {
+
+    @Autowired
+    private DriverRepository driverRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Driver joao;
+
+    @BeforeEach
+    void setUp() {
+        joao = driverRepository.saveAndFlush(Driver.builder()
+                .name("João da Silva")
+                .email("joao.silva@email.com")
+                .phoneNumber("11987654321")
+                .cpf("52998224725")
+                .cnh("12345678901")
+                .city("São Paulo")
+                .state("SP")
+                .available(true)
+                .vehicleType(List.of(VehicleType.TRUCK))
+                .build());
+    }
+
+    @Test
+    @DisplayName("Deve criar os índices GIN pg_trgm pela migração")
+    void shouldCreateTrigramIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select indexdef from pg_indexes where tablename = 'drivers'", String.class);
+
+        assertThat(indexes)
+                .anyMatch(def -> def.contains("idx_drivers_search_document_trgm") && def.contains("gin_trgm_ops"))
+                .anyMatch(def -> def.contains("idx_drivers_city_trgm") && def.contains("gin_trgm_ops"));
+    }
+
+    @Test
+    @DisplayName("Deve normalizar o documento igual ao unaccent do banco")
+    void shouldMatchDatabaseNormalization() {
+        String expected = jdbcTemplate.queryForObject(
+                "select lower(unaccent(concat_ws('|', name, email, cpf, cnh, phone_number))) from drivers where id = ?",
+                String.class, joao.getId());
+
+        assertThat(joao.getSearchDocument()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Deve encontrar motorista sem acento usando a especificação TRIGRAM")
+    void shouldFindWithTrigramSpecification() {
+        var spec = DriverSpecification.filterBy(SearchMode.TRIGRAM, "joao da", null, "paulo", null);
+
+        assertThat(driverRepository.findAll(spec)).containsExactly(joao);
+    }
+
+    @Test
+    @DisplayName("Deve usar os índices de trigramas no plano de execução")
+    void shouldUseTrigramIndexesInPlan() {
+        jdbcTemplate.execute("set local enable_seqscan = off");
+
+        String textPlan = String.join("\n", jdbcTemplate.queryForList(
+                "explain select id from drivers where search_document like '%silva%'", String.class));
+        String cityPlan = String.join("\n", jdbcTemplate.queryForList(
+                "explain select id from drivers where lower(city) like '%paulo%'", String.class));
+
+        assertThat(textPlan).contains("idx_drivers_search_document_trgm");
+        assertThat(cityPlan).contains("idx_drivers_city_trgm");
+    }
+}
@@ -0,0 +1,131 @@
+package com.fretemais.drivermanager.infrastructure.persistence;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlStatementCounter - Testes Unitários")
+class SqlStatementCounterTest {
+
+    private SqlStatementCounter counter;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+
+        counter = new SqlStatementCounter();
+        dataSource = ProxyDataSourceBuilder.create(h2)
+                .listener(counter)
+                .methodListener(counter)
+                .proxyResultSet()
+                .build();
+
+        execute("CREATE TABLE item (id INT PRIMARY KEY)");
+        execute("INSERT INTO item VALUES (1), (2), (3)");
+    }
+
+    private void execute(String sql) {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void readAll() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id FROM item")) {
+            while (rs.next()) {
+                rs.getInt(1);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de contagem")
+    class CountTests {
+
+        @Test
+        @DisplayName("Deve contar comandos, linhas lidas e tempo de JDBC")
+        void shouldCountStatementsAndRows() {
+            // Act
+            SqlStatementStats stats = counter.measure(() -> {
+                readAll();
+                execute("UPDATE item SET id = id");
+            });
+
+            // Assert
+            assertThat(stats.statements()).isEqualTo(2);
+            assertThat(stats.rows()).isEqualTo(3);
+            assertThat(stats.jdbcTime()).isPositive();
+        }
+
+        @Test
+        @DisplayName("Não deve contar fora de um escopo")
+        void shouldIgnoreStatementsOutsideScope() {
+            // Act
+            readAll();
+            SqlStatementStats stats = counter.measure(() -> {
+            });
+
+            // Assert
+            assertThat(stats.statements()).isZero();
+            assertThat(stats.rows()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de escopo")
+    class ScopeTests {
+
+        @Test
+        @DisplayName("Deve somar o escopo interno no externo")
+        void shouldAddNestedScopeToOuter() {
+            // Act
+            SqlStatementStats inner;
+            SqlStatementStats outer;
+            try (SqlStatementCounter.Scope scope = counter.open()) {
+                readAll();
+                inner = counter.measure(SqlStatementCounterTest.this::readAll);
+                outer = scope.stats();
+            }
+
+            // Assert
+            assertThat(inner.statements()).isEqualTo(1);
+            assertThat(outer.statements()).isEqualTo(2);
+            assertThat(outer.rows()).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("Não deve contar comandos de outra thread")
+        void shouldNotCountOtherThreads() throws InterruptedException {
+            // Act
+            SqlStatementStats stats;
+            try (SqlStatementCounter.Scope scope = counter.open()) {
+                Thread other = Thread.ofVirtual().start(SqlStatementCounterTest.this::readAll);
+                other.join();
+                stats = scope.stats();
+            }
+
+            // Assert
+            assertThat(stats.statements()).isZero();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.fretemais.drivermanager.infrastructure.search;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.model.Driver;
+import com.fretemais.drivermanager.domain.model.VehicleTypesConverter;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverSpecification;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compara o índice de bitmaps com o caminho via Specification. Desligado por padrão:
+ * {@code mvn test -Dbenchmark=true -Dbenchmark.drivers=1000000 -Dtest=DriverBitmapIndexBenchmarkTest}
+ */
+@Slf4j
+@DataJpaTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("DriverBitmapIndex - Benchmark")
+class DriverBitmapIndexBenchmarkTest {
+
+    private static final String[] STATES = {"AC", "AL", "AP", "AM", "BA", "CE", "DF", "ES", "GO", "MA", "MT", "MS", "MG", "PA",
+            "PB", "PR", "PE", "PI", "RJ", "RN", "RS", "RO", "RR", "SC", "SP", "SE", "TO"};
+    private static final int BATCH_SIZE = 5_000;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private DriverRepository driverRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("state IN (SP,RJ) AND TRUCK AND available: bitmaps x Specification")
+    void compareWithSpecification() {
+        int drivers = Integer.getInteger("benchmark.drivers", 1_000_000);
+        insert(drivers);
+
+        // Sem gerenciador de transação real, a reconstrução lê dentro da transação do teste, que vê as linhas inseridas
+        DriverBitmapIndex index = new DriverBitmapIndex(driverRepository, mock(PlatformTransactionManager.class));
+        index.enabled = true;
+        index.rebuildInterval = Duration.ofHours(1);
+        long buildStart = System.nanoTime();
+        index.rebuild();
+        log.info("Construção do índice de bitmaps com {} motoristas: {} ms", drivers, (System.nanoTime() - buildStart) / 1_000_000);
+
+        List<String> states = List.of("SP", "RJ");
+        List<VehicleType> vehicles = List.of(VehicleType.TRUCK);
+        Specification<Driver> spec = Specification.<Driver>anyOf(
+                        DriverSpecification.filterBy(null, "SP", null, vehicles),
+                        DriverSpecification.filterBy(null, "RJ", null, vehicles))
+                .and((root, query, cb) -> cb.isTrue(root.get("available")));
+
+        long bitmapCount = measure("bitmap count", () -> index.count(states, vehicles, true).orElseThrow());
+        long sqlCount = measure("specification count", () -> driverRepository.count(spec));
+
+        assertThat(bitmapCount).isEqualTo(sqlCount);
+    }
+
+    private long measure(String label, Supplier<Long> operation) {
+        long result = operation.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            operation.get();
+            entityManager.clear();
+        }
+        log.info("{}: {} resultados, {} µs por execução", label, result, (System.nanoTime() - start) / 1_000 / ROUNDS);
+        return result;
+    }
+
+    private void insert(int drivers) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("""
+                    insert into drivers (id, name, vehicle_types, cpf, cnh, phone_number, email, available, city, state, version)
+                    values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)""")) {
+                for (int i = 0; i < drivers; i++) {
+                    String suffix = String.format("%011d", i);
+                    statement.setObject(1, UUID.randomUUID());
+                    statement.setString(2, "Motorista " + suffix);
+                    statement.setInt(3, VehicleTypesConverter.mask(List.of(VehicleType.values()[i % 3])) | (i % 7 == 0 ? VehicleType.TRUCK.bit() : 0));
+                    statement.setString(4, suffix);
+                    statement.setString(5, suffix);
+                    statement.setString(6, suffix);
+                    statement.setString(7, "motorista" + i + "@email.com");
+                    statement.setBoolean(8, i % 4 != 0);
+                    statement.setString(9, "Cidade " + (i % 500));
+                    statement.setString(10, STATES[i % STATES.length]);
+                    statement.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0) statement.executeBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+}
@@ -0,0 +1,150 @@
+package com.fretemais.drivermanager.infrastructure.search;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverSnapshot;
+import com.fretemais.drivermanager.domain.model.Driver;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverBitmapRow;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DriverBitmapIndex - Testes Unitários")
+class DriverBitmapIndexTest {
+
+    private final UUID spCar = UUID.randomUUID();
+    private final UUID spTruck = UUID.randomUUID();
+    private final UUID rjTruck = UUID.randomUUID();
+    private final UUID mgCarTruck = UUID.randomUUID();
+
+    private DriverRepository driverRepository;
+    private DriverBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        driverRepository = mock(DriverRepository.class);
+        when(driverRepository.streamBitmapRows()).thenAnswer(invocation -> Stream.of(
+                new DriverBitmapRow(spCar, "SP", List.of(VehicleType.CAR), true),
+                new DriverBitmapRow(spTruck, "sp", List.of(VehicleType.TRUCK), false),
+                new DriverBitmapRow(rjTruck, "RJ", List.of(VehicleType.TRUCK), true),
+                new DriverBitmapRow(mgCarTruck, "MG", List.of(VehicleType.CAR, VehicleType.TRUCK), true)));
+
+        index = new DriverBitmapIndex(driverRepository, mock(PlatformTransactionManager.class));
+        index.enabled = true;
+        index.rebuildInterval = Duration.ofMinutes(5);
+        index.rebuild();
+    }
+
+    private Driver driver(UUID id, String state, VehicleType vehicle, boolean available) {
+        return Driver.builder()
+                .id(id)
+                .name("Motorista")
+                .state(state)
+                .available(available)
+                .vehicleType(List.of(vehicle))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Testes de consulta")
+    class QueryTests {
+
+        @Test
+        @DisplayName("Deve combinar estados e veículos com OR e filtros entre si com AND")
+        void shouldCombineFilters() {
+            assertThat(index.count(List.of("SP", "rj"), List.of(VehicleType.TRUCK), true)).hasValue(1);
+            assertThat(index.count(List.of("SP", "RJ"), List.of(VehicleType.TRUCK), null)).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Deve tratar filtros nulos ou vazios como irrestritos")
+        void shouldIgnoreEmptyFilters() {
+            assertThat(index.count(null, null, null)).hasValue(4);
+            assertThat(index.count(List.of(), List.of(), null)).hasValue(4);
+            assertThat(index.count(null, null, false)).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Deve contar zero para estado desconhecido")
+        void shouldCountZeroForUnknownState() {
+            assertThat(index.count(List.of("AM"), null, null)).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("Não deve responder antes da construção")
+        void shouldNotAnswerBeforeRebuild() {
+            DriverBitmapIndex fresh = new DriverBitmapIndex(driverRepository, mock(PlatformTransactionManager.class));
+            fresh.rebuildInterval = Duration.ofMinutes(5);
+
+            assertThat(fresh.count(null, null, null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Não deve responder quando a última reconstrução ficou para trás")
+        void shouldNotAnswerWhenStale() {
+            // Arrange
+            index.rebuildInterval = Duration.ofNanos(1);
+
+            // Act & Assert
+            assertThat(index.isReady()).isFalse();
+            assertThat(index.count(null, null, null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de atualização incremental")
+    class IncrementalTests {
+
+        @Test
+        @DisplayName("Deve indexar ao criar e remover ao excluir")
+        void shouldApplyCreateAndDelete() {
+            Driver driver = driver(UUID.randomUUID(), "BA", VehicleType.MOTORCYCLE, true);
+
+            index.onDriverChanged(DriverChangedEvent.created(driver));
+            assertThat(index.count(List.of("BA"), List.of(VehicleType.MOTORCYCLE), true)).hasValue(1);
+
+            index.onDriverChanged(DriverChangedEvent.deleted(driver));
+            assertThat(index.count(List.of("BA"), null, null)).hasValue(0);
+            assertThat(index.count(null, null, null)).hasValue(4);
+        }
+
+        @Test
+        @DisplayName("Deve mover bits ao atualizar")
+        void shouldMoveBitsOnUpdate() {
+            Driver driver = driver(rjTruck, "RJ", VehicleType.TRUCK, true);
+            DriverSnapshot before = DriverSnapshot.of(driver);
+            driver.setState("SP");
+            driver.setAvailable(false);
+
+            index.onDriverChanged(DriverChangedEvent.updated(before, driver));
+
+            assertThat(index.count(List.of("RJ"), null, null)).hasValue(0);
+            assertThat(index.count(List.of("SP"), List.of(VehicleType.TRUCK), false)).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Deve reaproveitar ordinais liberados")
+        void shouldReuseFreedOrdinals() {
+            Driver removed = driver(spCar, "SP", VehicleType.CAR, true);
+            Driver created = driver(UUID.randomUUID(), "PR", VehicleType.CAR, true);
+
+            index.onDriverChanged(DriverChangedEvent.deleted(removed));
+            index.onDriverChanged(DriverChangedEvent.created(created));
+
+            assertThat(index.count(List.of("PR"), List.of(VehicleType.CAR), null)).hasValue(1);
+            assertThat(index.count(null, List.of(VehicleType.CAR), null)).hasValue(2);
+        }
+    }
+}
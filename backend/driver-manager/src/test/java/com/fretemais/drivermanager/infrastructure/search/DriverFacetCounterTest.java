@@ -0,0 +1,216 @@
+package com.fretemais.drivermanager.infrastructure.search;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverSnapshot;
+import com.fretemais.drivermanager.domain.model.Driver;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverFacetRow;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DriverFacetCounter - Testes Unitários")
+class DriverFacetCounterTest {
+
+    private DriverRepository driverRepository;
+    private DriverFacetCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        driverRepository = mock(DriverRepository.class);
+        when(driverRepository.countFacets(null)).thenReturn(List.of(
+                new DriverFacetRow("SP", List.of(VehicleType.CAR), true, 5),
+                new DriverFacetRow("sp", List.of(VehicleType.CAR), true, 1),
+                new DriverFacetRow("RJ", List.of(VehicleType.TRUCK), false, 2)));
+
+        counter = new DriverFacetCounter(driverRepository, mock(PlatformTransactionManager.class));
+        counter.enabled = true;
+        counter.recountInterval = Duration.ofMinutes(5);
+        counter.recount();
+    }
+
+    private Driver driver(String state, VehicleType vehicle, boolean available) {
+        return Driver.builder()
+                .id(UUID.randomUUID())
+                .name("Motorista")
+                .state(state)
+                .available(available)
+                .vehicleType(List.of(vehicle))
+                .build();
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private long count(String state, List<VehicleType> vehicles) {
+        return counter.rows(state, vehicles).orElseThrow().stream().mapToLong(DriverFacetRow::count).sum();
+    }
+
+    @Nested
+    @DisplayName("Testes de consulta")
+    class QueryTests {
+
+        @Test
+        @DisplayName("Deve recontar agrupando estados sem diferenciar maiúsculas")
+        void shouldRecountFromDatabase() {
+            assertThat(count(null, null)).isEqualTo(8);
+            assertThat(count("sp", null)).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("Deve filtrar células por estado e veículos")
+        void shouldFilterCells() {
+            assertThat(count(null, List.of(VehicleType.TRUCK))).isEqualTo(2);
+            assertThat(count("SP", List.of(VehicleType.TRUCK))).isZero();
+            assertThat(count(null, List.of(VehicleType.CAR, VehicleType.TRUCK))).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("Não deve responder antes da primeira contagem")
+        void shouldNotAnswerBeforeRecount() {
+            DriverFacetCounter fresh = new DriverFacetCounter(driverRepository, mock(PlatformTransactionManager.class));
+            fresh.recountInterval = Duration.ofMinutes(5);
+
+            assertThat(fresh.rows(null, null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Não deve responder quando a última recontagem ficou para trás")
+        void shouldNotAnswerWhenStale() {
+            counter.recountInterval = Duration.ofNanos(1);
+
+            assertThat(counter.rows(null, null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de atualização incremental")
+    class IncrementalTests {
+
+        @Test
+        @DisplayName("Deve incrementar ao criar e decrementar ao excluir")
+        void shouldApplyCreateAndDelete() {
+            Driver driver = driver("MG", VehicleType.MOTORCYCLE, true);
+
+            counter.onDriverChanged(DriverChangedEvent.created(driver));
+            assertThat(count("MG", null)).isEqualTo(1);
+
+            counter.onDriverChanged(DriverChangedEvent.deleted(driver));
+            assertThat(count("MG", null)).isZero();
+            assertThat(count(null, null)).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("Deve mover o motorista de célula ao atualizar")
+        void shouldMoveCellOnUpdate() {
+            Driver driver = driver("RJ", VehicleType.TRUCK, false);
+            DriverSnapshot before = DriverSnapshot.of(driver);
+            driver.setState("SP");
+
+            counter.onDriverChanged(DriverChangedEvent.updated(before, driver));
+
+            assertThat(count("RJ", null)).isEqualTo(1);
+            assertThat(count("SP", List.of(VehicleType.TRUCK))).isEqualTo(1);
+            assertThat(count(null, null)).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("Deve descartar deltas acumulados ao recontar")
+        void shouldReconcileOnRecount() {
+            counter.onDriverChanged(DriverChangedEvent.created(driver("MG", VehicleType.CAR, true)));
+
+            counter.recount();
+
+            assertThat(count("MG", null)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de concorrência com a recontagem")
+    class RecountRaceTests {
+
+        @Test
+        @DisplayName("Não deve contar duas vezes uma escrita que começou o commit antes da recontagem")
+        void shouldNotCountTwiceWhenCommitStartedBeforeRecount() {
+            // Arrange
+            TransactionSynchronizationManager.initSynchronization();
+            counter.onDriverChanged(DriverChangedEvent.created(driver("MG", VehicleType.CAR, true)));
+            when(driverRepository.countFacets(null)).thenReturn(List.of(
+                    new DriverFacetRow("MG", List.of(VehicleType.CAR), true, 1)));
+
+            // Act
+            counter.recount();
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+
+            // Assert
+            assertThat(count("MG", null)).isEqualTo(1);
+            assertThat(count(null, null)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve commitar sem esperar a consulta da recontagem e somar o delta na geração nova")
+        void shouldNotBlockCommitDuringRecountQuery() throws Exception {
+            // Arrange
+            CountDownLatch querying = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            List<DriverFacetRow> snapshot = driverRepository.countFacets(null);
+            when(driverRepository.countFacets(null)).thenAnswer(invocation -> {
+                querying.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return snapshot;
+            });
+            CompletableFuture<Void> recount = CompletableFuture.runAsync(counter::recount);
+            assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Act
+            TransactionSynchronizationManager.initSynchronization();
+            counter.onDriverChanged(DriverChangedEvent.created(driver("MG", VehicleType.CAR, true)));
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+            assertThat(recount).isNotDone();
+            release.countDown();
+            recount.get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertThat(count("MG", null)).isEqualTo(1);
+            assertThat(count(null, null)).isEqualTo(9);
+        }
+
+        @Test
+        @DisplayName("Deve ignorar o delta quando a transação é desfeita")
+        void shouldIgnoreRolledBackWrite() throws Exception {
+            // Arrange
+            TransactionSynchronizationManager.initSynchronization();
+            counter.onDriverChanged(DriverChangedEvent.created(driver("MG", VehicleType.CAR, true)));
+
+            // Act
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+            CompletableFuture.runAsync(counter::recount).get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertThat(count("MG", null)).isZero();
+            assertThat(count(null, null)).isEqualTo(8);
+        }
+    }
+}
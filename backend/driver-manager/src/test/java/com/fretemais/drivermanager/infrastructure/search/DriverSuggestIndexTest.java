@@ -0,0 +1,161 @@
+package com.fretemais.drivermanager.infrastructure.search;
+
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverSnapshot;
+import com.fretemais.drivermanager.domain.model.Driver;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverSuggestRow;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@DisplayName("DriverSuggestIndex - Testes Unitários")
+class DriverSuggestIndexTest {
+
+    private final UUID joao = UUID.randomUUID();
+    private final UUID joana = UUID.randomUUID();
+    private final UUID saulo = UUID.randomUUID();
+
+    private DriverRepository driverRepository;
+    private DriverSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        driverRepository = mock(DriverRepository.class);
+        when(driverRepository.streamSuggestRows()).thenAnswer(invocation -> Stream.of(
+                new DriverSuggestRow(joao, "João Silva", "São Paulo"),
+                new DriverSuggestRow(joana, "Joana Souza", "São Paulo"),
+                new DriverSuggestRow(saulo, "Saulo Lima", "São José dos Campos")));
+
+        index = new DriverSuggestIndex(driverRepository, mock(PlatformTransactionManager.class));
+        index.enabled = true;
+        index.rebuild();
+    }
+
+    private Driver driver(UUID id, String name, String city) {
+        return Driver.builder().id(id).name(name).city(city).build();
+    }
+
+    @Nested
+    @DisplayName("Testes de consulta")
+    class QueryTests {
+
+        @Test
+        @DisplayName("Deve ignorar acentos e maiúsculas no prefixo e nos valores")
+        void shouldIgnoreAccentsAndCase() {
+            assertThat(index.names("JOA", 10)).contains(List.of("Joana Souza", "João Silva"));
+            assertThat(index.cities("sao", 10)).contains(List.of("São José dos Campos", "São Paulo"));
+            assertThat(index.cities("SÃO P", 10)).contains(List.of("São Paulo"));
+        }
+
+        @Test
+        @DisplayName("Deve retornar cidades distintas limitadas a k")
+        void shouldReturnDistinctCitiesUpToLimit() {
+            assertThat(index.cities("s", 1)).contains(List.of("São José dos Campos"));
+            assertThat(index.names("s", 10)).contains(List.of("Saulo Lima"));
+        }
+
+        @Test
+        @DisplayName("Deve retornar lista vazia quando nenhum valor começa pelo prefixo")
+        void shouldReturnEmptyWhenNoMatch() {
+            assertThat(index.names("joaz", 10)).contains(List.of());
+            assertThat(index.names("silva", 10)).contains(List.of());
+        }
+
+        @Test
+        @DisplayName("Não deve responder antes da construção")
+        void shouldNotAnswerBeforeRebuild() {
+            DriverSuggestIndex fresh = new DriverSuggestIndex(driverRepository, mock(PlatformTransactionManager.class));
+
+            assertThat(fresh.names("jo", 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de atualização incremental")
+    class IncrementalTests {
+
+        @Test
+        @DisplayName("Deve manter a cidade enquanto algum motorista a usa")
+        void shouldKeepSharedCityUntilLastReference() {
+            index.onDriverChanged(DriverChangedEvent.deleted(driver(joao, "João Silva", "São Paulo")));
+            assertThat(index.cities("sao p", 10)).contains(List.of("São Paulo"));
+
+            index.onDriverChanged(DriverChangedEvent.deleted(driver(joana, "Joana Souza", "São Paulo")));
+            assertThat(index.cities("sao p", 10)).contains(List.of());
+            assertThat(index.names("jo", 10)).contains(List.of());
+        }
+
+        @Test
+        @DisplayName("Deve trocar nome e cidade ao atualizar")
+        void shouldReplaceOnUpdate() {
+            Driver driver = driver(saulo, "Saulo Lima", "São José dos Campos");
+            DriverSnapshot before = DriverSnapshot.of(driver);
+            driver.setName("Saulo Lins");
+            driver.setCity("Santos");
+
+            index.onDriverChanged(DriverChangedEvent.updated(before, driver));
+
+            assertThat(index.names("saulo l", 10)).contains(List.of("Saulo Lins"));
+            assertThat(index.cities("sa", 10)).contains(List.of("Santos", "São Paulo"));
+        }
+
+        @Test
+        @DisplayName("Deve ser idempotente ao reaplicar o mesmo evento")
+        void shouldBeIdempotent() {
+            DriverChangedEvent created = DriverChangedEvent.created(driver(UUID.randomUUID(), "Joaquim Reis", "São Paulo"));
+
+            index.onDriverChanged(created);
+            index.onDriverChanged(created);
+            index.onDriverChanged(DriverChangedEvent.deleted(driver(created.id(), "Joaquim Reis", "São Paulo")));
+
+            assertThat(index.names("joaq", 10)).contains(List.of());
+            assertThat(index.names("jo", 10)).contains(List.of("Joana Souza", "João Silva"));
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("Benchmark: p99 da consulta com 1 milhão de motoristas")
+    void benchmarkP99() {
+        int drivers = Integer.getInteger("benchmark.drivers", 1_000_000);
+        String[] syllables = {"ma", "ri", "jo", "ão", "sa", "lu", "ca", "ro", "be", "ti", "na", "ze"};
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        when(driverRepository.streamSuggestRows()).thenAnswer(invocation -> IntStream.range(0, drivers)
+                .mapToObj(i -> new DriverSuggestRow(UUID.randomUUID(),
+                        syllables[i % 12] + syllables[(i / 12) % 12] + syllables[(i / 144) % 12] + " " + i,
+                        "Cidade " + syllables[i % 7] + (i % 5000))));
+        index.rebuild();
+
+        long[] nanos = new long[100_000];
+        for (int i = 0; i < nanos.length; i++) {
+            String prefix = syllables[random.nextInt(12)] + syllables[random.nextInt(12)].charAt(0);
+            long start = System.nanoTime();
+            index.names(prefix, 10);
+            index.cities(prefix, 10);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+
+        long p99 = nanos[(int) (nanos.length * 0.99)];
+        log.info("Sugestões com {} motoristas: p50={} µs, p99={} µs",
+                drivers, nanos[nanos.length / 2] / 1_000, p99 / 1_000);
+        assertThat(p99).isLessThan(1_000_000);
+    }
+}
@@ -0,0 +1,179 @@
+package com.fretemais.drivermanager.infrastructure.search;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverSnapshot;
+import com.fretemais.drivermanager.domain.model.Driver;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverTextRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DriverTextIndex - Testes Unitários")
+class DriverTextIndexTest {
+
+    private DriverRepository driverRepository;
+    private DriverTextIndex index;
+
+    private final UUID joaoId = UUID.randomUUID();
+    private final UUID mariaId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        driverRepository = mock(DriverRepository.class);
+        when(driverRepository.streamTextRows()).thenReturn(Stream.of(
+                new DriverTextRow(joaoId, "João da Silva", "joao.silva@email.com", "83120155059", "12345678901", "11987654321"),
+                new DriverTextRow(mariaId, "Maria Oliveira", "maria.oliveira@email.com", "51139164010", "10987654321", "21987654321")
+        ));
+
+        index = new DriverTextIndex(driverRepository, mock(PlatformTransactionManager.class));
+        index.enabled = true;
+        index.maxCandidates = 1000;
+        index.rebuildInterval = Duration.ofMinutes(5);
+        index.rebuild();
+    }
+
+    private Driver driver(UUID id, String name, String email) {
+        return Driver.builder()
+                .id(id)
+                .name(name)
+                .email(email)
+                .phoneNumber("31987654321")
+                .cpf("58744036070")
+                .cnh("11223344556")
+                .city("Belo Horizonte")
+                .state("MG")
+                .vehicleType(List.of(VehicleType.TRUCK))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Testes de busca")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Deve encontrar motorista por substring em qualquer campo, sem diferenciar maiúsculas")
+        void shouldFindBySubstringInAnyField() {
+            assertThat(index.search("SILVA")).contains(Set.of(joaoId));
+            assertThat(index.search("oliveira@")).contains(Set.of(mariaId));
+            assertThat(index.search("1139164")).contains(Set.of(mariaId));
+            assertThat(index.search("987654321")).contains(Set.of(joaoId, mariaId));
+        }
+
+        @Test
+        @DisplayName("Deve retornar conjunto vazio quando nenhum motorista contém o termo")
+        void shouldReturnEmptySetWhenNothingMatches() {
+            assertThat(index.search("inexistente")).contains(Set.of());
+        }
+
+        @Test
+        @DisplayName("Não deve casar termos que atravessam dois campos")
+        void shouldNotMatchAcrossFields() {
+            assertThat(index.search("oliveiramaria")).contains(Set.of());
+        }
+
+        @Test
+        @DisplayName("Deve delegar ao SQL quando o termo é curto demais")
+        void shouldFallBackForShortTerms() {
+            assertThat(index.search("jo")).isEmpty();
+            assertThat(index.search("  ")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve delegar ao SQL quando há candidatos demais")
+        void shouldFallBackWhenTooManyCandidates() {
+            index.maxCandidates = 1;
+
+            assertThat(index.search("987654321")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve delegar ao SQL quando o índice está desabilitado")
+        void shouldFallBackWhenDisabled() {
+            DriverTextIndex disabled = new DriverTextIndex(driverRepository, mock(PlatformTransactionManager.class));
+            disabled.rebuild();
+
+            assertThat(disabled.search("silva")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve delegar ao SQL quando a última reconstrução ficou para trás")
+        void shouldFallBackWhenStale() {
+            // Arrange
+            index.rebuildInterval = Duration.ofNanos(1);
+
+            // Act & Assert
+            assertThat(index.isReady()).isFalse();
+            assertThat(index.search("silva")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de atualização")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Deve indexar motorista criado")
+        void shouldIndexCreatedDriver() {
+            UUID carlosId = UUID.randomUUID();
+
+            index.onDriverChanged(DriverChangedEvent.created(driver(carlosId, "Carlos Santos", "carlos@email.com")));
+
+            assertThat(index.search("santos")).contains(Set.of(carlosId));
+        }
+
+        @Test
+        @DisplayName("Deve reindexar motorista atualizado")
+        void shouldReindexUpdatedDriver() {
+            Driver before = driver(joaoId, "João da Silva", "joao.silva@email.com");
+            Driver after = driver(joaoId, "João Pereira", "joao.pereira@email.com");
+
+            index.onDriverChanged(DriverChangedEvent.updated(DriverSnapshot.of(before), after));
+
+            assertThat(index.search("silva")).contains(Set.of());
+            assertThat(index.search("pereira")).contains(Set.of(joaoId));
+        }
+
+        @Test
+        @DisplayName("Deve remover motorista excluído e reaproveitar o ordinal")
+        void shouldRemoveDeletedDriver() {
+            index.onDriverChanged(DriverChangedEvent.deleted(driver(mariaId, "Maria Oliveira", "maria.oliveira@email.com")));
+            UUID anaId = UUID.randomUUID();
+            index.onDriverChanged(DriverChangedEvent.created(driver(anaId, "Ana Souza", "ana.souza@email.com")));
+
+            assertThat(index.search("oliveira")).contains(Set.of());
+            assertThat(index.search("souza")).contains(Set.of(anaId));
+        }
+
+        @Test
+        @DisplayName("Deve reaplicar escritas que chegam durante a reconstrução")
+        void shouldReplayWritesDuringRebuild() {
+            // Arrange
+            UUID carlosId = UUID.randomUUID();
+            when(driverRepository.streamTextRows()).thenAnswer(invocation -> {
+                index.onDriverChanged(DriverChangedEvent.created(driver(carlosId, "Carlos Santos", "carlos@email.com")));
+                return Stream.of(new DriverTextRow(joaoId, "João da Silva", "joao.silva@email.com", "83120155059", "12345678901", "11987654321"));
+            });
+
+            // Act
+            index.rebuild();
+
+            // Assert
+            assertThat(index.search("santos")).contains(Set.of(carlosId));
+            assertThat(index.search("oliveira")).contains(Set.of());
+        }
+    }
+}
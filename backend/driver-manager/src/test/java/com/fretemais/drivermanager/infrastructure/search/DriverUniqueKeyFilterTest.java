@@ -0,0 +1,189 @@
+package com.fretemais.drivermanager.infrastructure.search;
+
+import com.fretemais.drivermanager.application.dtos.UniqueKeyFilterStatsDTO;
+import com.fretemais.drivermanager.domain.events.DriverChangedEvent;
+import com.fretemais.drivermanager.domain.events.DriverSnapshot;
+import com.fretemais.drivermanager.domain.model.Driver;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverUniqueRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DriverUniqueKeyFilter - Testes Unitários")
+class DriverUniqueKeyFilterTest {
+
+    private final UUID joao = UUID.randomUUID();
+
+    private DriverRepository driverRepository;
+    private DriverUniqueKeyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        driverRepository = mock(DriverRepository.class);
+        when(driverRepository.count()).thenReturn(1L);
+        when(driverRepository.streamUniqueRows()).thenAnswer(invocation -> Stream.of(
+                new DriverUniqueRow(joao, "João Silva", "joao@email.com", "11999999999", "52998224725", "12345678900")));
+
+        filter = new DriverUniqueKeyFilter(driverRepository, mock(PlatformTransactionManager.class));
+        filter.enabled = true;
+        filter.minCapacity = 1000;
+        filter.rebuild();
+    }
+
+    private Driver driver(UUID id, String email, String cpf) {
+        return Driver.builder()
+                .id(id)
+                .name("Motorista " + email)
+                .email(email)
+                .phoneNumber("tel-" + email)
+                .cpf(cpf)
+                .cnh("cnh-" + email)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Testes de consulta")
+    class QueryTests {
+
+        @Test
+        @DisplayName("Deve indicar possível conflito para qualquer valor cadastrado")
+        void shouldReportKnownValues() {
+            assertThat(filter.mayBeTaken(null, "joao@email.com", null, null, null)).isTrue();
+            assertThat(filter.mayBeTaken(null, null, null, "52998224725", null)).isTrue();
+            assertThat(filter.mayBeTaken("João Silva", "novo@email.com", null, null, null)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve garantir ausência de valores novos e ignorar nulos")
+        void shouldRuleOutNewValues() {
+            assertThat(filter.mayBeTaken("Maria Santos", "maria@email.com", "21988888888", "11144477735", "98765432100")).isFalse();
+            assertThat(filter.mayBeTaken(null, null, null, null, null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve separar os campos: o mesmo texto em outro campo não é conflito")
+        void shouldKeepFieldsApart() {
+            assertThat(filter.mayBeTaken("joao@email.com", null, null, null, null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve responder possível conflito antes da construção")
+        void shouldAnswerMaybeBeforeRebuild() {
+            DriverUniqueKeyFilter fresh = new DriverUniqueKeyFilter(driverRepository, mock(PlatformTransactionManager.class));
+
+            assertThat(fresh.mayBeTaken(null, "qualquer@email.com", null, null, null)).isTrue();
+            assertThat(fresh.stats().checks()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de atualização incremental")
+    class IncrementalTests {
+
+        @Test
+        @DisplayName("Deve incluir valores criados e remover os excluídos")
+        void shouldAddAndRemove() {
+            Driver maria = driver(UUID.randomUUID(), "maria@email.com", "11144477735");
+
+            filter.onDriverChanged(DriverChangedEvent.created(maria));
+            assertThat(filter.mayBeTaken(null, "maria@email.com", null, null, null)).isTrue();
+
+            filter.onDriverChanged(DriverChangedEvent.deleted(maria));
+            assertThat(filter.mayBeTaken(null, "maria@email.com", null, "11144477735", null)).isFalse();
+            assertThat(filter.mayBeTaken(null, "joao@email.com", null, null, null)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve trocar o valor antigo pelo novo ao atualizar")
+        void shouldReplaceOnUpdate() {
+            Driver driver = driver(joao, "joao@email.com", "52998224725");
+            DriverSnapshot before = DriverSnapshot.of(driver);
+            driver.setEmail("joao.novo@email.com");
+
+            filter.onDriverChanged(DriverChangedEvent.updated(before, driver));
+
+            assertThat(filter.mayBeTaken(null, "joao@email.com", null, null, null)).isFalse();
+            assertThat(filter.mayBeTaken(null, "joao.novo@email.com", null, null, null)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve reaplicar só as inclusões que chegam durante a reconstrução")
+        void shouldReplayOnlyAdditionsDuringRebuild() {
+            // Arrange
+            Driver maria = driver(UUID.randomUUID(), "maria@email.com", "11144477735");
+            Driver joaoDriver = driver(joao, "joao@email.com", "52998224725");
+            when(driverRepository.streamUniqueRows()).thenAnswer(invocation -> {
+                filter.onDriverChanged(DriverChangedEvent.created(maria));
+                filter.onDriverChanged(DriverChangedEvent.deleted(joaoDriver));
+                return Stream.of(new DriverUniqueRow(joao, "João Silva", "joao@email.com", "11999999999", "52998224725", "12345678900"));
+            });
+
+            // Act
+            filter.rebuild();
+
+            // Assert
+            assertThat(filter.mayBeTaken(null, "maria@email.com", null, null, null)).isTrue();
+            // A remoção não é repetida no filtro novo: o valor segue como "talvez" e vai ao banco
+            assertThat(filter.mayBeTaken(null, "joao@email.com", null, null, null)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de estatísticas")
+    class StatsTests {
+
+        @Test
+        @DisplayName("Deve contar conferências, consultas evitadas e falsos positivos")
+        void shouldCountChecks() {
+            filter.mayBeTaken(null, "joao@email.com", null, null, null);
+            filter.mayBeTaken(null, "maria@email.com", null, null, null);
+            filter.mayBeTaken(null, "carlos@email.com", null, null, null);
+            filter.recordFalsePositive();
+
+            UniqueKeyFilterStatsDTO stats = filter.stats();
+
+            assertThat(stats.checks()).isEqualTo(3);
+            assertThat(stats.skipped()).isEqualTo(2);
+            assertThat(stats.falsePositives()).isEqualTo(1);
+            assertThat(stats.skippedRatio()).isEqualTo(2 / 3.0);
+            assertThat(stats.observedFalsePositiveRate()).isEqualTo(1 / 3.0);
+            assertThat(stats.keys()).isEqualTo(5);
+            assertThat(stats.memoryBytes()).isPositive();
+        }
+
+        @Test
+        @DisplayName("Deve manter a taxa de falso positivo perto da configurada na capacidade")
+        void shouldHonorFalsePositiveRate() {
+            int drivers = 20_000;
+            when(driverRepository.count()).thenReturn((long) drivers);
+            when(driverRepository.streamUniqueRows()).thenAnswer(invocation -> IntStream.range(0, drivers)
+                    .mapToObj(i -> new DriverUniqueRow(UUID.randomUUID(), "nome" + i, "email" + i, "tel" + i, "cpf" + i, "cnh" + i)));
+            filter.minCapacity = 0;
+            filter.rebuild();
+
+            int positives = 0;
+            int probes = 100_000;
+            for (int i = 0; i < probes; i++) {
+                if (filter.mayBeTaken(null, "ausente" + i + "@email.com", null, null, null)) positives++;
+            }
+
+            // Capacidade de 2x o atual: a taxa esperada por chave fica bem abaixo de 1%
+            assertThat(filter.stats().expectedFalsePositiveRate()).isLessThan(0.01);
+            assertThat(positives / (double) probes).isLessThan(0.01);
+            for (int i = 0; i < drivers; i += 997) {
+                assertThat(filter.mayBeTaken(null, null, null, "cpf" + i, null)).isTrue();
+            }
+        }
+    }
+}
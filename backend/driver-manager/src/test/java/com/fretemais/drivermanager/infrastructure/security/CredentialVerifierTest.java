@@ -0,0 +1,189 @@
+package com.fretemais.drivermanager.infrastructure.security;
+
+import com.fretemais.drivermanager.application.dtos.CredentialVerifierStatsDTO;
+import com.fretemais.drivermanager.infrastructure.exceptions.LoginUnavailableException;
+import com.fretemais.drivermanager.infrastructure.exceptions.TooManyLoginAttemptsException;
+import com.fretemais.drivermanager.infrastructure.persistence.UserAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CredentialVerifier - Testes Unitários")
+class CredentialVerifierTest {
+
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CredentialVerifier verifier;
+
+    private CredentialVerifier verifier(PasswordEncoder encoder, int threads, int queueCapacity, Duration timeout) {
+        CredentialVerifier created = new CredentialVerifier(userAccountRepository, encoder, meterRegistry);
+        created.threads = threads;
+        created.queueCapacity = queueCapacity;
+        created.timeout = timeout;
+        created.init();
+        return created;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (verifier != null) verifier.stop();
+    }
+
+    @Nested
+    @DisplayName("Testes de verificação")
+    class VerifyTests {
+
+        private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+
+        @Test
+        @DisplayName("Deve aceitar a senha correta e recusar a incorreta")
+        void shouldMatchHashedPassword() {
+            // Arrange
+            verifier = verifier(encoder, 1, 4, Duration.ofSeconds(5));
+            when(userAccountRepository.findPasswordHashByUsername("admin")).thenReturn(Optional.of(encoder.encode("123456")));
+
+            // Act & Assert
+            assertThat(verifier.verify("admin", "123456")).isTrue();
+            assertThat(verifier.verify("admin", "senhaerrada")).isFalse();
+
+            CredentialVerifierStatsDTO stats = verifier.stats();
+            assertThat(stats.verifications()).isEqualTo(2);
+            assertThat(stats.averageHashMillis()).isPositive();
+            assertThat(stats.queueCapacity()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Deve publicar timers do hash e da latência e gauges da fila e das threads")
+        void shouldPublishMeters() {
+            // Arrange
+            verifier = verifier(encoder, 1, 4, Duration.ofSeconds(5));
+            when(userAccountRepository.findPasswordHashByUsername("admin")).thenReturn(Optional.of(encoder.encode("123456")));
+
+            // Act
+            verifier.verify("admin", "123456");
+
+            // Assert
+            assertThat(meterRegistry.get("auth.verifier.hash").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("auth.verifier.latency").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("auth.verifier.queue.size").gauge().value()).isZero();
+            assertThat(meterRegistry.get("auth.verifier.active").gauge()).isNotNull();
+            assertThat(meterRegistry.get("auth.verifier.rejected").counter().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve recusar usuário inexistente após calcular um hash")
+        void shouldRejectUnknownUser() {
+            // Arrange
+            verifier = verifier(encoder, 1, 4, Duration.ofSeconds(5));
+            when(userAccountRepository.findPasswordHashByUsername("fantasma")).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThat(verifier.verify("fantasma", "usuario-inexistente")).isFalse();
+            assertThat(verifier.stats().verifications()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve recusar credenciais vazias sem consultar o banco")
+        void shouldRejectBlankCredentials() {
+            // Arrange
+            verifier = verifier(encoder, 1, 4, Duration.ofSeconds(5));
+
+            // Act & Assert
+            assertThat(verifier.verify("", "")).isFalse();
+            assertThat(verifier.verify("admin", null)).isFalse();
+            verifyNoInteractions(userAccountRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de limite do executor")
+    class LimitTests {
+
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        // Hash que só termina quando o teste libera
+        private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+
+        @AfterEach
+        void releaseVerifications() {
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("Deve recusar com 429 quando a fila está cheia")
+        void shouldRejectWhenQueueIsFull() throws Exception {
+            // Arrange
+            verifier = verifier(blockingEncoder, 1, 1, Duration.ofSeconds(5));
+            lenient().when(userAccountRepository.findPasswordHashByUsername(anyString())).thenReturn(Optional.of("hash"));
+            CompletableFuture.runAsync(() -> verifier.verify("admin", "1"));
+            started.await();
+            CompletableFuture.runAsync(() -> verifier.verify("admin", "2"));
+            while (verifier.stats().queueDepth() < 1) Thread.onSpinWait();
+
+            // Act & Assert
+            assertThatThrownBy(() -> verifier.verify("admin", "3"))
+                    .isInstanceOf(TooManyLoginAttemptsException.class);
+            assertThat(verifier.stats().rejected()).isEqualTo(1);
+            assertThat(verifier.stats().activeThreads()).isEqualTo(1);
+            assertThat(meterRegistry.get("auth.verifier.queue.size").gauge().value()).isEqualTo(1);
+            // A tentativa recusada não chega a consultar o banco
+            verify(userAccountRepository, times(2)).findPasswordHashByUsername(anyString());
+        }
+
+        @Test
+        @DisplayName("Deve recusar com 503 quando a verificação passa do tempo limite")
+        void shouldFailWhenVerificationTimesOut() {
+            // Arrange
+            verifier = verifier(blockingEncoder, 1, 1, Duration.ofMillis(50));
+            when(userAccountRepository.findPasswordHashByUsername(any())).thenReturn(Optional.of("hash"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> verifier.verify("admin", "123456"))
+                    .isInstanceOf(LoginUnavailableException.class);
+            assertThat(verifier.stats().timedOut()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.fretemais.drivermanager.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter - Testes Unitários")
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, meterRegistry, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve autenticar a requisição com token válido")
+    void shouldAuthenticateWithValidToken() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/drivers");
+        request.addHeader("Authorization", "Bearer token");
+        when(jwtTokenProvider.validateToken("token")).thenReturn("admin");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("admin");
+        assertThat(meterRegistry.get("jwt.filter").tag("result", "authenticated").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve validar token em rotas públicas")
+    void shouldSkipPublicRoutes() throws Exception {
+        // Arrange
+        MockHttpServletRequest login = new MockHttpServletRequest("POST", "/api/auth/login");
+        login.addHeader("Authorization", "Bearer token");
+        MockHttpServletRequest swagger = new MockHttpServletRequest("GET", "/swagger-ui/index.html");
+        swagger.addHeader("Authorization", "Bearer token");
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(login, new MockHttpServletResponse(), chain);
+        filter.doFilter(swagger, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertThat(chain.getRequest()).isSameAs(login);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(jwtTokenProvider);
+        assertThat(meterRegistry.get("jwt.filter").timers()).allMatch(timer -> timer.count() == 0);
+    }
+
+    @Test
+    @DisplayName("Deve exigir token no Prometheus quando auth.public-prometheus é falso")
+    void shouldProtectPrometheusWhenNotPublic() {
+        // Arrange
+        JwtAuthenticationFilter protectedFilter = new JwtAuthenticationFilter(jwtTokenProvider, meterRegistry, false);
+        MockHttpServletRequest prometheus = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        MockHttpServletRequest health = new MockHttpServletRequest("GET", "/actuator/health/readiness");
+
+        // Act & Assert
+        assertThat(filter.publicRoutes().matches(prometheus)).isTrue();
+        assertThat(protectedFilter.publicRoutes().matches(prometheus)).isFalse();
+        assertThat(protectedFilter.publicRoutes().matches(health)).isTrue();
+    }
+}
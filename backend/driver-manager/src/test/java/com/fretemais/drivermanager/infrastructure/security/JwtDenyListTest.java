@@ -0,0 +1,133 @@
+package com.fretemais.drivermanager.infrastructure.security;
+
+import com.fretemais.drivermanager.domain.model.RevokedToken;
+import com.fretemais.drivermanager.infrastructure.persistence.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtDenyList - Testes Unitários")
+class JwtDenyListTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private JwtDenyList denyList;
+
+    @BeforeEach
+    void setUp() {
+        denyList = new JwtDenyList(revokedTokenRepository);
+        denyList.init();
+    }
+
+    private static long inOneHour() {
+        return System.currentTimeMillis() + 3_600_000;
+    }
+
+    @Nested
+    @DisplayName("Testes de revogação")
+    class RevokeTests {
+
+        @Test
+        @DisplayName("Deve revogar o jti e gravar até a expiração")
+        void shouldRevokeAndPersist() {
+            // Arrange
+            long expiresAt = inOneHour();
+
+            // Act
+            boolean revoked = denyList.revoke("jti-1", expiresAt);
+
+            // Assert
+            assertThat(revoked).isTrue();
+            assertThat(denyList.isRevoked("jti-1")).isTrue();
+            assertThat(denyList.isRevoked("jti-2")).isFalse();
+            assertThat(denyList.isRevoked(null)).isFalse();
+
+            ArgumentCaptor<RevokedToken> saved = ArgumentCaptor.forClass(RevokedToken.class);
+            verify(revokedTokenRepository).save(saved.capture());
+            assertThat(saved.getValue().getJti()).isEqualTo("jti-1");
+            assertThat(saved.getValue().getExpiresAt()).isEqualTo(Instant.ofEpochMilli(expiresAt));
+        }
+
+        @Test
+        @DisplayName("Deve ignorar token expirado ou sem jti")
+        void shouldIgnoreExpiredOrAnonymousToken() {
+            // Act & Assert
+            assertThat(denyList.revoke("jti-1", System.currentTimeMillis() - 1)).isFalse();
+            assertThat(denyList.revoke(null, inOneHour())).isFalse();
+            assertThat(denyList.size()).isZero();
+            verify(revokedTokenRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Deve revogar no retrato carregado sem perder revogações anteriores")
+        void shouldRevokeIntoReloadedSnapshot() {
+            // Arrange
+            when(revokedTokenRepository.findActive(any()))
+                    .thenReturn(List.of(new RevokedToken("jti-1", Instant.ofEpochMilli(inOneHour()))));
+            denyList.reload();
+
+            // Act
+            denyList.revoke("jti-2", inOneHour());
+            denyList.revoke("jti-2", inOneHour());
+
+            // Assert
+            assertThat(denyList.isRevoked("jti-1")).isTrue();
+            assertThat(denyList.isRevoked("jti-2")).isTrue();
+            assertThat(denyList.size()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de recarga")
+    class ReloadTests {
+
+        @Test
+        @DisplayName("Deve carregar as revogações gravadas, como após reiniciar")
+        void shouldLoadPersistedRevocations() {
+            // Arrange
+            when(revokedTokenRepository.findActive(any()))
+                    .thenReturn(List.of(new RevokedToken("jti-1", Instant.ofEpochMilli(inOneHour()))));
+
+            // Act
+            denyList.reload();
+
+            // Assert
+            assertThat(denyList.isRevoked("jti-1")).isTrue();
+            verify(revokedTokenRepository).deleteExpired(any());
+        }
+
+        @Test
+        @DisplayName("Deve descartar tokens expirados e manter revogações ainda não gravadas na consulta")
+        void shouldPruneExpiredTokens() {
+            // Arrange
+            long now = System.currentTimeMillis();
+            denyList.revoke("curto", now + 60_000);
+            denyList.revoke("longo", now + 3_600_000);
+            when(revokedTokenRepository.findActive(any())).thenReturn(List.of());
+
+            // Act
+            denyList.reload(now + 120_000);
+
+            // Assert
+            assertThat(denyList.isRevoked("curto")).isFalse();
+            assertThat(denyList.isRevoked("longo")).isTrue();
+            assertThat(denyList.size()).isEqualTo(1);
+        }
+    }
+}
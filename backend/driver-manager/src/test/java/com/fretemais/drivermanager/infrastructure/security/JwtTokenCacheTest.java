@@ -0,0 +1,173 @@
+package com.fretemais.drivermanager.infrastructure.security;
+
+import com.fretemais.drivermanager.application.dtos.CacheStatsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtTokenCache - Testes Unitários")
+class JwtTokenCacheTest {
+
+    private JwtTokenCache cache;
+    private AtomicInteger verifications;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JwtTokenCache();
+        verifications = new AtomicInteger();
+    }
+
+    private Function<String, VerifiedToken> verifier(long expiresAt) {
+        return token -> {
+            verifications.incrementAndGet();
+            return new VerifiedToken("admin", "jti", expiresAt);
+        };
+    }
+
+    private static long inOneHour() {
+        return System.currentTimeMillis() + 3_600_000;
+    }
+
+    @Nested
+    @DisplayName("Testes de leitura")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Deve verificar o token uma vez e reaproveitar o resultado")
+        void shouldVerifyOnce() {
+            VerifiedToken first = cache.get("token", verifier(inOneHour()));
+            VerifiedToken second = cache.get("token", verifier(inOneHour()));
+
+            assertThat(second).isSameAs(first);
+            assertThat(verifications).hasValue(1);
+            assertThat(cache.stats().hits()).isEqualTo(1);
+            assertThat(cache.stats().misses()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Não deve guardar tokens inválidos")
+        void shouldNotCacheInvalidToken() {
+            Function<String, VerifiedToken> invalid = token -> {
+                verifications.incrementAndGet();
+                return null;
+            };
+
+            assertThat(cache.get("token", invalid)).isNull();
+            assertThat(cache.get("token", invalid)).isNull();
+
+            assertThat(verifications).hasValue(2);
+            assertThat(cache.stats().size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve verificar de novo um token expirado")
+        void shouldNotServeExpiredToken() {
+            cache.get("token", verifier(System.currentTimeMillis() - 1));
+            cache.get("token", verifier(System.currentTimeMillis() - 1));
+
+            assertThat(verifications).hasValue(2);
+            assertThat(cache.stats().size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve verificar sempre quando desabilitado")
+        void shouldBypassWhenDisabled() {
+            cache.enabled = false;
+
+            cache.get("token", verifier(inOneHour()));
+            cache.get("token", verifier(inOneHour()));
+
+            assertThat(verifications).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de limite")
+    class SizeTests {
+
+        @Test
+        @DisplayName("Não deve passar do tamanho máximo")
+        void shouldStayWithinMaxSize() {
+            cache.maxSize = 3;
+
+            for (int i = 0; i < 10; i++) {
+                cache.get("token-" + i, verifier(inOneHour()));
+            }
+
+            CacheStatsDTO stats = cache.stats();
+            assertThat(stats.size()).isEqualTo(3);
+            assertThat(stats.evictions()).isEqualTo(7);
+            assertThat(stats.maxWeight()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Deve descartar o token que expira antes quando cheio")
+        void shouldEvictSoonestToExpire() {
+            // Arrange
+            cache.maxSize = 3;
+            long now = System.currentTimeMillis();
+            cache.get("token-a", verifier(now + 3_600_000));
+            cache.get("token-b", verifier(now + 600_000));
+            cache.get("token-c", verifier(now + 7_200_000));
+
+            // Act
+            cache.get("token-d", verifier(now + 3_600_000));
+
+            // Assert
+            verifications.set(0);
+            cache.get("token-a", verifier(now + 3_600_000));
+            cache.get("token-c", verifier(now + 7_200_000));
+            cache.get("token-d", verifier(now + 3_600_000));
+            assertThat(verifications).hasValue(0);
+            cache.get("token-b", verifier(now + 600_000));
+            assertThat(verifications).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Deve descartar o token que expira antes entre todas as entradas, não só entre as primeiras")
+        void shouldEvictSoonestAmongAllEntries() {
+            // Arrange
+            cache.maxSize = 100;
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < 99; i++) {
+                cache.get("token-" + i, verifier(now + 3_600_000 + i));
+            }
+            cache.get("token-soonest", verifier(now + 600_000));
+
+            // Act
+            cache.get("token-new", verifier(now + 3_600_000));
+
+            // Assert
+            verifications.set(0);
+            cache.get("token-soonest", verifier(now + 600_000));
+            assertThat(verifications).hasValue(1);
+            assertThat(cache.stats().evictions()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve descartar primeiro os tokens já expirados")
+        void shouldEvictExpiredFirst() throws InterruptedException {
+            // Arrange
+            cache.maxSize = 3;
+            long now = System.currentTimeMillis();
+            cache.get("token-a", verifier(now + 200));
+            cache.get("token-b", verifier(now + 200));
+            cache.get("token-c", verifier(now + 3_600_000));
+            Thread.sleep(300);
+
+            // Act
+            cache.get("token-d", verifier(now + 3_600_000));
+
+            // Assert
+            CacheStatsDTO stats = cache.stats();
+            assertThat(stats.size()).isEqualTo(2);
+            assertThat(stats.evictions()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.fretemais.drivermanager.infrastructure.security;
+
+import com.fretemais.drivermanager.infrastructure.persistence.RevokedTokenRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("JwtTokenProvider - Testes Unitários")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "minha-chave-secreta-para-teste-jwt-256bits!";
+
+    private JwtTokenCache tokenCache;
+    private JwtDenyList denyList;
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        tokenCache = new JwtTokenCache();
+        denyList = new JwtDenyList(mock(RevokedTokenRepository.class));
+        denyList.init();
+        provider = new JwtTokenProvider(tokenCache, denyList);
+        provider.secret = SECRET;
+        provider.init();
+    }
+
+    @Test
+    @DisplayName("Deve validar o token gerado e responder do cache nas próximas vezes")
+    void shouldValidateGeneratedToken() {
+        String token = provider.genereateToken("admin");
+
+        assertThat(provider.validateToken(token)).isEqualTo("admin");
+        assertThat(provider.validateToken(token)).isEqualTo("admin");
+        assertThat(tokenCache.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token assinado com outra chave")
+    void shouldRejectForeignSignature() {
+        String token = Jwts.builder()
+                .subject("admin")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("outra-chave-secreta-qualquer-jwt-256bits!!".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(provider.validateToken(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token expirado")
+    void shouldRejectExpiredToken() {
+        String token = Jwts.builder()
+                .subject("admin")
+                .expiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(provider.validateToken(token)).isNull();
+        assertThat(tokenCache.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token malformado ou vazio")
+    void shouldRejectMalformedToken() {
+        assertThat(provider.validateToken("nao.e.jwt")).isNull();
+        assertThat(provider.validateToken("")).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token revogado mesmo já estando no cache")
+    void shouldRejectRevokedToken() {
+        String token = provider.genereateToken("admin");
+        String other = provider.genereateToken("admin");
+        provider.validateToken(token);
+
+        assertThat(provider.revokeToken(token)).isTrue();
+
+        assertThat(provider.validateToken(token)).isNull();
+        assertThat(provider.validateToken(other)).isEqualTo("admin");
+        assertThat(denyList.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve revogar token inválido")
+    void shouldNotRevokeInvalidToken() {
+        assertThat(provider.revokeToken("nao.e.jwt")).isFalse();
+        assertThat(denyList.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Não deve revogar token sem jti")
+    void shouldNotRevokeTokenWithoutJti() {
+        String token = Jwts.builder()
+                .subject("admin")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(provider.validateToken(token)).isEqualTo("admin");
+        assertThat(provider.revokeToken(token)).isFalse();
+        assertThat(denyList.size()).isZero();
+    }
+}
@@ -0,0 +1,102 @@
+package com.fretemais.drivermanager.infrastructure.security;
+
+import com.fretemais.drivermanager.infrastructure.persistence.RevokedTokenRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Custo da autenticação por requisição com muitas requisições simultâneas em virtual threads: chave e parser
+ * montados a cada chamada, parser reaproveitado, cache de tokens verificados e o mesmo cache com uma lista de
+ * revogação cheia. Desligado por padrão:
+ * {@code mvn test -Dbenchmark=true -Dbenchmark.requests=500000 -Dtest=JwtValidationBenchmarkTest}
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("JwtTokenProvider - Benchmark")
+class JwtValidationBenchmarkTest {
+
+    private static final String SECRET = "minha-chave-secreta-para-teste-jwt-256bits!";
+    private static final int USERS = 1_000;
+    private static final int REVOKED = 100_000;
+
+    @Test
+    @DisplayName("Chave e parser por chamada x parser reaproveitado x cache de tokens")
+    void compareValidationPaths() throws Exception {
+        int requests = Integer.getInteger("benchmark.requests", 500_000);
+
+        JwtTokenCache disabled = new JwtTokenCache();
+        disabled.enabled = false;
+        JwtTokenProvider reused = provider(disabled, 0);
+        JwtTokenProvider cached = provider(new JwtTokenCache(), 0);
+        JwtTokenProvider denyListed = provider(new JwtTokenCache(), REVOKED);
+        List<String> tokens = IntStream.range(0, USERS).mapToObj(i -> cached.genereateToken("usuario" + i)).toList();
+
+        Function<String, String> perCall = token -> Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+
+        long baseline = measure("chave e parser por chamada", tokens, requests, perCall);
+        long withParser = measure("parser reaproveitado", tokens, requests, reused::validateToken);
+        long withCache = measure("cache de tokens verificados", tokens, requests, cached::validateToken);
+        long withDenyList = measure("cache + " + REVOKED + " tokens revogados", tokens, requests, denyListed::validateToken);
+
+        assertThat(withParser).isEqualTo(baseline);
+        assertThat(withCache).isEqualTo(baseline);
+        assertThat(withDenyList).isEqualTo(baseline);
+    }
+
+    private static JwtTokenProvider provider(JwtTokenCache cache, int revoked) {
+        JwtDenyList denyList = new JwtDenyList(mock(RevokedTokenRepository.class));
+        denyList.init();
+        long expiresAt = System.currentTimeMillis() + 3_600_000;
+        for (int i = 0; i < revoked; i++) {
+            denyList.revoke(UUID.randomUUID().toString(), expiresAt);
+        }
+        JwtTokenProvider provider = new JwtTokenProvider(cache, denyList);
+        provider.secret = SECRET;
+        provider.init();
+        return provider;
+    }
+
+    private static long measure(String label, List<String> tokens, int requests, Function<String, String> validate) throws Exception {
+        run(tokens, requests / 10, validate);
+        long start = System.nanoTime();
+        long authenticated = run(tokens, requests, validate);
+        long elapsed = System.nanoTime() - start;
+        log.info("{}: {} requisições autenticadas, {} ns por requisição, {} requisições/s", label, authenticated,
+                elapsed / requests, requests * 1_000_000_000L / elapsed);
+        return authenticated;
+    }
+
+    private static long run(List<String> tokens, int requests, Function<String, String> validate) throws Exception {
+        AtomicLong authenticated = new AtomicLong();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                String token = tokens.get(i % tokens.size());
+                executor.submit(() -> {
+                    if (validate.apply(token) != null) authenticated.incrementAndGet();
+                });
+            }
+        }
+        return authenticated.get();
+    }
+}
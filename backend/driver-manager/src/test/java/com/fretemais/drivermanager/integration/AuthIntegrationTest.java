@@ -1,8 +1,12 @@
 package com.fretemais.drivermanager.integration;
 
+import com.fretemais.drivermanager.infrastructure.persistence.UserAccountRepository;
 import com.fretemais.drivermanager.infrastructure.security.JwtTokenProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
@@ -10,6 +14,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -26,6 +33,12 @@ class AuthIntegrationTest {
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
     private static final String LOGIN_URL = "/api/auth/login";
     private static final String DRIVERS_URL = "/api/drivers";
 
@@ -55,6 +68,13 @@ class AuthIntegrationTest {
             assertThat(jwtTokenProvider.validateToken(token)).isEqualTo("admin");
         }
 
+        @Test
+        @DisplayName("Deve guardar a senha do usuário apenas em hash BCrypt")
+        void shouldStoreHashedPassword() {
+            assertThat(userAccountRepository.findPasswordHashByUsername("admin"))
+                    .hasValueSatisfying(hash -> assertThat(hash).startsWith("$2").isNotEqualTo("123456"));
+        }
+
         @Test
         @DisplayName("Deve retornar 401 com senha incorreta")
         void shouldReturn401WithWrongPassword() throws Exception {
@@ -246,6 +266,44 @@ class AuthIntegrationTest {
                     .andExpect(jsonPath("$.content").isArray())
                     .andExpect(jsonPath("$.content").isNotEmpty());
         }
+
+        @Test
+        @DisplayName("Deve negar acesso com token revogado por logout")
+        void shouldDenyAccessAfterLogout() throws Exception {
+            String loginJson = """
+                {
+                    "username": "admin",
+                    "password": "123456"
+                }
+                """;
+
+            String token = mockMvc.perform(post(LOGIN_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(loginJson))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+
+            mockMvc.perform(post("/api/auth/logout")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(get(DRIVERS_URL)
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("Deve recusar logout de token sem jti")
+        void shouldRejectLogoutWithoutJti() throws Exception {
+            String token = Jwts.builder()
+                    .subject("admin")
+                    .expiration(new Date(System.currentTimeMillis() + 60_000))
+                    .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                    .compact();
+
+            mockMvc.perform(post("/api/auth/logout")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isBadRequest());
+        }
     }
 }
-
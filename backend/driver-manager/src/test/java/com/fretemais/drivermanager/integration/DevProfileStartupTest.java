@@ -0,0 +1,41 @@
+package com.fretemais.drivermanager.integration;
+
+import com.fretemais.drivermanager.domain.model.Driver;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sobe o perfil dev como ele roda localmente: schema criado pelo Hibernate e seed do {@code data.sql}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dev-startup;DB_CLOSE_DELAY=-1",
+        "spring.sql.init.mode=always",
+        "spring.jpa.show-sql=false"
+})
+@ActiveProfiles("dev")
+@DisplayName("Testes de Integração - Perfil dev com data.sql")
+class DevProfileStartupTest {
+
+    @Autowired
+    private DriverRepository driverRepository;
+
+    @Test
+    @DisplayName("Deve subir com o seed do data.sql e versão inicial zero")
+    void shouldStartWithSeedData() {
+        // Act
+        Driver joao = driverRepository.findById(UUID.fromString("d290f1ee-6c54-4b01-90e6-d701748f0851")).orElseThrow();
+
+        // Assert
+        assertThat(driverRepository.count()).isEqualTo(4);
+        assertThat(joao.getName()).isEqualTo("João da Silva");
+        assertThat(joao.getVersion()).isZero();
+    }
+}
@@ -0,0 +1,115 @@
+package com.fretemais.drivermanager.integration;
+
+import com.fretemais.drivermanager.application.services.DriverService;
+import com.fretemais.drivermanager.application.services.ExportFormat;
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exporta o catálogo inteiro e falha se o heap vivo crescer mais que {@code benchmark.max-heap-growth-mb}. A cada
+ * {@link #GC_EVERY_BYTES} escritos o teste força um GC e mede o heap, então o limite não depende do {@code -Xmx}.
+ * O banco H2 fica em arquivo para que os dados não ocupem o heap.
+ * {@code mvn test -Dbenchmark=true -Dbenchmark.drivers=1000000 -DargLine=-Xmx128m -Dtest=DriverExportBenchmarkTest}
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:file:${java.io.tmpdir}/driver-export-benchmark;MODE=PostgreSQL")
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Exportação - Benchmark de memória")
+class DriverExportBenchmarkTest {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final long GC_EVERY_BYTES = 16 * 1_048_576;
+
+    @Autowired
+    private DriverService driverService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop all objects delete files");
+    }
+
+    @Test
+    @DisplayName("Deve exportar todos os motoristas com uso de heap constante")
+    void shouldExportWithConstantHeap() throws Exception {
+        int drivers = Integer.getInteger("benchmark.drivers", 1_000_000);
+        long maxGrowth = Long.getLong("benchmark.max-heap-growth-mb", 32) * 1_048_576;
+        seed(drivers);
+
+        long baseline = liveHeap();
+        CountingOutputStream out = new CountingOutputStream();
+        long start = System.nanoTime();
+
+        long rows = driverService.export(null, null, null, null, ExportFormat.CSV, out);
+
+        log.info("Exportados {} motoristas ({} MB) em {} ms; heap vivo {} MB antes e no máximo {} MB durante, de {} MB",
+                rows, out.bytes / 1_048_576, (System.nanoTime() - start) / 1_000_000, baseline / 1_048_576,
+                out.peakLiveHeap / 1_048_576, Runtime.getRuntime().maxMemory() / 1_048_576);
+
+        assertThat(rows).isEqualTo(drivers);
+        assertThat(out.bytes).as("a exportação deve passar por ao menos uma medição").isGreaterThanOrEqualTo(GC_EVERY_BYTES);
+        assertThat(out.peakLiveHeap - baseline).as("crescimento do heap vivo durante a exportação").isLessThan(maxGrowth);
+    }
+
+    // Heap ocupado logo depois de um GC completo: o que a exportação mantém vivo, sem lixo ainda não coletado
+    private static long liveHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private void seed(int drivers) {
+        String sql = "insert into drivers (id, name, vehicle_types, cpf, cnh, phone_number, email, available, city, state, version) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+        for (int from = 0; from < drivers; from += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = from; i < Math.min(from + BATCH_SIZE, drivers); i++) {
+                String suffix = String.format("%011d", i);
+                batch.add(new Object[]{UUID.randomUUID(), "Motorista " + suffix, VehicleType.values()[i % 3].bit(),
+                        suffix, suffix, suffix, "motorista" + i + "@email.com", i % 4 != 0, "Cidade " + (i % 500), "SP"});
+            }
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+        private long peakLiveHeap;
+
+        @Override
+        public void write(int b) {
+            count(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count(len);
+        }
+
+        private void count(int length) {
+            if ((bytes + length) / GC_EVERY_BYTES > bytes / GC_EVERY_BYTES) {
+                peakLiveHeap = Math.max(peakLiveHeap, liveHeap());
+            }
+            bytes += length;
+        }
+    }
+}
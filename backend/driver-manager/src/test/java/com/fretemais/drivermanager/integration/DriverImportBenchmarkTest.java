@@ -0,0 +1,90 @@
+package com.fretemais.drivermanager.integration;
+
+import com.fretemais.drivermanager.application.dtos.DriverImportReportDTO;
+import com.fretemais.drivermanager.application.services.DriverImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Importa um CSV gerado com CPFs válidos e mede o tempo total.
+ * {@code mvn test -Dbenchmark=true -Dbenchmark.rows=100000 -Dtest=DriverImportBenchmarkTest}
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Importação - Benchmark")
+class DriverImportBenchmarkTest {
+
+    private static final String[] STATES = {"SP", "RJ", "MG", "PR", "BA"};
+    private static final String[] VEHICLES = {"CAR", "MOTORCYCLE", "TRUCK", "CAR|TRUCK"};
+
+    @Autowired
+    private DriverImportService driverImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from drivers");
+    }
+
+    @Test
+    @DisplayName("Deve importar o CSV em lote")
+    void shouldImportCsv() throws Exception {
+        int rows = Integer.getInteger("benchmark.rows", 100_000);
+        byte[] csv = csv(rows);
+
+        long start = System.nanoTime();
+        DriverImportReportDTO report = driverImportService.importCsv(new ByteArrayInputStream(csv));
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        log.info("Importados {} de {} motoristas ({} KB) em {} ms", report.imported(), report.total(), csv.length / 1024, elapsed);
+        assertThat(report.imported()).isEqualTo(rows);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from drivers", Long.class)).isEqualTo(rows);
+    }
+
+    private static byte[] csv(int rows) {
+        StringBuilder csv = new StringBuilder("name,email,phone,cpf,cnh,city,state,vehicleTypes\n");
+        for (int i = 0; i < rows; i++) {
+            String number = String.format("%09d", i + 1);
+            csv.append("Motorista ").append(number).append(',')
+                    .append("motorista").append(i).append("@email.com,")
+                    .append("11").append(number).append(',')
+                    .append(cpf(number)).append(',')
+                    .append("9").append(number).append("0,")
+                    .append("Cidade ").append(i % 500).append(',')
+                    .append(STATES[i % STATES.length]).append(',')
+                    .append(VEHICLES[i % VEHICLES.length]).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String cpf(String base) {
+        int first = checkDigit(base, 10);
+        int second = checkDigit(base + first, 11);
+        return base + first + second;
+    }
+
+    private static int checkDigit(String digits, int weight) {
+        int sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            sum += (digits.charAt(i) - '0') * (weight - i);
+        }
+        int rest = 11 - sum % 11;
+        return rest >= 10 ? 0 : rest;
+    }
+}
@@ -2,10 +2,12 @@ package com.fretemais.drivermanager.integration;
 
 import com.fretemais.drivermanager.domain.model.Driver;
 import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
@@ -37,6 +39,9 @@ class DriverIntegrationTest {
     @Autowired
     private DriverRepository driverRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private String validRequestJson;
 
     @BeforeEach
@@ -401,6 +406,80 @@ class DriverIntegrationTest {
                     .andExpect(jsonPath("$.totalPages").value(2));
         }
 
+        @Test
+        @WithMockUser
+        @DisplayName("Deve retornar contagens por faceta para os filtros")
+        void shouldReturnFacetCounts() throws Exception {
+            mockMvc.perform(get("/api/drivers/facets")
+                            .param("vehicles", "CAR")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(2))
+                    .andExpect(jsonPath("$.byState.SP").value(1))
+                    .andExpect(jsonPath("$.byState.MG").value(1))
+                    .andExpect(jsonPath("$.byVehicleType.CAR").value(2))
+                    .andExpect(jsonPath("$.byVehicleType.MOTORCYCLE").value(1))
+                    .andExpect(jsonPath("$.available").value(2));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve paginar sem contagem quando count=NONE")
+        void shouldPaginateWithoutCount() throws Exception {
+            mockMvc.perform(get("/api/drivers")
+                            .param("count", "NONE")
+                            .param("page", "1")
+                            .param("size", "2")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].name").value("Maria Santos"))
+                    .andExpect(jsonPath("$.last").value(true))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve retornar total aproximado quando count=APPROXIMATE")
+        void shouldReturnApproximateTotal() throws Exception {
+            mockMvc.perform(get("/api/drivers")
+                            .param("count", "APPROXIMATE")
+                            .param("size", "2")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(2)))
+                    .andExpect(jsonPath("$.totalElements").value(3));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve percorrer todos os motoristas por cursor sem repetir registros")
+        void shouldScrollThroughAllDriversWithCursor() throws Exception {
+            MvcResult first = mockMvc.perform(get("/api/drivers/scroll")
+                            .param("size", "2")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(2)))
+                    .andExpect(jsonPath("$.content[0].name").value("Carlos Oliveira"))
+                    .andExpect(jsonPath("$.content[1].name").value("João Silva"))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andReturn();
+
+            Matcher matcher = Pattern.compile("\"nextCursor\":\"([^\"]+)\"")
+                    .matcher(first.getResponse().getContentAsString());
+            assertThat(matcher.find()).isTrue();
+
+            mockMvc.perform(get("/api/drivers/scroll")
+                            .param("size", "2")
+                            .param("cursor", matcher.group(1))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].name").value("Maria Santos"))
+                    .andExpect(jsonPath("$.hasNext").value(false))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
         @Test
         @WithMockUser
         @DisplayName("Deve combinar múltiplos filtros")
@@ -503,6 +582,63 @@ class DriverIntegrationTest {
                             .content(updateJson))
                     .andExpect(status().isConflict());
         }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve atualizar parcialmente e gravar só as colunas alteradas")
+        void shouldPatchOnlyGivenFields() throws Exception {
+            mockMvc.perform(patch("/api/drivers/{id}", driverId)
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"name\": \"Joaquim Souza\", \"available\": false}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value("Joaquim Souza"))
+                    .andExpect(jsonPath("$.available").value(false))
+                    .andExpect(jsonPath("$.email").value("joao.silva@email.com"))
+                    .andExpect(jsonPath("$.vehicleTypes", hasSize(2)));
+
+            // Relê do banco: o UPDATE dinâmico precisa incluir o search_document recalculado no @PreUpdate
+            entityManager.clear();
+            Driver patched = driverRepository.findById(driverId).orElseThrow();
+            assertThat(patched.getName()).isEqualTo("Joaquim Souza");
+            assertThat(patched.isAvailable()).isFalse();
+            assertThat(patched.getCity()).isEqualTo("São Paulo");
+            assertThat(patched.getSearchDocument()).startsWith("joaquim souza");
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve usar a versão como ETag em leituras condicionais e no If-Match")
+        void shouldHonorETags() throws Exception {
+            mockMvc.perform(get("/api/drivers/{id}", driverId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+            mockMvc.perform(get("/api/drivers/{id}", driverId)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                    .andExpect(status().isNotModified());
+
+            mockMvc.perform(patch("/api/drivers/{id}", driverId)
+                            .with(csrf())
+                            .header(HttpHeaders.IF_MATCH, "\"0\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"city\": \"Campinas\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                    .andExpect(jsonPath("$.version").value(1));
+
+            mockMvc.perform(put("/api/drivers/{id}", driverId)
+                            .with(csrf())
+                            .header(HttpHeaders.IF_MATCH, "\"0\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(validRequestJson))
+                    .andExpect(status().isPreconditionFailed());
+
+            mockMvc.perform(get("/api/drivers/{id}", driverId)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.city").value("Campinas"));
+        }
     }
 
     @Nested
@@ -543,6 +679,45 @@ class DriverIntegrationTest {
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isNotFound());
         }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve excluir em lote por filtro restrito aos IDs informados")
+        void shouldBulkDeleteByFilterAndIds() throws Exception {
+            UUID joao = extractIdFromResponse(mockMvc.perform(post("/api/drivers")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(validRequestJson))
+                    .andExpect(status().isCreated())
+                    .andReturn());
+            UUID maria = extractIdFromResponse(mockMvc.perform(post("/api/drivers")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(validRequestJson
+                                    .replace("João Silva", "Maria Santos")
+                                    .replace("joao.silva", "maria.santos")
+                                    .replace("11999999999", "21988888888")
+                                    .replace("52998224725", "11144477735")
+                                    .replace("12345678900", "98765432100")))
+                    .andExpect(status().isCreated())
+                    .andReturn());
+
+            mockMvc.perform(post("/api/drivers/bulk-delete")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\": [\"" + joao + "\", \"" + maria + "\", \"" + UUID.randomUUID() + "\"],"
+                                    + " \"vehicleTypes\": [\"MOTORCYCLE\"]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.deleted").value(2));
+
+            assertThat(driverRepository.count()).isZero();
+
+            mockMvc.perform(post("/api/drivers/bulk-delete")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"text\": \" \"}"))
+                    .andExpect(status().isBadRequest());
+        }
     }
 
     @Nested
@@ -0,0 +1,94 @@
+package com.fretemais.drivermanager.integration;
+
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Mede {@code GET /api/drivers} de ponta a ponta (filtros, controller, consulta e JSON) com o cache de listagem
+ * desligado, para comparar configurações como o proxy de {@code jdbc.request-stats}:
+ * {@code mvn test -Dbenchmark=true -Djdbc.request-stats.enabled=false -Dtest=DriverListBenchmarkTest}
+ */
+@Slf4j
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:driver-list-benchmark;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "cache.driver-list.enabled=false",
+        "logging.level.com.fretemais=WARN"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Listagem - Benchmark")
+class DriverListBenchmarkTest {
+
+    private static final int DRIVERS = 10_000;
+    private static final int PAGES = DRIVERS / 20;
+    private static final int WARMUP = 2_000;
+    private static final int ROUNDS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("delete from drivers");
+    }
+
+    @Test
+    @DisplayName("Deve medir a listagem paginada de ponta a ponta")
+    void measureList() throws Exception {
+        seed();
+
+        for (int i = 0; i < WARMUP; i++) {
+            list(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            list(i);
+        }
+        log.info("GET /api/drivers (jdbc.request-stats.enabled={}, count-rows={}): {} µs por requisição",
+                System.getProperty("jdbc.request-stats.enabled", "perfil"),
+                System.getProperty("jdbc.request-stats.count-rows", "perfil"),
+                (System.nanoTime() - start) / ROUNDS / 1_000);
+    }
+
+    private void list(int i) throws Exception {
+        mockMvc.perform(get("/api/drivers")
+                        .param("page", String.valueOf(i % PAGES))
+                        .param("size", "20")
+                        .with(user("admin")))
+                .andExpect(status().isOk());
+    }
+
+    private void seed() {
+        String sql = "insert into drivers (id, name, vehicle_types, cpf, cnh, phone_number, email, available, city, state, version) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+        List<Object[]> batch = new ArrayList<>(DRIVERS);
+        for (int i = 0; i < DRIVERS; i++) {
+            String suffix = String.format("%011d", i);
+            batch.add(new Object[]{UUID.randomUUID(), "Motorista " + suffix, VehicleType.values()[i % 3].bit(),
+                    suffix, suffix, suffix, "motorista" + i + "@email.com", i % 4 != 0, "Cidade " + (i % 500), "SP"});
+        }
+        jdbcTemplate.batchUpdate(sql, batch);
+    }
+}
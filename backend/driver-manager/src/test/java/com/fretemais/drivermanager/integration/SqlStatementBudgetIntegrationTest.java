@@ -0,0 +1,209 @@
+package com.fretemais.drivermanager.integration;
+
+import com.fretemais.drivermanager.application.dtos.DriverSummaryDTO;
+import com.fretemais.drivermanager.application.services.DriverService;
+import com.fretemais.drivermanager.domain.enums.VehicleType;
+import com.fretemais.drivermanager.domain.model.Driver;
+import com.fretemais.drivermanager.infrastructure.cache.DriverEntityCache;
+import com.fretemais.drivermanager.infrastructure.cache.DriverJsonCache;
+import com.fretemais.drivermanager.infrastructure.cache.DriverListCache;
+import com.fretemais.drivermanager.infrastructure.persistence.DriverRepository;
+import com.fretemais.drivermanager.infrastructure.persistence.SqlStatementCounter;
+import com.fretemais.drivermanager.infrastructure.persistence.SqlStatementStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sql-budget;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "jdbc.request-stats.statement-budget=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Testes de Integração - Comandos SQL por requisição")
+class SqlStatementBudgetIntegrationTest {
+
+    private static final int DRIVERS = 25;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DriverService driverService;
+
+    @Autowired
+    private DriverRepository driverRepository;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DriverListCache driverListCache;
+
+    @Autowired
+    private DriverEntityCache driverEntityCache;
+
+    @Autowired
+    private DriverJsonCache driverJsonCache;
+
+    private List<Driver> drivers;
+
+    @BeforeEach
+    void setUp() {
+        driverRepository.deleteAll();
+        drivers = driverRepository.saveAll(IntStream.range(0, DRIVERS)
+                .mapToObj(i -> Driver.builder()
+                        .name("Motorista " + i)
+                        .email("motorista" + i + "@email.com")
+                        .phoneNumber("119%08d".formatted(i))
+                        .cpf(cpf("%09d".formatted(123_456_000 + i)))
+                        .cnh("%011d".formatted(20_000 + i))
+                        .city("São Paulo")
+                        .state("SP")
+                        .available(true)
+                        .vehicleType(List.of(VehicleType.CAR, VehicleType.TRUCK))
+                        .build())
+                .toList());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Os testes rodam em transação, então as escritas acima não invalidam os caches
+        driverListCache.clear();
+        driverEntityCache.clear();
+        driverJsonCache.clear();
+    }
+
+    private static String cpf(String base) {
+        int first = checkDigit(base, 10);
+        int second = checkDigit(base + first, 11);
+        return base + first + second;
+    }
+
+    private static int checkDigit(String digits, int weight) {
+        int sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            sum += (digits.charAt(i) - '0') * (weight - i);
+        }
+        int rest = 11 - sum % 11;
+        return rest >= 10 ? 0 : rest;
+    }
+
+    private double exceeded(String uri) {
+        Counter counter = meterRegistry.find("jdbc.request.budget.exceeded").tag("uri", uri).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private long measuredRequests(String uri) {
+        DistributionSummary summary = meterRegistry.find("jdbc.request.statements").tag("uri", uri).summary();
+        return summary == null ? 0 : summary.count();
+    }
+
+    private SqlStatementStats perform(MockHttpServletRequestBuilder request, ResultMatcher... matchers) throws Exception {
+        try (SqlStatementCounter.Scope scope = sqlStatementCounter.open()) {
+            mockMvc.perform(request).andExpectAll(matchers);
+            return scope.stats();
+        }
+    }
+
+    @Nested
+    @DisplayName("Listagem de motoristas")
+    class ListTests {
+
+        @Test
+        @DisplayName("Deve listar uma página com no máximo 2 comandos SQL no serviço")
+        void shouldListPageWithAtMostTwoStatements() {
+            // Act
+            Page<DriverSummaryDTO> page;
+            SqlStatementStats stats;
+            try (SqlStatementCounter.Scope scope = sqlStatementCounter.open()) {
+                page = driverService.list(null, null, null, null, PageRequest.of(0, PAGE_SIZE, Sort.by("name")));
+                stats = scope.stats();
+            }
+
+            // Assert
+            assertThat(page.getContent()).hasSize(PAGE_SIZE);
+            assertThat(page.getContent()).allSatisfy(driver -> assertThat(driver.vehicleTypes()).hasSize(2));
+            assertThat(page.getTotalElements()).isEqualTo(DRIVERS);
+            assertThat(stats.statements()).isBetween(1L, 2L);
+            assertThat(stats.rows()).isLessThanOrEqualTo(PAGE_SIZE + 1);
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve listar uma página com no máximo 2 comandos SQL no controller")
+        void shouldListPageWithAtMostTwoStatementsThroughController() throws Exception {
+            // Arrange
+            double exceededBefore = exceeded("/api/drivers");
+            long measuredBefore = measuredRequests("/api/drivers");
+
+            // Act
+            SqlStatementStats stats = perform(get("/api/drivers").param("size", String.valueOf(PAGE_SIZE)),
+                    status().isOk(),
+                    jsonPath("$.content.length()").value(PAGE_SIZE),
+                    jsonPath("$.totalElements").value(DRIVERS));
+
+            // Assert
+            assertThat(stats.statements()).isLessThanOrEqualTo(2);
+            assertThat(measuredRequests("/api/drivers")).isEqualTo(measuredBefore + 1);
+            // O orçamento do teste é 1 comando, então a listagem com contagem é sinalizada
+            assertThat(exceeded("/api/drivers")).isEqualTo(exceededBefore + 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Busca por ID")
+    class GetByIdTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Deve buscar um motorista com um único comando SQL sem sinalizar")
+        void shouldGetByIdWithSingleStatement() throws Exception {
+            // Arrange
+            UUID id = drivers.getFirst().getId();
+            double exceededBefore = exceeded("/api/drivers/{id}");
+
+            // Act
+            SqlStatementStats stats = perform(get("/api/drivers/{id}", id),
+                    status().isOk(),
+                    jsonPath("$.vehicleTypes.length()").value(2));
+
+            // Assert
+            assertThat(stats.statements()).isEqualTo(1);
+            assertThat(exceeded("/api/drivers/{id}")).isEqualTo(exceededBefore);
+        }
+    }
+}